@@ -1,7 +1,10 @@
 package com.balazsh.inventory;
 
+import com.balazsh.inventory.domain.listing.ListingMaintenance;
+import com.balazsh.inventory.domain.replenishment.ReorderEngine;
 import com.balazsh.inventory.features.dashboard.DashboardController;
 import com.balazsh.inventory.mainmvci.Controller;
+import com.balazsh.inventory.util.HibernateUtil;
 import javafx.application.Application;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
@@ -14,6 +17,11 @@ public class HelloApplication extends Application {
 
     @Override
     public void start(Stage stage){
+        // Build the Hibernate metadata while the login view renders instead of on the first login
+        HibernateUtil.bootstrapAsync();
+        ReorderEngine.getInstance().start();
+        ListingMaintenance.getInstance().start();
+
         Scene scene = new Scene(new Controller().getView());
         stage.setTitle("Hello!");
         stage.setScene(scene);
@@ -23,6 +31,11 @@ public class HelloApplication extends Application {
 
     }
 
+    @Override
+    public void stop(){
+        HibernateUtil.shutdown();
+    }
+
     public static void main(String[] args) {
         launch();
     }
@@ -3,6 +3,8 @@ package com.balazsh.inventory.dao;
 import org.hibernate.Session;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Generic Data Access Object interface defining standard CRUD operations.
@@ -22,6 +24,12 @@ public interface GenericDAO <T> {
     
     /** Retrieves all entities of the specified type */
     Collection<T> findAll(Session session);
+
+    /** Streams all entities ordered by id with bounded memory; the stream must be closed after use */
+    Stream<T> streamAll(Session session);
+
+    /** Retrieves up to limit entities with an id greater than lastId (null for the first page), ordered by id */
+    List<T> findPageAfter(Integer lastId, int limit, Session session);
     
     /** Removes an entity from the database */
     void delete(T t, Session session);
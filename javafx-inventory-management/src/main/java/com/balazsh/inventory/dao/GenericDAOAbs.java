@@ -1,7 +1,22 @@
 package com.balazsh.inventory.dao;
 
+import com.balazsh.inventory.util.HibernateUtil;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
 import org.hibernate.Session;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Abstract base implementation of GenericDAO providing common CRUD operations.
@@ -12,9 +27,18 @@ import java.util.Collection;
 public abstract class GenericDAOAbs<T> implements GenericDAO<T> {
 
     private final Class<T> clazz; // Entity class type for generic operations
+    private final int batchSize; // Entities per JDBC batch before flush/clear
 
     protected GenericDAOAbs(Class<T> clazz) {
+        this(clazz, HibernateUtil.JDBC_BATCH_SIZE);
+    }
+
+    protected GenericDAOAbs(Class<T> clazz, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be greater than 0");
+        }
         this.clazz = clazz;
+        this.batchSize = batchSize;
     }
 
     /** Persists entity using Hibernate session.persist() */
@@ -23,9 +47,28 @@ public abstract class GenericDAOAbs<T> implements GenericDAO<T> {
         session.persist(t);
     }
 
-    /** Batch save operation - currently not implemented */
+    /**
+     * Persists entities in JDBC batches, flushing the session every batchSize entities and detaching
+     * the batch just written so the persistence context stays bounded. Only the saved entities are
+     * detached, anything else the caller has loaded in the session stays managed.
+     */
     @Override
     public void saveAll(Collection<T> collection, Session session) {
+        Integer previousBatchSize = session.getJdbcBatchSize();
+        session.setJdbcBatchSize(batchSize);
+        try {
+            List<T> batch = new ArrayList<>(Math.min(batchSize, collection.size()));
+            for (T t : collection) {
+                session.persist(t);
+                batch.add(t);
+                if (batch.size() == batchSize) {
+                    flushAndDetach(batch, session);
+                }
+            }
+            flushAndDetach(batch, session);
+        } finally {
+            session.setJdbcBatchSize(previousBatchSize);
+        }
     }
 
     /** Finds entity by primary key using session.find() */
@@ -47,14 +90,101 @@ public abstract class GenericDAOAbs<T> implements GenericDAO<T> {
         return session.createQuery("from " + tableName, clazz).getResultList();
     }
 
+    /**
+     * Streams entities through a forward-only ScrollableResults cursor using the JDBC fetch size.
+     * Each entity the stream loads is detached once the consumer returns so consumed entities can be
+     * collected, while entities already managed when the stream is opened stay managed; consumers must
+     * finish with each entity before advancing the stream, and should not load more entities of this
+     * type into the session mid-stream, as those are detached too when the cursor reaches them.
+     */
+    @Override
+    public Stream<T> streamAll(Session session) {
+        String tableName = clazz.getSimpleName();
+        int fetchSize = HibernateUtil.JDBC_FETCH_SIZE;
+        ScrollableResults<T> results = session.createQuery("from " + tableName + " e order by e.id", clazz)
+                .setFetchSize(fetchSize)
+                .setReadOnly(true)
+                .scroll(ScrollMode.FORWARD_ONLY);
+        Set<Object> alreadyManaged = managedEntities(session);
+
+        Spliterator<T> spliterator = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                if (!results.next()) {
+                    return false;
+                }
+                T entity = results.get();
+                boolean loadedByStream = !alreadyManaged.contains(entity);
+                action.accept(entity);
+                if (loadedByStream) {
+                    session.detach(entity);
+                }
+                return true;
+            }
+        };
+        return StreamSupport.stream(spliterator, false).onClose(results::close);
+    }
+
+    /** Identity set of the entities of this type the session manages right now */
+    private Set<Object> managedEntities(Session session) {
+        Set<Object> managed = Collections.newSetFromMap(new IdentityHashMap<>());
+        Iterator<Object> entities = session.unwrap(SharedSessionContractImplementor.class)
+                .getPersistenceContextInternal()
+                .managedEntitiesIterator();
+        while (entities.hasNext()) {
+            Object entity = entities.next();
+            if (clazz.isInstance(entity)) {
+                managed.add(entity);
+            }
+        }
+        return managed;
+    }
+
+    /** Keyset pagination: seeks past lastId on the primary key index instead of scanning an OFFSET */
+    @Override
+    public List<T> findPageAfter(Integer lastId, int limit, Session session) {
+        String tableName = clazz.getSimpleName();
+        return session.createQuery("from " + tableName + " e where e.id > :lastId order by e.id", clazz)
+                .setParameter("lastId", lastId == null ? Integer.MIN_VALUE : lastId)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
     /** Removes entity using session.remove() */
     @Override
     public void delete(T t, Session session) {
         session.remove(t);
     }
 
-    /** Batch delete operation - currently not implemented */
+    /**
+     * Removes entities in JDBC batches. Detached entities are removed through a reference
+     * rather than merged, and the session is flushed every batchSize entities; flushed removals
+     * leave the persistence context on their own, so the caller's other entities are untouched.
+     */
     @Override
     public void deleteAll(Collection<T> collection, Session session) {
+        Integer previousBatchSize = session.getJdbcBatchSize();
+        session.setJdbcBatchSize(batchSize);
+        try {
+            int count = 0;
+            for (T t : collection) {
+                session.remove(session.contains(t) ? t : session.getReference(t));
+                if (++count % batchSize == 0) {
+                    session.flush();
+                }
+            }
+            session.flush();
+        } finally {
+            session.setJdbcBatchSize(previousBatchSize);
+        }
+    }
+
+    /** Writes the pending batch and detaches the entities in it, then empties the batch */
+    private void flushAndDetach(List<T> batch, Session session) {
+        session.flush();
+        for (T t : batch) {
+            session.detach(t);
+        }
+        batch.clear();
     }
 }
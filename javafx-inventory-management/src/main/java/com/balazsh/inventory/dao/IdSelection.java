@@ -0,0 +1,113 @@
+package com.balazsh.inventory.dao;
+
+import org.hibernate.SharedSessionContract;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Binds a selection of ids to the multi-id queries without hitting SQL Server's 2100 parameter limit.
+ * Selections up to TABLE_THRESHOLD ids run as IN-list chunks padded to a power of two, so every selection
+ * size reuses one of a handful of cached plans. Larger selections are staged in the SelectedId table
+ * under a random selection id with JDBC batches, queried through SelectedId.SUBQUERY and deleted again
+ * when the result is closed, which costs the inserts but keeps the statement at one parameter.
+ */
+public final class IdSelection {
+
+    /** Most ids bound per IN-list chunk, low enough for a list used three times in one query; overridable with -Dinventory.ids.chunk_size */
+    public static final int CHUNK_SIZE = Integer.getInteger("inventory.ids.chunk_size", 512);
+
+    /** Selections above this many ids are staged in the SelectedId table; overridable with -Dinventory.ids.table_threshold */
+    public static final int TABLE_THRESHOLD = Integer.getInteger("inventory.ids.table_threshold", 2_048);
+
+    private static final int MIN_CHUNK_SIZE = 8; // Smallest padded chunk, so tiny selections share one plan
+    private static final String INSERT_SELECTED_ID_SQL =
+            "insert into new.SelectedId (selection_id, entity_id) values (?, ?)";
+    private static final String DELETE_SELECTION_SQL = "delete from new.SelectedId where selection_id = ?";
+
+    private IdSelection() {
+    }
+
+    /** Whether a selection of this many ids is staged in the SelectedId table, which needs a session that can write */
+    public static boolean usesTable(int size) {
+        return size > TABLE_THRESHOLD;
+    }
+
+    /** Runs the query for the distinct ids and collects every row */
+    static <R> List<R> list(Collection<Integer> ids, SharedSessionContract session,
+                            Function<List<Integer>, Stream<R>> chunkQuery, Function<String, Stream<R>> selectionQuery) {
+        try (Stream<R> rows = stream(ids, session, chunkQuery, selectionQuery)) {
+            return rows.toList();
+        }
+    }
+
+    /**
+     * Streams the query's rows for the distinct ids: the chunk query once per padded chunk, one chunk at a time,
+     * or the selection query once over the staged ids. The stream has to be closed to remove staged ids.
+     */
+    static <R> Stream<R> stream(Collection<Integer> ids, SharedSessionContract session,
+                                Function<List<Integer>, Stream<R>> chunkQuery, Function<String, Stream<R>> selectionQuery) {
+        List<Integer> distinctIds = List.copyOf(new LinkedHashSet<>(ids));
+        if (distinctIds.isEmpty()) {
+            return Stream.empty();
+        }
+        if (!usesTable(distinctIds.size())) {
+            return paddedChunks(distinctIds, CHUNK_SIZE).stream().flatMap(chunkQuery);
+        }
+
+        String selectionId = UUID.randomUUID().toString();
+        JdbcBatch.execute(INSERT_SELECTED_ID_SQL, distinctIds, session, (statement, id) -> {
+            statement.setString(1, selectionId);
+            statement.setInt(2, id);
+        });
+        try {
+            return selectionQuery.apply(selectionId).onClose(() -> deleteSelection(selectionId, session));
+        } catch (RuntimeException e) {
+            deleteSelection(selectionId, session);
+            throw e;
+        }
+    }
+
+    /**
+     * Streams the chunk query's rows for the distinct ids, one padded chunk at a time, however many ids there are.
+     * Nothing is staged, so the query also runs on a read-only session.
+     */
+    static <R> Stream<R> streamChunks(Collection<Integer> ids, Function<List<Integer>, Stream<R>> chunkQuery) {
+        return paddedChunks(List.copyOf(new LinkedHashSet<>(ids)), CHUNK_SIZE).stream().flatMap(chunkQuery);
+    }
+
+    /**
+     * Splits the values into chunks of at most chunkSize and pads each by repeating its last value up to the
+     * next power of two, capped at chunkSize, so an IN list only ever has one of a few lengths.
+     */
+    static <T> List<List<T>> paddedChunks(List<T> values, int chunkSize) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < values.size(); from += chunkSize) {
+            List<T> chunk = values.subList(from, Math.min(from + chunkSize, values.size()));
+            int paddedSize = Math.min(chunkSize, Math.max(MIN_CHUNK_SIZE, Integer.highestOneBit(chunk.size() - 1) << 1));
+            List<T> padded = new ArrayList<>(paddedSize);
+            padded.addAll(chunk);
+            while (padded.size() < paddedSize) {
+                padded.add(chunk.get(chunk.size() - 1));
+            }
+            chunks.add(padded);
+        }
+        return chunks;
+    }
+
+    /** Plain JDBC on the session's connection, so it also runs in a stateless session without a transaction */
+    private static void deleteSelection(String selectionId, SharedSessionContract session) {
+        session.doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(DELETE_SELECTION_SQL)) {
+                statement.setString(1, selectionId);
+                statement.executeUpdate();
+            }
+        });
+    }
+}
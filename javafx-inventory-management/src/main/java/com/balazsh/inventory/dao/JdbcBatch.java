@@ -0,0 +1,46 @@
+package com.balazsh.inventory.dao;
+
+import com.balazsh.inventory.util.HibernateUtil;
+import org.hibernate.SharedSessionContract;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Runs one prepared statement per row as JDBC batches on the session's connection.
+ * Used for inserts into tables with identity keys, which Hibernate never batches.
+ */
+final class JdbcBatch {
+
+    private JdbcBatch() {
+    }
+
+    /** Executes the statement once per row, sending JDBC_BATCH_SIZE rows per round trip, and returns the update count per row */
+    static <T> int[] execute(String sql, List<T> rows, SharedSessionContract session, StatementBinder<T> binder) {
+        if (rows.isEmpty()) {
+            return new int[0];
+        }
+        return session.doReturningWork(connection -> {
+            int[] counts = new int[rows.size()];
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                int batchStart = 0;
+                for (int i = 0; i < rows.size(); i++) {
+                    binder.bind(statement, rows.get(i));
+                    statement.addBatch();
+                    if (i - batchStart + 1 == HibernateUtil.JDBC_BATCH_SIZE || i == rows.size() - 1) {
+                        int[] batchCounts = statement.executeBatch();
+                        System.arraycopy(batchCounts, 0, counts, batchStart, batchCounts.length);
+                        batchStart = i + 1;
+                    }
+                }
+            }
+            return counts;
+        });
+    }
+
+    @FunctionalInterface
+    interface StatementBinder<T> {
+        void bind(PreparedStatement statement, T row) throws SQLException;
+    }
+}
@@ -0,0 +1,22 @@
+package com.balazsh.inventory.dao;
+
+import com.balazsh.inventory.entity.Listing;
+import org.hibernate.Session;
+
+import java.time.LocalDateTime;
+
+/**
+ * Listing Data Access Object interface extending GenericDAO with set-based listing lifecycle updates.
+ * Each update is a single statement over every matching listing and returns the number of rows it changed.
+ */
+public interface ListingDAO extends GenericDAO<Listing> {
+
+    /** Expires every active listing listed before the cutoff */
+    int expireListedBefore(LocalDateTime cutoff, Session session);
+
+    /** Closes every active listing of the product */
+    int closeListingsOfProduct(int productId, Session session);
+
+    /** Changes the price of every active listing of the product by a percentage, rounded down */
+    int repriceListingsOfProduct(int productId, int percent, Session session);
+}
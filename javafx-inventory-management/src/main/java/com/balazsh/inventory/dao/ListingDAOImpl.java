@@ -0,0 +1,39 @@
+package com.balazsh.inventory.dao;
+
+import com.balazsh.inventory.entity.Listing;
+import org.hibernate.Session;
+
+import java.time.LocalDateTime;
+
+/**
+ * Listing Data Access Object implementation running the lifecycle updates as named mutation queries.
+ * Extends GenericDAOAbs to inherit standard CRUD operations for Listing entities.
+ */
+public class ListingDAOImpl extends GenericDAOAbs<Listing> implements ListingDAO {
+
+    public ListingDAOImpl() {
+        super(Listing.class);
+    }
+
+    @Override
+    public int expireListedBefore(LocalDateTime cutoff, Session session) {
+        return session.createNamedMutationQuery(Listing.EXPIRE_LISTED_BEFORE)
+                .setParameter("cutoff", cutoff)
+                .executeUpdate();
+    }
+
+    @Override
+    public int closeListingsOfProduct(int productId, Session session) {
+        return session.createNamedMutationQuery(Listing.CLOSE_BY_PRODUCT)
+                .setParameter("productId", productId)
+                .executeUpdate();
+    }
+
+    @Override
+    public int repriceListingsOfProduct(int productId, int percent, Session session) {
+        return session.createNamedMutationQuery(Listing.REPRICE_BY_PRODUCT)
+                .setParameter("percent", percent)
+                .setParameter("productId", productId)
+                .executeUpdate();
+    }
+}
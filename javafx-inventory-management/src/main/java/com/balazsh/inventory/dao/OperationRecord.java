@@ -0,0 +1,17 @@
+package com.balazsh.inventory.dao;
+
+import java.util.UUID;
+
+/**
+ * Booked sale or purchase line, identified by its client-generated operation id.
+ */
+public record OperationRecord(UUID operationId, String operationType, int productId, int quantity) {
+
+    public static OperationRecord sale(UUID operationId, int productId, int quantity) {
+        return new OperationRecord(operationId, "sale", productId, quantity);
+    }
+
+    public static OperationRecord purchase(UUID operationId, int productId, int quantity) {
+        return new OperationRecord(operationId, "purchase", productId, quantity);
+    }
+}
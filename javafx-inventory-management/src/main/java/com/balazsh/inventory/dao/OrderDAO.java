@@ -0,0 +1,29 @@
+package com.balazsh.inventory.dao;
+
+import com.balazsh.inventory.domain.model.PendingReorder;
+import com.balazsh.inventory.entity.Order;
+import org.hibernate.Session;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Order Data Access Object interface extending GenericDAO with replenishment operations.
+ */
+public interface OrderDAO extends GenericDAO<Order> {
+
+    /** Finds locations of the given products at or below their reorder point that have no pending reorder, bound through IdSelection */
+    List<ReorderCandidate> findReorderCandidates(Collection<Integer> productIds, Session session);
+
+    /** Finds every location at or below its reorder point that has no pending reorder */
+    List<ReorderCandidate> findAllReorderCandidates(Session session);
+
+    /** Inserts a pending reorder at the product's current cost for every candidate in JDBC batches */
+    void saveReorders(List<ReorderCandidate> candidates, Session session);
+
+    /** Retrieves every pending reorder, oldest first */
+    List<PendingReorder> findPendingReorders(Session session);
+
+    /** Marks a pending reorder as received, returns false if it was not pending any more */
+    boolean markReceived(int orderId, Session session);
+}
@@ -0,0 +1,79 @@
+package com.balazsh.inventory.dao;
+
+import com.balazsh.inventory.domain.model.PendingReorder;
+import com.balazsh.inventory.entity.Order;
+import com.balazsh.inventory.entity.Stock;
+import org.hibernate.Session;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Order Data Access Object implementation for replenishment orders.
+ * Extends GenericDAOAbs to inherit standard CRUD operations for Order entities.
+ */
+public class OrderDAOImpl extends GenericDAOAbs<Order> implements OrderDAO {
+
+    // Reorders have no ordering user; the cost is the product's cost when the reorder is raised
+    private static final String INSERT_REORDER_SQL =
+            "insert into new.\"Order\" (product, quantity, cost, order_status, stock_id) "
+                    + "select p.product_id, ?, p.cost, 'pending', ? from new.Product p where p.product_id = ?";
+
+    public OrderDAOImpl() {
+        super(Order.class);
+    }
+
+    @Override
+    public List<ReorderCandidate> findReorderCandidates(Collection<Integer> productIds, Session session) {
+        List<Object[]> rows = IdSelection.list(productIds, session,
+                chunk -> session.createNamedSelectionQuery(Stock.REORDER_CANDIDATES, Object[].class)
+                        .setParameterList("productIds", chunk)
+                        .getResultList().stream(),
+                selectionId -> session.createNamedSelectionQuery(Stock.REORDER_CANDIDATES_SELECTED, Object[].class)
+                        .setParameter("selectionId", selectionId)
+                        .getResultList().stream());
+        // Chunks are each in stock id order; restore the overall order the caller locks and inserts in
+        return toCandidates(rows).stream()
+                .sorted(Comparator.comparingInt(ReorderCandidate::stockId))
+                .toList();
+    }
+
+    @Override
+    public List<ReorderCandidate> findAllReorderCandidates(Session session) {
+        return toCandidates(session.createNamedSelectionQuery(Stock.ALL_REORDER_CANDIDATES, Object[].class)
+                .getResultList());
+    }
+
+    @Override
+    public void saveReorders(List<ReorderCandidate> candidates, Session session) {
+        JdbcBatch.execute(INSERT_REORDER_SQL, candidates, session, (statement, candidate) -> {
+            statement.setInt(1, candidate.orderQuantity());
+            statement.setInt(2, candidate.stockId());
+            statement.setInt(3, candidate.productId());
+        });
+    }
+
+    @Override
+    public List<PendingReorder> findPendingReorders(Session session) {
+        return session.createNamedSelectionQuery(Order.FIND_PENDING_REORDERS, Object[].class)
+                .getResultList()
+                .stream()
+                .map(row -> new PendingReorder((Integer) row[0], (Integer) row[1], (String) row[2],
+                        (Integer) row[3], (Integer) row[4], (Integer) row[5]))
+                .toList();
+    }
+
+    @Override
+    public boolean markReceived(int orderId, Session session) {
+        return session.createNamedMutationQuery(Order.MARK_RECEIVED)
+                .setParameter("orderId", orderId)
+                .executeUpdate() > 0;
+    }
+
+    private static List<ReorderCandidate> toCandidates(List<Object[]> rows) {
+        return rows.stream()
+                .map(row -> new ReorderCandidate((Integer) row[0], (Integer) row[1], (Integer) row[2], (Integer) row[3]))
+                .toList();
+    }
+}
@@ -0,0 +1,24 @@
+package com.balazsh.inventory.dao;
+
+import org.hibernate.Session;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Processed operation Data Access Object interface for idempotent sales and purchases.
+ * Records are written in the booking transaction; the operation id primary key rejects a second booking.
+ */
+public interface ProcessedOperationDAO {
+
+    /** Inserts the record immediately, throwing a ConstraintViolationException if the operation was already booked */
+    void save(OperationRecord operation, Session session);
+
+    /** Inserts a record for every operation in JDBC batches */
+    void saveAll(List<OperationRecord> operations, Session session);
+
+    /** Returns the operation ids among the given ones that have already been booked */
+    Set<UUID> findProcessed(Collection<UUID> operationIds, Session session);
+}
@@ -0,0 +1,58 @@
+package com.balazsh.inventory.dao;
+
+import com.balazsh.inventory.entity.ProcessedOperation;
+import org.hibernate.Session;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Processed operation Data Access Object implementation storing operation ids as their string form.
+ */
+public class ProcessedOperationDAOImpl implements ProcessedOperationDAO {
+
+    private static final String INSERT_OPERATION_SQL =
+            "insert into new.ProcessedOperation (operation_id, operation_type, product_id, quantity) values (?, ?, ?, ?)";
+
+    @Override
+    public void save(OperationRecord operation, Session session) {
+        ProcessedOperation processedOperation = new ProcessedOperation();
+        processedOperation.setOperationId(operation.operationId().toString());
+        processedOperation.setOperationType(operation.operationType());
+        processedOperation.setProductId(operation.productId());
+        processedOperation.setQuantity(operation.quantity());
+        session.persist(processedOperation);
+        // Flushed on its own so a duplicate is detected before any stock is touched
+        session.flush();
+    }
+
+    @Override
+    public void saveAll(List<OperationRecord> operations, Session session) {
+        JdbcBatch.execute(INSERT_OPERATION_SQL, operations, session, (statement, operation) -> {
+            statement.setString(1, operation.operationId().toString());
+            statement.setString(2, operation.operationType());
+            statement.setInt(3, operation.productId());
+            statement.setInt(4, operation.quantity());
+        });
+    }
+
+    @Override
+    public Set<UUID> findProcessed(Collection<UUID> operationIds, Session session) {
+        if (operationIds.isEmpty()) {
+            return Set.of();
+        }
+        // Operation ids are strings, so they are only ever bound as padded IN-list chunks
+        List<String> distinctIds = operationIds.stream().map(UUID::toString).distinct().toList();
+        Set<UUID> processed = new HashSet<>();
+        for (List<String> chunk : IdSelection.paddedChunks(distinctIds, IdSelection.CHUNK_SIZE)) {
+            session.createNamedSelectionQuery(ProcessedOperation.FIND_PROCESSED_IDS, String.class)
+                    .setParameterList("operationIds", chunk)
+                    .getResultList()
+                    .forEach(operationId -> processed.add(UUID.fromString(operationId)));
+        }
+        return processed;
+    }
+}
@@ -1,8 +1,16 @@
 package com.balazsh.inventory.dao;
 
+import com.balazsh.inventory.domain.model.ProductPurchase;
+import com.balazsh.inventory.domain.model.ProductSale;
 import com.balazsh.inventory.entity.Product;
+import org.hibernate.Session;
+import org.hibernate.StatelessSession;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Product Data Access Object interface extending GenericDAO with product-specific operations.
@@ -12,18 +20,68 @@ import java.util.Collection;
 public interface ProductDAO extends GenericDAO<Product> {
 
     /** Filters products by their category classification */
-    Collection<Product> filterByCategory(String category);
+    Collection<Product> filterByCategory(String category, Session session);
     
     /** Filters products by their color attribute */
-    Collection<Product> filterByColour(String colour);
+    Collection<Product> filterByColour(String colour, Session session);
     
     /** Filters products by cost range for price-based searches */
-    Collection<Product> filterByCost(int min, int max);
+    Collection<Product> filterByCost(int min, int max, Session session);
     
     /** Filters products by their component specifications */
-    Collection<Product> filterByComponents(String components);
+    Collection<Product> filterByComponents(String components, Session session);
     
     /** Searches products by name for text-based product discovery */
-    Collection<Product> searchByName(String name);
+    Collection<Product> searchByName(String name, Session session);
+
+    /** Retrieves products matching every criterion of the filter in a single query */
+    List<Product> filter(ProductFilter filter, Session session);
+
+    /** Projects id, name, category name, colour and cost of products matching the filter */
+    List<Object[]> filterSummaries(ProductFilter filter, Session session);
+
+    /**
+     * Atomically removes quantity from the product's stock locations if enough is available in total.
+     * The lowest-id location holding the whole quantity is used; failing that, locations are drained in id order.
+     * Returns the number of locations drawn from, 0 if the sale has to be rejected.
+     */
+    int takeStock(int productId, int quantity, Session session);
+
+    /** Atomically adds quantity to the product's lowest-id location whose maximum admits it, returns the updated row count */
+    int addStock(int productId, int quantity, Session session);
+
+    /** Adds quantity to one stock location regardless of its maximum, returns the updated row count */
+    int addStockToLocation(int stockId, int quantity, Session session);
+
+    /** Returns the product's stock quantity summed over its locations, empty if the product has no stock row */
+    Optional<Integer> findStockQuantity(int productId, Session session);
+
+    /** Returns the current time of the database clock that stamps every stock update */
+    LocalDateTime findDatabaseTime(Session session);
+
+    /** Returns the ids of products with a stock location inserted or updated after the given database time */
+    List<Integer> findProductsWithStockChangedSince(LocalDateTime since, Session session);
+
+    /**
+     * Streams the stock summary report rows of the given products, bound as padded IN-list chunks.
+     * Nothing is staged, so a read pool session will do; close the stream when done.
+     */
+    Stream<Object[]> streamStockSummary(Collection<Integer> productIds, StatelessSession session);
+
+    /** Streams the product details report rows of the given products, bound like the stock summary */
+    Stream<Object[]> streamDetailsReport(Collection<Integer> productIds, StatelessSession session);
+
+    /**
+     * Applies every change as a conditional stock update in JDBC batches and returns the updated row count per change.
+     * Each change goes to the product's lowest-id location that can take it whole: decrements need enough stock there
+     * and increments must fit its maximum stock. A count of 0 means no single location could take the change.
+     */
+    int[] applyStockChanges(List<StockChange> changes, Session session);
+
+    /** Inserts an active listing for every sale in JDBC batches */
+    void saveListings(List<ProductSale> sales, int listedByUserId, Session session);
+
+    /** Inserts a purchase order for every purchase at the product's current cost in JDBC batches */
+    void saveOrders(List<ProductPurchase> purchases, int userId, Session session);
 
 }
@@ -1,43 +1,424 @@
 package com.balazsh.inventory.dao;
 
+import com.balazsh.inventory.domain.model.ProductPurchase;
+import com.balazsh.inventory.domain.model.ProductSale;
+import com.balazsh.inventory.domain.search.ProductSearchIndex;
+import com.balazsh.inventory.domain.search.ProductSearchIndex.ProductDocument;
 import com.balazsh.inventory.entity.Product;
+import com.balazsh.inventory.entity.ProductCategory;
+import com.balazsh.inventory.entity.Stock;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import com.balazsh.inventory.util.HibernateUtil;
+import org.hibernate.Session;
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Product Data Access Object implementation providing product-specific database operations.
- * Currently contains placeholder implementations for advanced search and filtering features.
+ * All search and filtering features are expressed as a ProductFilter and compiled into one
+ * Criteria query, so combined filters cost a single database round trip.
+ * Name searches are answered from the in-memory ProductSearchIndex, which this DAO keeps
+ * up to date whenever a transaction that saved, updated or deleted products commits.
  * Extends GenericDAOAbs to inherit standard CRUD operations for Product entities.
  */
 public class ProductDAOImpl extends GenericDAOAbs<Product> implements ProductDAO {
 
+    private static final char LIKE_ESCAPE = '\\';
+    private static final int SEARCH_LIMIT = 500; // Maximum products returned by an index search
+    private static final int SUMMARY_COLUMNS = 5; // id, name, category, colour, cost
+    private static final ObjectMapper JSON = new ObjectMapper(); // Thread-safe once configured
+
+    // Batched statements are plain JDBC: Listing and Order use identity keys, which Hibernate never batches
+    // Each change goes to the product's lowest-id location that can take it whole
+    private static final String APPLY_STOCK_CHANGE_SQL =
+            "update new.Stock set quantity = quantity + ?, version = version + 1, updated_at = current_timestamp "
+                    + "where stock_id = (select min(f.stock_id) from new.Stock f "
+                    + "where f.product_id = ? and f.quantity + ? >= 0 and f.max_stock >= ?) "
+                    + "and quantity + ? >= 0";
+    private static final String INSERT_LISTING_SQL =
+            "insert into new.Listing (product_id, quantity, unit_price, total_price, listing_status, listed_by) "
+                    + "values (?, ?, ?, ?, 'active', ?)";
+    private static final String INSERT_ORDER_SQL =
+            "insert into new.\"Order\" (user_id, product, quantity, cost, order_status) "
+                    + "select ?, p.product_id, ?, p.cost, 'completed' from new.Product p where p.product_id = ?";
+
+    private final ProductSearchIndex searchIndex; // In-memory substring index
+
     public ProductDAOImpl() {
+        this(ProductSearchIndex.getInstance());
+    }
+
+    public ProductDAOImpl(ProductSearchIndex searchIndex) {
         super(Product.class);
+        this.searchIndex = searchIndex;
+    }
+
+    /** Persists product and adds it to the search index once the transaction commits */
+    @Override
+    public void save(Product product, Session session) {
+        super.save(product, session);
+        ProductDocument document = toDocument(product, categoryNameOf(product));
+        afterCommit(session, () -> searchIndex.index(document));
+    }
+
+    /** Batch persists products; category names are captured first as each batch is detached once written */
+    @Override
+    public void saveAll(Collection<Product> products, Session session) {
+        Map<Product, String> categoryNames = new IdentityHashMap<>();
+        products.forEach(product -> categoryNames.put(product, categoryNameOf(product)));
+        super.saveAll(products, session);
+        List<ProductDocument> documents = products.stream()
+                .map(product -> toDocument(product, categoryNames.get(product)))
+                .toList();
+        afterCommit(session, () -> documents.forEach(searchIndex::index));
+    }
+
+    /** Merges product changes and re-indexes its searchable text once the transaction commits */
+    @Override
+    public void update(Product product, Session session) {
+        super.update(product, session);
+        ProductDocument document = toDocument(product, categoryNameOf(product));
+        afterCommit(session, () -> searchIndex.index(document));
+    }
+
+    /** Removes product and drops it from the search index once the transaction commits */
+    @Override
+    public void delete(Product product, Session session) {
+        super.delete(product, session);
+        int id = product.getId();
+        afterCommit(session, () -> searchIndex.remove(id));
+    }
+
+    /** Batch removes products and drops them from the search index once the transaction commits */
+    @Override
+    public void deleteAll(Collection<Product> products, Session session) {
+        List<Integer> ids = products.stream().map(Product::getId).toList();
+        super.deleteAll(products, session);
+        afterCommit(session, () -> ids.forEach(searchIndex::remove));
+    }
+
+    /** Runs the index update when the session's transaction commits; a rollback leaves the index untouched */
+    private static void afterCommit(Session session, Runnable indexUpdate) {
+        session.unwrap(SharedSessionContractImplementor.class).registerProcess((success, completedSession) -> {
+            if (success) {
+                indexUpdate.run();
+            }
+        });
+    }
+
+    @Override
+    public Collection<Product> filterByCategory(String category, Session session) {
+        return filter(ProductFilter.any().withCategory(category), session);
     }
 
     @Override
-    public Collection<Product> filterByCategory(String category) {
-        return List.of();
+    public Collection<Product> filterByColour(String colour, Session session) {
+        return filter(ProductFilter.any().withColour(colour), session);
     }
 
     @Override
-    public Collection<Product> filterByColour(String colour) {
-        return List.of();
+    public Collection<Product> filterByCost(int min, int max, Session session) {
+        return filter(ProductFilter.any().withCost(min, max), session);
     }
 
     @Override
-    public Collection<Product> filterByCost(int min, int max) {
-        return List.of();
+    public Collection<Product> filterByComponents(String components, Session session) {
+        return filter(ProductFilter.any().withComponent(components), session);
     }
 
+    /**
+     * Searches name, category and description through the in-memory index, best match first.
+     * Falls back to a LIKE query on the name until the index has been built.
+     */
     @Override
-    public Collection<Product> filterByComponents(String components) {
-        return List.of();
+    public Collection<Product> searchByName(String name, Session session) {
+        if (!searchIndex.isReady()) {
+            return filter(ProductFilter.any().withName(name), session);
+        }
+        List<Integer> ids = searchIndex.search(name, SEARCH_LIMIT);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        // findMultiple keeps the ranking order; ids removed since indexing come back as null
+        return session.findMultiple(Product.class, ids).stream()
+                .filter(Objects::nonNull)
+                .toList();
     }
 
+    /**
+     * Builds one entity query from the filter, joining category only when it is filtered on.
+     * A component filter is confirmed on the loaded attributes, see {@link #namesComponent}.
+     */
     @Override
-    public Collection<Product> searchByName(String name) {
-        return List.of();
+    public List<Product> filter(ProductFilter filter, Session session) {
+        CriteriaBuilder cb = session.getCriteriaBuilder();
+        CriteriaQuery<Product> query = cb.createQuery(Product.class);
+        Root<Product> product = query.from(Product.class);
+        Join<Product, ProductCategory> category = filter.category() != null ? product.join("category") : null;
+
+        query.select(product)
+                .where(toPredicates(filter, cb, product, category).toArray(Predicate[]::new))
+                .orderBy(cb.asc(product.get("id")));
+
+        List<Product> products = session.createQuery(query).getResultList();
+        if (filtersComponent(filter)) {
+            products.removeIf(match -> !namesComponent(match.getUniqueAttributes(), filter.component()));
+        }
+        return products;
+    }
+
+    /**
+     * Builds one projection query from the filter so no entity state is loaded or tracked.
+     * A component filter also selects the attributes JSON to confirm the match; it is dropped from the rows.
+     */
+    @Override
+    public List<Object[]> filterSummaries(ProductFilter filter, Session session) {
+        CriteriaBuilder cb = session.getCriteriaBuilder();
+        CriteriaQuery<Object[]> query = cb.createQuery(Object[].class);
+        Root<Product> product = query.from(Product.class);
+        Join<Product, ProductCategory> category = product.join("category");
+
+        List<Selection<?>> columns = new ArrayList<>(List.of(
+                product.get("id"),
+                product.get("name"),
+                category.get("categoryName"),
+                product.get("colour"),
+                product.get("cost")));
+        if (filtersComponent(filter)) {
+            columns.add(product.get("uniqueAttributes"));
+        }
+        query.multiselect(columns)
+                .where(toPredicates(filter, cb, product, category).toArray(Predicate[]::new))
+                .orderBy(cb.asc(product.get("id")));
+
+        List<Object[]> rows = session.createQuery(query).getResultList();
+        if (!filtersComponent(filter)) {
+            return rows;
+        }
+        return rows.stream()
+                .filter(row -> namesComponent((String) row[SUMMARY_COLUMNS], filter.component()))
+                .map(row -> Arrays.copyOf(row, SUMMARY_COLUMNS))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Conditional decrement, so concurrent sales cannot both pass the availability check.
+     * A single statement covers the usual case of one location holding the whole quantity;
+     * otherwise the product's locations are locked in id order and drained one after another.
+     */
+    @Override
+    public int takeStock(int productId, int quantity, Session session) {
+        int updated = session.createNamedMutationQuery(Stock.TAKE_QUANTITY)
+                .setParameter("quantity", quantity)
+                .setParameter("productId", productId)
+                .executeUpdate();
+        return updated > 0 ? updated : takeAcrossLocations(productId, quantity, session);
+    }
+
+    /** Splits the quantity over the locked locations in id order, or takes nothing if their total falls short */
+    private int takeAcrossLocations(int productId, int quantity, Session session) {
+        List<Stock> locations = session.createNamedSelectionQuery(Stock.LOCK_LOCATIONS, Stock.class)
+                .setParameter("productId", productId)
+                .getResultList();
+        if (locations.stream().mapToInt(Stock::getQuantity).sum() < quantity) {
+            return 0;
+        }
+
+        int remaining = quantity;
+        int drawn = 0;
+        for (Stock location : locations) {
+            int taken = Math.min(remaining, location.getQuantity());
+            location.setQuantity(location.getQuantity() - taken);
+            remaining -= taken;
+            drawn++;
+            if (remaining == 0) {
+                break;
+            }
+        }
+        session.flush();
+        return drawn;
+    }
+
+    @Override
+    public int addStock(int productId, int quantity, Session session) {
+        return session.createNamedMutationQuery(Stock.ADD_QUANTITY)
+                .setParameter("quantity", quantity)
+                .setParameter("productId", productId)
+                .executeUpdate();
+    }
+
+    @Override
+    public int addStockToLocation(int stockId, int quantity, Session session) {
+        return session.createNamedMutationQuery(Stock.ADD_TO_LOCATION)
+                .setParameter("quantity", quantity)
+                .setParameter("stockId", stockId)
+                .executeUpdate();
+    }
+
+    @Override
+    public Optional<Integer> findStockQuantity(int productId, Session session) {
+        return session.createNamedSelectionQuery(Stock.FIND_QUANTITY, Long.class)
+                .setParameter("productId", productId)
+                .uniqueResultOptional()
+                .map(Long::intValue);
+    }
+
+    @Override
+    public LocalDateTime findDatabaseTime(Session session) {
+        return session.createNamedSelectionQuery(Stock.DATABASE_TIME, LocalDateTime.class)
+                .getSingleResult();
+    }
+
+    @Override
+    public List<Integer> findProductsWithStockChangedSince(LocalDateTime since, Session session) {
+        return session.createNamedSelectionQuery(Stock.PRODUCTS_CHANGED_SINCE, Integer.class)
+                .setParameter("since", since)
+                .getResultList();
+    }
+
+    @Override
+    public Stream<Object[]> streamStockSummary(Collection<Integer> productIds, StatelessSession session) {
+        return streamReport(productIds, session, Product.STOCK_SUMMARY);
+    }
+
+    @Override
+    public Stream<Object[]> streamDetailsReport(Collection<Integer> productIds, StatelessSession session) {
+        return streamReport(productIds, session, Product.DETAILS_REPORT);
+    }
+
+    /**
+     * Streams report rows through a stateless session, so no persistence context or dirty checking
+     * is involved and rows are fetched from the driver in JDBC fetch-size chunks as they are written.
+     * The ids are always bound as IN-list chunks, never staged, so the session can come from the read pool.
+     */
+    private static Stream<Object[]> streamReport(Collection<Integer> productIds, StatelessSession session, String query) {
+        return IdSelection.streamChunks(productIds,
+                chunk -> session.createNamedQuery(query, Object[].class)
+                        .setParameterList("productIds", chunk)
+                        .setReadOnly(true)
+                        .setFetchSize(HibernateUtil.JDBC_FETCH_SIZE)
+                        .getResultStream());
+    }
+
+    @Override
+    public int[] applyStockChanges(List<StockChange> changes, Session session) {
+        return JdbcBatch.execute(APPLY_STOCK_CHANGE_SQL, changes, session, (statement, change) -> {
+            statement.setInt(1, change.quantity());
+            statement.setInt(2, change.productId());
+            statement.setInt(3, change.quantity());
+            statement.setInt(4, Math.max(change.quantity(), 0));  // Only increments are limited by max stock
+            statement.setInt(5, change.quantity());
+        });
+    }
+
+    @Override
+    public void saveListings(List<ProductSale> sales, int listedByUserId, Session session) {
+        JdbcBatch.execute(INSERT_LISTING_SQL, sales, session, (statement, sale) -> {
+            statement.setInt(1, sale.productId());
+            statement.setInt(2, sale.quantity());
+            statement.setInt(3, sale.price());
+            statement.setInt(4, sale.price() * sale.quantity());
+            statement.setInt(5, listedByUserId);
+        });
+    }
+
+    @Override
+    public void saveOrders(List<ProductPurchase> purchases, int userId, Session session) {
+        JdbcBatch.execute(INSERT_ORDER_SQL, purchases, session, (statement, purchase) -> {
+            statement.setInt(1, userId);
+            statement.setInt(2, purchase.quantity());
+            statement.setInt(3, purchase.productId());
+        });
+    }
+
+    /** Translates every set criterion of the filter into a predicate; unset criteria match anything */
+    private List<Predicate> toPredicates(ProductFilter filter, CriteriaBuilder cb,
+                                         Root<Product> product, Join<Product, ProductCategory> category) {
+        List<Predicate> predicates = new ArrayList<>();
+
+        if (filter.category() != null) {
+            predicates.add(cb.equal(category.get("categoryName"), filter.category()));
+        }
+        if (filter.colour() != null) {
+            predicates.add(cb.equal(product.get("colour"), filter.colour()));
+        }
+        if (filter.minCost() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(product.get("cost"), filter.minCost()));
+        }
+        if (filter.maxCost() != null) {
+            predicates.add(cb.lessThanOrEqualTo(product.get("cost"), filter.maxCost()));
+        }
+        if (filter.name() != null && !filter.name().isBlank()) {
+            predicates.add(cb.like(cb.lower(product.get("name")),
+                    containsPattern(filter.name().toLowerCase()), LIKE_ESCAPE));
+        }
+        if (filtersComponent(filter)) {
+            // Only narrows the rows: the term may sit in any attribute value, so namesComponent has the final say
+            predicates.add(cb.like(product.get("uniqueAttributes"),
+                    containsPattern(filter.component()), LIKE_ESCAPE));
+        }
+        return predicates;
+    }
+
+    private static boolean filtersComponent(ProductFilter filter) {
+        return filter.component() != null && !filter.component().isBlank();
+    }
+
+    /**
+     * Whether a component display_name in the attributes JSON contains the term, ignoring case like the
+     * column collation does for the prefilter.
+     * Checked in Java because json_table is not portable to the H2 test database over an nvarchar(max) column;
+     * the LIKE prefilter keeps the parsed rows to the few that mention the term at all.
+     */
+    private static boolean namesComponent(String uniqueAttributes, String term) {
+        String lowerTerm = term.toLowerCase();
+        try {
+            for (JsonNode component : JSON.readTree(uniqueAttributes).path("components")) {
+                if (component.path("display_name").asText().toLowerCase().contains(lowerTerm)) {
+                    return true;
+                }
+            }
+            return false;
+        } catch (JsonProcessingException e) {
+            return false; // A malformed document names no components
+        }
+    }
+
+    /** Wraps a search term in LIKE wildcards, escaping any wildcard characters it contains */
+    private String containsPattern(String term) {
+        String escaped = term
+                .replace(String.valueOf(LIKE_ESCAPE), LIKE_ESCAPE + String.valueOf(LIKE_ESCAPE))
+                .replace("%", LIKE_ESCAPE + "%")
+                .replace("_", LIKE_ESCAPE + "_")
+                .replace("[", LIKE_ESCAPE + "[");
+        return "%" + escaped + "%";
+    }
+
+    private static String categoryNameOf(Product product) {
+        return product.getCategory() != null ? product.getCategory().getCategoryName() : null;
+    }
+
+    private static ProductDocument toDocument(Product product, String categoryName) {
+        return new ProductDocument(product.getId(), product.getName(), categoryName, product.getDescription());
     }
 }
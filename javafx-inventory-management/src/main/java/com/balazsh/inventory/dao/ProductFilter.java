@@ -0,0 +1,37 @@
+package com.balazsh.inventory.dao;
+
+/**
+ * Composable product filter specification. Every criterion is optional (null means "any")
+ * and all set criteria are combined with AND into a single query by ProductDAO.
+ */
+public record ProductFilter(String category, String colour, Integer minCost, Integer maxCost,
+                            String name, String component) {
+
+    /** Filter that matches every product */
+    public static ProductFilter any() {
+        return new ProductFilter(null, null, null, null, null, null);
+    }
+
+    public ProductFilter withCategory(String category) {
+        return new ProductFilter(category, colour, minCost, maxCost, name, component);
+    }
+
+    public ProductFilter withColour(String colour) {
+        return new ProductFilter(category, colour, minCost, maxCost, name, component);
+    }
+
+    /** Inclusive cost range in pennies; either bound may be null */
+    public ProductFilter withCost(Integer minCost, Integer maxCost) {
+        return new ProductFilter(category, colour, minCost, maxCost, name, component);
+    }
+
+    /** Case-insensitive substring match on the product name */
+    public ProductFilter withName(String name) {
+        return new ProductFilter(category, colour, minCost, maxCost, name, component);
+    }
+
+    /** Substring match on the component list stored in the unique attributes JSON */
+    public ProductFilter withComponent(String component) {
+        return new ProductFilter(category, colour, minCost, maxCost, name, component);
+    }
+}
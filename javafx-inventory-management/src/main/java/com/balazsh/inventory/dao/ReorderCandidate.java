@@ -0,0 +1,12 @@
+package com.balazsh.inventory.dao;
+
+/**
+ * Stock location at or below its reorder point, to be refilled up to its maximum stock.
+ */
+public record ReorderCandidate(int stockId, int productId, int quantity, int maxStock) {
+
+    /** Quantity that brings the location back to its maximum stock */
+    public int orderQuantity() {
+        return maxStock - quantity;
+    }
+}
@@ -0,0 +1,7 @@
+package com.balazsh.inventory.dao;
+
+/**
+ * Signed stock quantity change for a product: negative for sales, positive for purchases.
+ */
+public record StockChange(int productId, int quantity) {
+}
@@ -0,0 +1,16 @@
+package com.balazsh.inventory.dao;
+
+import com.balazsh.inventory.domain.model.LedgerEntry;
+import com.balazsh.inventory.entity.Transaction;
+import org.hibernate.Session;
+
+import java.util.List;
+
+/**
+ * Transaction Data Access Object interface extending GenericDAO with ledger operations.
+ */
+public interface TransactionDAO extends GenericDAO<Transaction> {
+
+    /** Appends a ledger row for every entry in JDBC batches */
+    void saveLedgerEntries(List<LedgerEntry> entries, Session session);
+}
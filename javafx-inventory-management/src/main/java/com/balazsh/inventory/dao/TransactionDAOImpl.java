@@ -0,0 +1,43 @@
+package com.balazsh.inventory.dao;
+
+import com.balazsh.inventory.domain.model.LedgerEntry;
+import com.balazsh.inventory.entity.Transaction;
+import org.hibernate.Session;
+
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * Transaction Data Access Object implementation writing the stock movement ledger.
+ * Extends GenericDAOAbs to inherit standard CRUD operations for Transaction entities.
+ */
+public class TransactionDAOImpl extends GenericDAOAbs<Transaction> implements TransactionDAO {
+
+    // Entries without a unit price take the product's current cost
+    private static final String INSERT_LEDGER_SQL =
+            "insert into new.\"Transaction\" (product_id, user_id, transaction_type, quantity, unit_price, total_price) "
+                    + "select p.product_id, ?, ?, ?, coalesce(?, p.cost), coalesce(?, p.cost) * ? "
+                    + "from new.Product p where p.product_id = ?";
+
+    public TransactionDAOImpl() {
+        super(Transaction.class);
+    }
+
+    @Override
+    public void saveLedgerEntries(List<LedgerEntry> entries, Session session) {
+        JdbcBatch.execute(INSERT_LEDGER_SQL, entries, session, (statement, entry) -> {
+            statement.setInt(1, entry.userId());
+            statement.setString(2, entry.transactionType());
+            statement.setInt(3, entry.quantity());
+            if (entry.unitPrice() != null) {
+                statement.setInt(4, entry.unitPrice());
+                statement.setInt(5, entry.unitPrice());
+            } else {
+                statement.setNull(4, Types.INTEGER);
+                statement.setNull(5, Types.INTEGER);
+            }
+            statement.setInt(6, entry.quantity());
+            statement.setInt(7, entry.productId());
+        });
+    }
+}
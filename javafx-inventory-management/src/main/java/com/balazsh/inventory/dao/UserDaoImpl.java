@@ -17,20 +17,18 @@ public class UserDaoImpl extends GenericDAOAbs<User> implements UserDAO {
         super(User.class);
     }
 
-    /** Retrieves user by username for authentication using parameterized HQL query */
+    /** Retrieves user by username for authentication using a named query validated at startup */
     @Override
     public User findUserByName(String username, Session session){
-        return session.createQuery("from User where username = :username", User.class)
+        return session.createNamedQuery(User.FIND_BY_USERNAME, User.class)
                 .setParameter("username", username)
                 .getSingleResult();
     }
 
-    /** Retrieves all permissions for a user through role-permission joins */
+    /** Retrieves all permissions for a user through role-permission joins, served from the query cache when possible */
     @Override
     public List<Permission> getAllUserPermissions(User user, Session session) {
-        return session.createQuery("select distinct p from UserRole ur " +
-                        "join ur.role r join r.rolePermissions rp join rp.permission p where ur.user = :user"
-                        , Permission.class)
+        return session.createNamedQuery(Permission.FIND_BY_USER, Permission.class)
                 .setParameter("user", user)
                 .getResultList();
     }
@@ -38,13 +36,14 @@ public class UserDaoImpl extends GenericDAOAbs<User> implements UserDAO {
     /** Retrieves all users awaiting administrative approval */
     @Override
     public List<User> getAllPendingUsers(Session session){
-        return session.createQuery("from User u where u.accountStatus = :status", User.class).setParameter("status", "pending").list();
+        return session.createNamedQuery(User.FIND_BY_ACCOUNT_STATUS, User.class).setParameter("status", "pending").list();
     }
 
     /** Soft delete: sets user status to disabled rather than physical deletion */
     @Override
     public void deleteUserById(int id, Session session) {
-        session.createMutationQuery("update User u set u.accountStatus = 'disabled' where u.id = :id")
+        session.createNamedMutationQuery(User.UPDATE_ACCOUNT_STATUS)
+                .setParameter("status", "disabled")
                 .setParameter("id", id)
                 .executeUpdate();
     }
@@ -52,7 +51,8 @@ public class UserDaoImpl extends GenericDAOAbs<User> implements UserDAO {
     /** Activates pending user account by updating status to approved */
     @Override
     public void approveUserById(int id, Session session) {
-        session.createMutationQuery("update User u set u.accountStatus = 'approved' where u.id = :id")
+        session.createNamedMutationQuery(User.UPDATE_ACCOUNT_STATUS)
+                .setParameter("status", "approved")
                 .setParameter("id", id)
                 .executeUpdate();
     }
@@ -0,0 +1,53 @@
+package com.balazsh.inventory.domain.idempotency;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Bounded in-memory set of recently booked operation ids, checked before a sale or purchase
+ * touches the database so a retry of a recent operation returns without a round trip.
+ * The least recently used ids are evicted first; an evicted id is still caught by the
+ * ProcessedOperation table's primary key.
+ */
+public class RecentOperations {
+
+    /** Operation ids kept in memory, overridable with -Dinventory.idempotency.capacity */
+    public static final int CAPACITY = Integer.getInteger("inventory.idempotency.capacity", 10_000);
+
+    private static RecentOperations instance; // Shared application cache, created on first use
+
+    private final Map<UUID, Boolean> operations; // Access-ordered, so the eldest entry is the least recently used
+
+    public RecentOperations(int capacity) {
+        this.operations = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Boolean> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /** Returns the application cache */
+    public static synchronized RecentOperations getInstance() {
+        if (instance == null) {
+            instance = new RecentOperations(CAPACITY);
+        }
+        return instance;
+    }
+
+    /** Whether the operation was booked recently */
+    public synchronized boolean contains(UUID operationId) {
+        return operations.get(operationId) != null; // get, unlike containsKey, counts as an access
+    }
+
+    /** Records a booked operation */
+    public synchronized void remember(UUID operationId) {
+        operations.put(operationId, Boolean.TRUE);
+    }
+
+    /** Number of operation ids currently kept */
+    public synchronized int size() {
+        return operations.size();
+    }
+}
@@ -0,0 +1,220 @@
+package com.balazsh.inventory.domain.ledger;
+
+import com.balazsh.inventory.dao.TransactionDAO;
+import com.balazsh.inventory.dao.TransactionDAOImpl;
+import com.balazsh.inventory.domain.model.LedgerEntry;
+import com.balazsh.inventory.util.HibernateUtil;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Write-behind audit ledger for stock movements.
+ * Entries are queued after the stock change has committed and a single writer thread
+ * group-commits them in batches, so the ledger insert never adds to a sale's latency.
+ * No entry is ever dropped: a full queue blocks callers until the writer catches up,
+ * and a failed batch is retried with exponential backoff until it is written.
+ * Pending entries are flushed when Hibernate shuts down.
+ */
+public class TransactionLedger implements AutoCloseable {
+
+    /** Maximum queued entries before callers are blocked, overridable with -Dinventory.ledger.capacity */
+    public static final int CAPACITY = Integer.getInteger("inventory.ledger.capacity", 10_000);
+
+    /** Maximum entries per group commit, overridable with -Dinventory.ledger.batch_size */
+    public static final int BATCH_SIZE = Integer.getInteger("inventory.ledger.batch_size", HibernateUtil.JDBC_BATCH_SIZE);
+
+    /** Milliseconds the writer waits to fill a batch, overridable with -Dinventory.ledger.flush_millis */
+    public static final long FLUSH_MILLIS = Long.getLong("inventory.ledger.flush_millis", 5);
+
+    /** Milliseconds before the first retry of a failed batch, doubled per attempt, overridable with -Dinventory.ledger.retry_millis */
+    public static final long RETRY_MILLIS = Long.getLong("inventory.ledger.retry_millis", 50);
+
+    private static final long MAX_RETRY_MILLIS = 5_000;
+    private static final long CLOSE_TIMEOUT_MILLIS = 10_000;
+    private static final Logger logger = LoggerFactory.getLogger(TransactionLedger.class);
+    private static TransactionLedger instance; // Shared application ledger, created on first use
+
+    private final BlockingQueue<LedgerEntry> queue;
+    private final int batchSize;
+    private final long flushNanos;
+    private final long retryMillis;
+    private final Consumer<List<LedgerEntry>> writer; // Persists one batch in one transaction
+    private final Thread writerThread;
+    private final LongAdder written = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final AtomicLong accepted = new AtomicLong(); // Entries queued since start
+    private volatile boolean closed;
+
+    public TransactionLedger(int capacity, int batchSize, long flushMillis, long retryMillis,
+                             Consumer<List<LedgerEntry>> writer) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.flushNanos = TimeUnit.MILLISECONDS.toNanos(flushMillis);
+        this.retryMillis = retryMillis;
+        this.writer = writer;
+        this.writerThread = new Thread(this::drainLoop);
+        writerThread.setName("Transaction Ledger");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /** Returns the application ledger, writing through Hibernate and flushed by {@link HibernateUtil#shutdown()} */
+    public static synchronized TransactionLedger getInstance() {
+        if (instance == null) {
+            TransactionDAO transactionDAO = new TransactionDAOImpl();
+            instance = new TransactionLedger(CAPACITY, BATCH_SIZE, FLUSH_MILLIS, RETRY_MILLIS, entries -> {
+                try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+                    session.beginTransaction();
+                    transactionDAO.saveLedgerEntries(entries, session);
+                    session.getTransaction().commit();
+                }
+            });
+            HibernateUtil.beforeShutdown(instance::close);
+        }
+        return instance;
+    }
+
+    /**
+     * Queues an entry for the next group commit, blocking while the writer has fallen behind.
+     * An interrupt does not abandon the entry; the flag is restored once it is queued.
+     * After close the entry is written on the caller's thread.
+     */
+    public void record(LedgerEntry entry) {
+        if (closed) {
+            writeWithRetry(List.of(entry));
+            return;
+        }
+        boolean interrupted = false;
+        while (true) {
+            try {
+                queue.put(entry);
+                accepted.incrementAndGet();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** Queues entries for the next group commit */
+    public void recordAll(List<LedgerEntry> entries) {
+        entries.forEach(this::record);
+    }
+
+    /** Entries waiting to be written */
+    public int pending() {
+        return queue.size();
+    }
+
+    /** Entries written since start */
+    public long written() {
+        return written.sum();
+    }
+
+    /** Failed batch writes that were retried */
+    public long retries() {
+        return retries.sum();
+    }
+
+    /** Waits until every entry queued before the call has been written, returns false if that takes longer than the timeout */
+    public boolean awaitWritten(long timeoutMillis) {
+        long target = accepted.get();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        while (written.sum() < target) {
+            if (System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Stops queueing entries and waits for the writer to flush everything already queued */
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            writerThread.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writerThread.isAlive()) {
+            logger.error("Transaction ledger did not flush within {} ms, unwritten entries: {}", CLOSE_TIMEOUT_MILLIS, List.copyOf(queue));
+        } else {
+            logger.info("Transaction ledger closed: {} entries written, {} retried batches", written(), retries());
+        }
+    }
+
+    /** Takes the first waiting entry, then keeps collecting until the batch is full or the flush interval has passed */
+    private void drainLoop() {
+        List<LedgerEntry> batch = new ArrayList<>(batchSize);
+        while (!closed || !queue.isEmpty()) {
+            try {
+                LedgerEntry first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + flushNanos;
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    LedgerEntry next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // Keep draining until closed so queued entries are not lost
+            }
+            if (!batch.isEmpty()) {
+                writeWithRetry(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    /** Writes the batch, retrying with exponential backoff until it succeeds */
+    private void writeWithRetry(List<LedgerEntry> batch) {
+        List<LedgerEntry> entries = List.copyOf(batch);
+        long backoff = retryMillis;
+        while (true) {
+            try {
+                writer.accept(entries);
+                written.add(entries.size());
+                return;
+            } catch (Exception e) {
+                retries.increment();
+                logger.error("Failed to write {} ledger entries, retrying in {} ms", entries.size(), backoff, e);
+            }
+            try {
+                Thread.sleep(backoff);
+            } catch (InterruptedException e) {
+                // Retry immediately; the batch must still be written
+            }
+            backoff = Math.min(backoff * 2, MAX_RETRY_MILLIS);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.balazsh.inventory.domain.listing;
+
+import com.balazsh.inventory.dao.ListingDAOImpl;
+import com.balazsh.inventory.domain.service.ListingService;
+import com.balazsh.inventory.util.HibernateUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+/**
+ * Background runner for the bulk listing lifecycle updates.
+ * Expires stale listings on a schedule and runs requested bulk updates off the calling thread,
+ * one at a time on a single daemon thread so they never contend with each other for the same rows.
+ */
+public class ListingMaintenance implements AutoCloseable {
+
+    /** Days after which an active listing expires, overridable with -Dinventory.listing.expiry_days */
+    public static final int EXPIRY_DAYS = Integer.getInteger("inventory.listing.expiry_days", 30);
+
+    /** Seconds between expiry runs, 0 disables the schedule; overridable with -Dinventory.listing.expiry_interval_seconds */
+    public static final long EXPIRY_INTERVAL_SECONDS = Long.getLong("inventory.listing.expiry_interval_seconds", 3_600);
+
+    private static final Logger logger = LoggerFactory.getLogger(ListingMaintenance.class);
+    private static ListingMaintenance instance; // Shared application runner, created on first use
+
+    private final ListingService listingService;
+    private final ScheduledExecutorService executor;
+    private boolean scheduled;
+
+    public ListingMaintenance(ListingService listingService) {
+        this.listingService = listingService;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setName("Listing Maintenance");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /** Returns the application runner, stopped when Hibernate shuts down */
+    public static synchronized ListingMaintenance getInstance() {
+        if (instance == null) {
+            instance = new ListingMaintenance(new ListingService(new ListingDAOImpl()));
+            HibernateUtil.beforeShutdown(instance::close);
+        }
+        return instance;
+    }
+
+    /** Schedules the expiry runs unless disabled or already scheduled */
+    public synchronized void start() {
+        if (EXPIRY_INTERVAL_SECONDS <= 0 || scheduled) {
+            return;
+        }
+        executor.scheduleWithFixedDelay(this::runScheduledExpiry, EXPIRY_INTERVAL_SECONDS, EXPIRY_INTERVAL_SECONDS, TimeUnit.SECONDS);
+        scheduled = true;
+        logger.info("Listing maintenance expires listings older than {} days every {} s", EXPIRY_DAYS, EXPIRY_INTERVAL_SECONDS);
+    }
+
+    private void runScheduledExpiry() {
+        try {
+            listingService.expireListingsOlderThan(EXPIRY_DAYS);
+        } catch (Exception e) {
+            logger.error("Scheduled listing expiry failed, it is retried next run", e);
+        }
+    }
+
+    /** Expires active listings older than the given number of days in the background */
+    public CompletableFuture<Integer> expireListingsOlderThan(int days) {
+        return submit(() -> listingService.expireListingsOlderThan(days));
+    }
+
+    /** Closes the product's active listings in the background */
+    public CompletableFuture<Integer> closeListingsOfProduct(int productId) {
+        return submit(() -> listingService.closeListingsOfProduct(productId));
+    }
+
+    /** Reprices the product's active listings by a percentage in the background */
+    public CompletableFuture<Integer> repriceListingsOfProduct(int productId, int percent) {
+        return submit(() -> listingService.repriceListingsOfProduct(productId, percent));
+    }
+
+    /** Runs the update on the maintenance thread and completes with the number of listings it changed */
+    private CompletableFuture<Integer> submit(IntSupplier update) {
+        return CompletableFuture.supplyAsync(update::getAsInt, executor);
+    }
+
+    /** Stops the schedule and any queued updates */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
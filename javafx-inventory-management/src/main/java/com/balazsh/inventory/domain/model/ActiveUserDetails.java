@@ -6,6 +6,7 @@ import com.balazsh.inventory.util.enums.RESOURCE;
 import java.util.List;
 import java.util.Map;
 
-public record ActiveUserDetails(String username, Map<RESOURCE, List<OPERATION>> permissions, String[] roles){
+/** Logged-in user; the id is captured at login so stock operations can reference the user without looking it up */
+public record ActiveUserDetails(int userId, String username, Map<RESOURCE, List<OPERATION>> permissions, String[] roles){
 
 }
@@ -0,0 +1,5 @@
+package com.balazsh.inventory.domain.model;
+
+/** Outcome of one sale or purchase line of a batch */
+public record BatchLineResult(String operation, int productId, int quantity, boolean success, String message) {
+}
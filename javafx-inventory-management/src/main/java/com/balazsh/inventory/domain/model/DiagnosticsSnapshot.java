@@ -0,0 +1,20 @@
+package com.balazsh.inventory.domain.model;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+public record DiagnosticsSnapshot(Instant takenAt,
+                                  List<QueryDiagnostics> queries,
+                                  Map<String, Long> entityLoads,
+                                  long sessionsOpened,
+                                  long statementsPrepared,
+                                  long secondLevelCacheHits,
+                                  long secondLevelCacheMisses,
+                                  List<PoolDiagnostics> pools) {
+
+    /** Total number of entities loaded across all entity types */
+    public long totalEntityLoads() {
+        return entityLoads.values().stream().mapToLong(Long::longValue).sum();
+    }
+}
@@ -0,0 +1,16 @@
+package com.balazsh.inventory.domain.model;
+
+/**
+ * Stock movement to be appended to the transaction ledger.
+ * A null unit price records the product's cost at the time the entry is written.
+ */
+public record LedgerEntry(String transactionType, int productId, int userId, int quantity, Integer unitPrice) {
+
+    public static LedgerEntry sale(int productId, int userId, int quantity, int unitPrice) {
+        return new LedgerEntry("sale", productId, userId, quantity, unitPrice);
+    }
+
+    public static LedgerEntry purchase(int productId, int userId, int quantity, Integer unitCost) {
+        return new LedgerEntry("purchase", productId, userId, quantity, unitCost);
+    }
+}
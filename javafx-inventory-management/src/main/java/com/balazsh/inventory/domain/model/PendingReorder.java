@@ -0,0 +1,7 @@
+package com.balazsh.inventory.domain.model;
+
+/**
+ * Purchase order generated by the replenishment engine and waiting to be received.
+ */
+public record PendingReorder(int orderId, int productId, String productName, int stockId, int quantity, int cost) {
+}
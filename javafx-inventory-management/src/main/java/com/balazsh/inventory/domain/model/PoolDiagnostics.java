@@ -0,0 +1,14 @@
+package com.balazsh.inventory.domain.model;
+
+public record PoolDiagnostics(String pool,
+                              int active,
+                              int idle,
+                              int pending,
+                              int max,
+                              long acquisitions,
+                              long acquireP50Micros,
+                              long acquireP95Micros,
+                              long acquireP99Micros,
+                              long acquireMaxMicros,
+                              long timeouts) {
+}
@@ -1,4 +1,14 @@
 package com.balazsh.inventory.domain.model;
 
-public record ProductPurchase(int productId, int quantity) {
+import java.util.UUID;
+
+/**
+ * Purchase line; the operation id stays the same across retries so the purchase is booked at most once.
+ */
+public record ProductPurchase(UUID operationId, int productId, int quantity) {
+
+    /** Creates a purchase line for a new operation */
+    public ProductPurchase(int productId, int quantity) {
+        this(UUID.randomUUID(), productId, quantity);
+    }
 }
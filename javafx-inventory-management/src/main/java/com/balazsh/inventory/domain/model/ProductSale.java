@@ -1,4 +1,14 @@
 package com.balazsh.inventory.domain.model;
 
-public record ProductSale(int productId, int price, int quantity) {
+import java.util.UUID;
+
+/**
+ * Sale line; the operation id stays the same across retries so the sale is booked at most once.
+ */
+public record ProductSale(UUID operationId, int productId, int price, int quantity) {
+
+    /** Creates a sale line for a new operation */
+    public ProductSale(int productId, int price, int quantity) {
+        this(UUID.randomUUID(), productId, price, quantity);
+    }
 }
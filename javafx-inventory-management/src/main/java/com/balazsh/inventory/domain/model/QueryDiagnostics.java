@@ -0,0 +1,4 @@
+package com.balazsh.inventory.domain.model;
+
+public record QueryDiagnostics(String query, long executions, long rows, long p50Millis, long p95Millis, long p99Millis, long maxMillis) {
+}
@@ -0,0 +1,18 @@
+package com.balazsh.inventory.domain.model;
+
+/**
+ * Outcome of one file report: rows written, the wall time from query to the last byte flushed,
+ * and the query and format time summed over its partitions.
+ */
+public record ReportResult(long rows, long elapsedMillis, long partitionMillis) {
+
+    /** Rows written per second, the whole row count if the report took less than a millisecond */
+    public long rowsPerSecond() {
+        return elapsedMillis == 0 ? rows : rows * 1_000 / elapsedMillis;
+    }
+
+    /** Partition time over wall time: how many partitions effectively ran at once */
+    public double speedup() {
+        return elapsedMillis == 0 ? 1 : (double) partitionMillis / elapsedMillis;
+    }
+}
@@ -0,0 +1,149 @@
+package com.balazsh.inventory.domain.replenishment;
+
+import com.balazsh.inventory.dao.OrderDAO;
+import com.balazsh.inventory.dao.OrderDAOImpl;
+import com.balazsh.inventory.dao.ProductDAO;
+import com.balazsh.inventory.dao.ProductDAOImpl;
+import com.balazsh.inventory.dao.ReorderCandidate;
+import com.balazsh.inventory.util.HibernateUtil;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scheduled replenishment: raises a pending purchase order for every stock location that has
+ * fallen to its reorder point, sized to refill it up to its maximum stock.
+ * The first cycle checks every location; later cycles only check products with a Stock row updated
+ * after the watermark, the database time at which the previous cycle started, so a cycle costs one
+ * index range scan plus one candidate query, bound through IdSelection, instead of a full scan.
+ * Every stock write stamps updated_at from the database clock, so sales, receipts and edits to reorder
+ * points or maximum stock are all seen. The window reaches back an overlap before the watermark to cover
+ * transactions still open when the previous cycle read it; a periodic full scan catches anything later than that.
+ * Locations that already have a pending reorder are skipped until it is received.
+ */
+public class ReorderEngine implements AutoCloseable {
+
+    /** Seconds between cycles, 0 disables the schedule; overridable with -Dinventory.reorder.interval_seconds */
+    public static final long INTERVAL_SECONDS = Long.getLong("inventory.reorder.interval_seconds", 60);
+
+    /** Seconds the change window reaches back before the watermark; overridable with -Dinventory.reorder.overlap_seconds */
+    public static final long OVERLAP_SECONDS = Long.getLong("inventory.reorder.overlap_seconds", 30);
+
+    /** Incremental cycles between full scans, 0 scans fully every cycle; overridable with -Dinventory.reorder.full_scan_cycles */
+    public static final int FULL_SCAN_CYCLES = Integer.getInteger("inventory.reorder.full_scan_cycles", 60);
+
+    private static final Logger logger = LoggerFactory.getLogger(ReorderEngine.class);
+    private static ReorderEngine instance; // Shared application engine, created on first use
+
+    private final OrderDAO orderDAO;
+    private final ProductDAO productDAO;
+    private final int fullScanCycles;
+    private LocalDateTime watermark; // Database time the last committed cycle started at, null until the first full scan
+    private int cyclesSinceFullScan;
+    private ScheduledExecutorService scheduler;
+
+    /** Outcome of one cycle; productsChecked is -1 for a full scan */
+    public record CycleResult(int productsChecked, int reordersRaised, long elapsedMillis) {
+    }
+
+    public ReorderEngine(OrderDAO orderDAO, ProductDAO productDAO, int fullScanCycles) {
+        this.orderDAO = orderDAO;
+        this.productDAO = productDAO;
+        this.fullScanCycles = fullScanCycles;
+    }
+
+    /** Returns the application engine */
+    public static synchronized ReorderEngine getInstance() {
+        if (instance == null) {
+            instance = new ReorderEngine(new OrderDAOImpl(), new ProductDAOImpl(), FULL_SCAN_CYCLES);
+        }
+        return instance;
+    }
+
+    /** Starts the scheduled cycles on a daemon thread unless disabled or already running */
+    public synchronized void start() {
+        if (INTERVAL_SECONDS <= 0 || scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setName("Reorder Engine");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::runScheduledCycle, INTERVAL_SECONDS, INTERVAL_SECONDS, TimeUnit.SECONDS);
+        HibernateUtil.beforeShutdown(this::close);
+        logger.info("Reorder engine checks stock every {} s", INTERVAL_SECONDS);
+    }
+
+    private void runScheduledCycle() {
+        try {
+            runCycle();
+        } catch (Exception e) {
+            logger.error("Reorder cycle failed, changed products are checked again next cycle", e);
+        }
+    }
+
+    /**
+     * Checks the products changed since the watermark, or every location when a full scan is due,
+     * and raises reorders in one transaction.
+     * The watermark only advances once the reorders are committed, so a failed cycle is repeated in full.
+     */
+    public synchronized CycleResult runCycle() {
+        long start = System.nanoTime();
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            session.beginTransaction();
+
+            // Read the clock first: rows stamped while the cycle runs are checked again by the next one
+            LocalDateTime cycleStart = productDAO.findDatabaseTime(session);
+            boolean fullScan = watermark == null || cyclesSinceFullScan >= fullScanCycles;
+            int productsChecked;
+            List<ReorderCandidate> candidates;
+            if (fullScan) {
+                productsChecked = -1;
+                candidates = orderDAO.findAllReorderCandidates(session);
+            } else {
+                List<Integer> changedProducts = productDAO.findProductsWithStockChangedSince(
+                        watermark.minusSeconds(OVERLAP_SECONDS), session);
+                productsChecked = changedProducts.size();
+                candidates = orderDAO.findReorderCandidates(changedProducts, session);
+            }
+
+            orderDAO.saveReorders(candidates, session);
+            session.getTransaction().commit();
+            watermark = cycleStart;
+            cyclesSinceFullScan = fullScan ? 0 : cyclesSinceFullScan + 1;
+
+            CycleResult result = new CycleResult(productsChecked, candidates.size(), elapsedMillis(start));
+            if (result.reordersRaised() > 0) {
+                logger.info("Reorder cycle raised {} reorders after checking {} products in {} ms",
+                        result.reordersRaised(), productsChecked < 0 ? "all" : productsChecked, result.elapsedMillis());
+            }
+            return result;
+        }
+    }
+
+    /** Database time the last committed cycle started at, null before the first cycle */
+    public synchronized LocalDateTime watermark() {
+        return watermark;
+    }
+
+    private static long elapsedMillis(long start) {
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    /** Stops the scheduled cycles */
+    @Override
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+}
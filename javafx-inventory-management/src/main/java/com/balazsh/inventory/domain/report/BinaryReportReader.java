@@ -0,0 +1,118 @@
+package com.balazsh.inventory.domain.report;
+
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reads a report written by {@link BinaryReportWriter} one row at a time, decoding a block at a time.
+ * Numbers are returned as Long and text and JSON columns as String.
+ */
+public class BinaryReportReader implements AutoCloseable {
+
+    private final InputStream in;
+    private final List<ReportType.Column> columns;
+    private Object[][] block = new Object[0][]; // Rows of the current block
+    private int next; // Index of the next row in the block
+
+    public BinaryReportReader(InputStream in) throws IOException {
+        this.in = new BufferedInputStream(in);
+        byte[] magic = this.in.readNBytes(BinaryReportWriter.MAGIC.length);
+        if (!Arrays.equals(magic, BinaryReportWriter.MAGIC)) {
+            throw new IOException("Not a binary report");
+        }
+        int version = this.in.read();
+        if (version != BinaryReportWriter.VERSION) {
+            throw new IOException("Unsupported binary report version " + version);
+        }
+        int columnCount = (int) readVarint(true);
+        ReportType.ColumnType[] types = ReportType.ColumnType.values();
+        List<ReportType.Column> readColumns = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            String name = readString();
+            int type = this.in.read();
+            if (type < 0 || type >= types.length) {
+                throw new IOException("Unknown column type " + type);
+            }
+            readColumns.add(new ReportType.Column(name, types[type]));
+        }
+        this.columns = List.copyOf(readColumns);
+    }
+
+    public List<ReportType.Column> columns() {
+        return columns;
+    }
+
+    /** Returns the next row, or null after the last one */
+    public Object[] nextRow() throws IOException {
+        while (next == block.length) {
+            long rowCount = readVarint(false);
+            if (rowCount < 0) {
+                return null;
+            }
+            readBlock((int) rowCount);
+        }
+        return block[next++];
+    }
+
+    private void readBlock(int rowCount) throws IOException {
+        block = new Object[rowCount][columns.size()];
+        next = 0;
+        for (int column = 0; column < columns.size(); column++) {
+            boolean number = columns.get(column).type() == ReportType.ColumnType.NUMBER;
+            for (int row = 0; row < rowCount; row++) {
+                block[row][column] = number ? readNumber() : readString();
+            }
+        }
+    }
+
+    private Long readNumber() throws IOException {
+        long encoded = readVarint(true);
+        if (encoded == 0) {
+            return null;
+        }
+        long zigzag = encoded - 1;
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+
+    private String readString() throws IOException {
+        long length = readVarint(true);
+        if (length == 0) {
+            return null;
+        }
+        byte[] bytes = in.readNBytes((int) (length - 1));
+        if (bytes.length != length - 1) {
+            throw new EOFException("Binary report ends inside a value");
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /** Reads an unsigned varint; at the end of the stream returns -1 unless a value is required */
+    private long readVarint(boolean required) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                if (shift == 0 && !required) {
+                    return -1;
+                }
+                throw new EOFException("Binary report ends inside a value");
+            }
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint in binary report");
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
@@ -0,0 +1,95 @@
+package com.balazsh.inventory.domain.report;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Compact length-prefixed columnar format, read back by {@link BinaryReportReader}.
+ * The header is the magic INVR, a version byte, the column count and each column's name and type.
+ * Rows follow in blocks of up to BLOCK_ROWS: the block's row count, then every value of the first
+ * column, every value of the second, and so on. Counts and lengths are unsigned varints; a number is
+ * the varint of its zigzag encoding plus one and a string is the varint of its UTF-8 length plus one
+ * followed by the bytes, so 0 is null for both. A file ends after its last block.
+ */
+public class BinaryReportWriter implements ReportWriter {
+
+    /** Rows buffered per columnar block */
+    public static final int BLOCK_ROWS = 1_024;
+
+    static final byte[] MAGIC = {'I', 'N', 'V', 'R'};
+    static final int VERSION = 1;
+
+    private final List<Object[]> block = new ArrayList<>(BLOCK_ROWS); // Rows of the block being written, reused
+    private final byte[] varint = new byte[10];
+
+    @Override
+    public void writeHeader(ReportType type, OutputStream out) throws IOException {
+        out.write(MAGIC);
+        out.write(VERSION);
+        writeVarint(out, type.columns().size());
+        for (ReportType.Column column : type.columns()) {
+            writeString(out, column.name());
+            out.write(column.type().ordinal());
+        }
+    }
+
+    @Override
+    public long writeRows(ReportType type, Iterator<Object[]> rows, OutputStream out) throws IOException {
+        List<ReportType.Column> columns = type.columns();
+        long written = 0;
+        while (rows.hasNext()) {
+            block.clear();
+            while (rows.hasNext() && block.size() < BLOCK_ROWS) {
+                block.add(rows.next());
+            }
+            writeVarint(out, block.size());
+            for (int i = 0; i < columns.size(); i++) {
+                boolean number = columns.get(i).type() == ReportType.ColumnType.NUMBER;
+                for (Object[] row : block) {
+                    if (number) {
+                        writeNumber(out, (Number) row[i]);
+                    } else {
+                        writeString(out, row[i] == null ? null : row[i].toString());
+                    }
+                }
+            }
+            written += block.size();
+        }
+        block.clear();
+        return written;
+    }
+
+    private void writeNumber(OutputStream out, Number value) throws IOException {
+        if (value == null) {
+            writeVarint(out, 0);
+            return;
+        }
+        long longValue = value.longValue();
+        writeVarint(out, ((longValue << 1) ^ (longValue >> 63)) + 1);
+    }
+
+    private void writeString(OutputStream out, String value) throws IOException {
+        if (value == null) {
+            writeVarint(out, 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(out, bytes.length + 1L);
+        out.write(bytes);
+    }
+
+    /** Seven bits per byte, low bits first, high bit set on every byte but the last */
+    private void writeVarint(OutputStream out, long value) throws IOException {
+        int length = 0;
+        while ((value & ~0x7FL) != 0) {
+            varint[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        varint[length++] = (byte) value;
+        out.write(varint, 0, length);
+    }
+}
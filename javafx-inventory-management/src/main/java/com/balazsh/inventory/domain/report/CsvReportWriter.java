@@ -0,0 +1,81 @@
+package com.balazsh.inventory.domain.report;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * RFC 4180 CSV in UTF-8: a header line of column names, then one CRLF-terminated line per row.
+ * Fields containing a comma, quote or line break are quoted with inner quotes doubled; nulls are empty fields.
+ */
+public class CsvReportWriter implements ReportWriter {
+
+    @Override
+    public void writeHeader(ReportType type, OutputStream out) throws IOException {
+        Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        List<ReportType.Column> columns = type.columns();
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeField(writer, columns.get(i).name());
+        }
+        writer.write("\r\n");
+        writer.flush();
+    }
+
+    @Override
+    public long writeRows(ReportType type, Iterator<Object[]> rows, OutputStream out) throws IOException {
+        Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        int columnCount = type.columns().size();
+        long written = 0;
+        while (rows.hasNext()) {
+            Object[] row = rows.next();
+            for (int i = 0; i < columnCount; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                if (row[i] != null) {
+                    writeField(writer, row[i].toString());
+                }
+            }
+            writer.write("\r\n");
+            written++;
+        }
+        writer.flush();
+        return written;
+    }
+
+    /** Writes the value as is, or quoted in one pass if it holds a character that needs quoting */
+    private static void writeField(Writer writer, String value) throws IOException {
+        if (!needsQuoting(value)) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        int from = 0;
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) == '"') {
+                writer.write(value, from, i + 1 - from);
+                writer.write('"');
+                from = i + 1;
+            }
+        }
+        writer.write(value, from, value.length() - from);
+        writer.write('"');
+    }
+
+    private static boolean needsQuoting(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\r' || c == '\n') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,88 @@
+package com.balazsh.inventory.domain.report;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * JSON Lines in UTF-8: one object per row keyed by column name, generated straight into the stream.
+ * JSON columns are embedded as JSON when they hold a valid document and as a string otherwise;
+ * embedded documents are re-generated token by token, so line breaks inside them never split a row.
+ */
+public class JsonLinesReportWriter implements ReportWriter {
+
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .build(); // Thread-safe, shared by every writer
+
+    @Override
+    public long writeRows(ReportType type, Iterator<Object[]> rows, OutputStream out) throws IOException {
+        List<ReportType.Column> columns = type.columns();
+        long written = 0;
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8)) {
+            generator.setRootValueSeparator(null); // Rows are separated by the newline written after each
+            while (rows.hasNext()) {
+                Object[] row = rows.next();
+                generator.writeStartObject();
+                for (int i = 0; i < columns.size(); i++) {
+                    generator.writeFieldName(columns.get(i).name());
+                    writeValue(generator, columns.get(i).type(), row[i]);
+                }
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+                written++;
+            }
+        }
+        return written;
+    }
+
+    private static void writeValue(JsonGenerator generator, ReportType.ColumnType type, Object value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else if (type == ReportType.ColumnType.NUMBER) {
+            generator.writeNumber(((Number) value).longValue());
+        } else if (type == ReportType.ColumnType.JSON) {
+            writeJson(generator, value.toString());
+        } else {
+            generator.writeString(value.toString());
+        }
+    }
+
+    /** Copies the document's tokens into the row, or writes the text as a string if it is not valid JSON */
+    private static void writeJson(JsonGenerator generator, String json) throws IOException {
+        TokenBuffer tokens = parse(json);
+        if (tokens == null) {
+            generator.writeString(json);
+            return;
+        }
+        try (JsonParser parser = tokens.asParser()) {
+            parser.nextToken();
+            generator.copyCurrentStructure(parser);
+        }
+    }
+
+    /**
+     * Buffers the tokens of the text if it is exactly one JSON value, null otherwise.
+     * Nothing reaches the row until the whole document has parsed, so invalid JSON never leaves partial output.
+     */
+    private static TokenBuffer parse(String json) {
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            if (parser.nextToken() == null) {
+                return null;
+            }
+            TokenBuffer tokens = new TokenBuffer(parser);
+            tokens.copyCurrentStructure(parser);
+            return parser.nextToken() == null ? tokens : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
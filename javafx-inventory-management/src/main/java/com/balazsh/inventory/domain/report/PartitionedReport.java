@@ -0,0 +1,207 @@
+package com.balazsh.inventory.domain.report;
+
+import com.balazsh.inventory.dao.IdSelection;
+import com.balazsh.inventory.domain.model.ReportResult;
+import com.balazsh.inventory.util.HibernateUtil;
+import com.balazsh.inventory.util.ReadWriteConnectionProvider;
+import org.hibernate.StatelessSession;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Runs a report over a product selection as id-ordered partitions queried concurrently.
+ * The sorted ids are split into ranges of PARTITION_SIZE; each partition is queried in its own stateless
+ * session, sorted by id and written into a byte chunk on one of a fixed set of worker threads, and the
+ * caller appends the chunks to a {@link ReportFileOutput} in partition order. At most two chunks per
+ * worker are in flight, so memory is bounded by the partition size rather than the selection. The workers
+ * are shared by every report and capped at half the read pool, so interactive reads always find a free connection.
+ */
+public class PartitionedReport implements AutoCloseable {
+
+    /** Partitions queried at once across all reports, capped at half the read pool; overridable with -Dinventory.report.parallelism */
+    public static final int PARALLELISM = Integer.getInteger("inventory.report.parallelism", 4);
+
+    /**
+     * Product ids per partition, overridable with -Dinventory.report.partition_size but never above
+     * IdSelection.TABLE_THRESHOLD: partitions are always bound as IN-list chunks, so they never stage ids
+     * in SelectedId and can be queried on the read pool.
+     */
+    public static final int PARTITION_SIZE = Math.min(
+            Integer.getInteger("inventory.report.partition_size", IdSelection.TABLE_THRESHOLD), IdSelection.TABLE_THRESHOLD);
+
+    private static final Logger logger = LoggerFactory.getLogger(PartitionedReport.class);
+    private static PartitionedReport instance; // Shared application report workers, created on first use
+
+    private final int parallelism;
+    private final int partitionSize;
+    private final Supplier<StatelessSession> sessionOpener; // Opens the session a partition is queried in
+    private final ExecutorService workers;
+
+    /** Query streaming the report rows of one partition's ids; the stream is closed before the session */
+    @FunctionalInterface
+    public interface PartitionQuery {
+        Stream<Object[]> open(List<Integer> productIds, StatelessSession session);
+    }
+
+    /** One written partition, waiting to be appended */
+    private record Chunk(ByteArrayOutputStream bytes, long rows, long elapsedNanos) {
+    }
+
+    public PartitionedReport(int parallelism, int partitionSize, Supplier<StatelessSession> sessionOpener) {
+        this.parallelism = parallelism;
+        this.partitionSize = Math.min(partitionSize, IdSelection.TABLE_THRESHOLD);
+        this.sessionOpener = sessionOpener;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setName("Report Partition " + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /** Returns the application report workers, querying on the read pool */
+    public static synchronized PartitionedReport getInstance() {
+        if (instance == null) {
+            int parallelism = Math.max(1, Math.min(PARALLELISM, ReadWriteConnectionProvider.READ_POOL_SIZE / 2));
+            instance = new PartitionedReport(parallelism, PARTITION_SIZE, HibernateUtil::openReadStatelessSession);
+            HibernateUtil.beforeShutdown(instance::close);
+        }
+        return instance;
+    }
+
+    /**
+     * Writes the report of the distinct product ids to the file in ascending id order, as the format's header
+     * followed by one row block per partition. Rows go to a temporary file in the same directory that is moved
+     * over the target once the report is complete, so a failed report leaves any previous file untouched;
+     * a selection without rows deletes the previous file instead. The result's partition time is the summed query and write
+     * time of every partition, so its speedup is how much the concurrent partitions saved over running them
+     * one after another.
+     */
+    public ReportResult run(Collection<Integer> productIds, PartitionQuery query, ReportType type,
+                            Supplier<ReportWriter> writers, Path output) throws IOException {
+        long start = System.nanoTime();
+        List<Integer> sortedIds = productIds.stream().distinct().sorted().toList();
+        List<List<Integer>> partitions = new ArrayList<>();
+        for (int from = 0; from < sortedIds.size(); from += partitionSize) {
+            partitions.add(sortedIds.subList(from, Math.min(from + partitionSize, sortedIds.size())));
+        }
+
+        Deque<Future<Chunk>> inFlight = new ArrayDeque<>();
+        int nextPartition = 0;
+        long rows = 0;
+        long partitionNanos = 0;
+        Path temporary = null;
+        ReportFileOutput out = null;
+        boolean complete = false;
+        try {
+            while (nextPartition < partitions.size() || !inFlight.isEmpty()) {
+                while (nextPartition < partitions.size() && inFlight.size() < parallelism * 2) {
+                    List<Integer> partition = partitions.get(nextPartition++);
+                    inFlight.add(workers.submit(() -> writePartition(partition, query, type, writers.get())));
+                }
+                Chunk chunk = await(inFlight.poll());
+                rows += chunk.rows();
+                partitionNanos += chunk.elapsedNanos();
+                if (chunk.rows() > 0) {
+                    if (out == null) {
+                        temporary = Files.createTempFile(output.toAbsolutePath().getParent(), output.getFileName() + ".", ".tmp");
+                        out = ReportFileOutput.open(temporary);
+                        writers.get().writeHeader(type, out);
+                    }
+                    chunk.bytes().writeTo(out);
+                }
+            }
+            if (out != null) {
+                out.close();
+                Files.move(temporary, output, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } else {
+                Files.deleteIfExists(output);
+            }
+            complete = true;
+        } finally {
+            inFlight.forEach(future -> future.cancel(true));
+            if (!complete && temporary != null) {
+                discard(out, temporary);
+            }
+        }
+
+        ReportResult result = new ReportResult(rows, (System.nanoTime() - start) / 1_000_000, partitionNanos / 1_000_000);
+        logger.info("Report {} wrote {} rows in {} ms over {} partitions on {} threads ({} rows/s, {}x speedup)",
+                output.getFileName(), rows, result.elapsedMillis(), partitions.size(), parallelism,
+                result.rowsPerSecond(), String.format("%.1f", result.speedup()));
+        return result;
+    }
+
+    /** Closes and deletes the temporary file of a failed report without masking the failure */
+    private static void discard(ReportFileOutput out, Path temporary) {
+        try {
+            out.close();
+            Files.deleteIfExists(temporary);
+        } catch (IOException e) {
+            logger.warn("Failed to delete the incomplete report {}", temporary, e);
+        }
+    }
+
+    /** Queries one partition, releasing its connection before writing the rows in id order */
+    private Chunk writePartition(List<Integer> partition, PartitionQuery query, ReportType type,
+                                 ReportWriter writer) throws IOException {
+        long start = System.nanoTime();
+        List<Object[]> rows;
+        try (StatelessSession session = sessionOpener.get();
+             Stream<Object[]> partitionRows = query.open(partition, session)) {
+            rows = partitionRows.sorted(Comparator.comparingInt(row -> ((Number) row[0]).intValue())).toList();
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        writer.writeRows(type, rows.iterator(), bytes);
+        return new Chunk(bytes, rows.size(), System.nanoTime() - start);
+    }
+
+    private static Chunk await(Future<Chunk> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Report was interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (e.getCause() instanceof UncheckedIOException uncheckedIOException) {
+                throw uncheckedIOException.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Report partition failed", e.getCause());
+        }
+    }
+
+    /** Stops the workers, cancelling partitions still queued */
+    @Override
+    public void close() {
+        workers.shutdownNow();
+    }
+}
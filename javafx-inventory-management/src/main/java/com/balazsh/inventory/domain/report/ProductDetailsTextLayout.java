@@ -0,0 +1,216 @@
+package com.balazsh.inventory.domain.report;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Iterator;
+
+/**
+ * Text layout of the product details report, written one row at a time without holding the result set or any parsed JSON.
+ * The unique attributes JSON is read with a streaming parser, token by token, into two section buffers that
+ * are reused for every row, so memory stays flat however many products the report covers.
+ * The buffers only exist so a malformed document can still be reported in place of its sections.
+ */
+public class ProductDetailsTextLayout implements TextLayout {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory(); // Thread-safe, shared by every layout
+
+    private final StringBuilder attributes = new StringBuilder(); // Attribute lines of the current row
+    private final StringBuilder components = new StringBuilder(); // Component lines of the current row
+
+    @Override
+    public long write(Iterator<Object[]> productDetails, Writer writer) throws IOException {
+        long rows = 0;
+        while (productDetails.hasNext()) {
+            writeRow(productDetails.next(), writer);
+            rows++;
+        }
+        return rows;
+    }
+
+    private void writeRow(Object[] productDetail, Writer writer) throws IOException {
+        writeLine(writer, "Product ID: ", productDetail[0]);
+        writeLine(writer, "Name: ", productDetail[1]);
+        writeLine(writer, "Category: ", productDetail[2]);
+        writeLine(writer, "Colour: ", productDetail[3]);
+        writeLine(writer, "Cost: ", productDetail[4]);
+        writeLine(writer, "Description: ", productDetail[5]);
+        writeUniqueAttributes(productDetail[6], writer);
+        writeLine(writer, "Number of Listings: ", productDetail[7]);
+        writeLine(writer, "Number of Orders: ", productDetail[8]);
+        writeLine(writer, "In stock: ", productDetail[9]);
+        writer.write("=".repeat(20));
+        writer.write('\n');
+    }
+
+    private static void writeLine(Writer writer, String label, Object value) throws IOException {
+        writer.write(label);
+        writer.write(String.valueOf(value));
+        writer.write('\n');
+    }
+
+    private void writeUniqueAttributes(Object json, Writer writer) throws IOException {
+        if (json == null) {
+            writer.write("Product Attributes: None\n");
+            return;
+        }
+        try {
+            parseUniqueAttributes(json.toString());
+        } catch (IOException | RuntimeException e) {
+            writeLine(writer, "Product Attributes: Error parsing JSON - ", json);
+            return;
+        }
+        writer.write("Product Attributes:\n");
+        writeSection(writer, attributes, "  No attributes\n");
+        writer.write("Product Components:\n");
+        writeSection(writer, components, "  No components\n");
+    }
+
+    private static void writeSection(Writer writer, StringBuilder section, String emptyLine) throws IOException {
+        if (section.isEmpty()) {
+            writer.write(emptyLine);
+        } else {
+            writer.append(section);
+        }
+    }
+
+    /** Fills the section buffers from the document; unknown fields are skipped */
+    private void parseUniqueAttributes(String json) throws IOException {
+        attributes.setLength(0);
+        components.setLength(0);
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "attributes" -> readObjects(parser, value, this::appendAttribute);
+                    case "components" -> readObjects(parser, value, this::appendComponent);
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+    }
+
+    /** Reads one attribute object into its line: name, value, unit if present and data type */
+    private void appendAttribute(JsonParser parser) throws IOException {
+        String name = null;
+        String value = "null";
+        String unit = null;
+        String dataType = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+            switch (field) {
+                case "name" -> name = scalarText(parser, token);
+                case "value" -> value = valueText(parser, token);
+                case "unit" -> unit = scalarText(parser, token);
+                case "data_type" -> dataType = scalarText(parser, token);
+                default -> parser.skipChildren();
+            }
+        }
+        attributes.append("  - ").append(name).append(": ").append(value);
+        if (unit != null && !unit.isEmpty()) {
+            attributes.append(' ').append(unit);
+        }
+        attributes.append(" (").append(dataType).append(")\n");
+    }
+
+    /** Reads one component object into its line: display name and integer product id */
+    private void appendComponent(JsonParser parser) throws IOException {
+        String displayName = null;
+        Integer productId = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+            switch (field) {
+                case "product_id" -> {
+                    expect(parser, token, JsonToken.VALUE_NUMBER_INT);
+                    productId = parser.getIntValue();
+                }
+                case "display_name" -> displayName = scalarText(parser, token);
+                default -> parser.skipChildren();
+            }
+        }
+        if (productId == null) {
+            throw new JsonParseException(parser, "Component without a product id");
+        }
+        components.append("  - ").append(displayName).append(" (ID: ").append(productId).append(")\n");
+    }
+
+    /** Calls the reader for each object of an array; a null array counts as empty */
+    private static void readObjects(JsonParser parser, JsonToken token, ObjectReader reader) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return;
+        }
+        expect(parser, token, JsonToken.START_ARRAY);
+        JsonToken element;
+        while ((element = parser.nextToken()) != JsonToken.END_ARRAY) {
+            expect(parser, element, JsonToken.START_OBJECT);
+            reader.read(parser);
+        }
+    }
+
+    private static String scalarText(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (!token.isScalarValue()) {
+            throw new JsonParseException(parser, "Expected a scalar value but found " + token);
+        }
+        return parser.getText();
+    }
+
+    /** Renders a value of any type, nested arrays as [a, b] and nested objects as {key=value} */
+    private static String valueText(JsonParser parser, JsonToken token) throws IOException {
+        StringBuilder value = new StringBuilder();
+        appendValue(parser, token, value);
+        return value.toString();
+    }
+
+    private static void appendValue(JsonParser parser, JsonToken token, StringBuilder value) throws IOException {
+        switch (token) {
+            case VALUE_NULL -> value.append("null");
+            case VALUE_NUMBER_INT -> value.append(parser.getNumberValue());
+            case VALUE_NUMBER_FLOAT -> value.append(parser.getDoubleValue());
+            case START_ARRAY -> {
+                value.append('[');
+                JsonToken element = parser.nextToken();
+                for (boolean first = true; element != JsonToken.END_ARRAY; element = parser.nextToken(), first = false) {
+                    if (!first) {
+                        value.append(", ");
+                    }
+                    appendValue(parser, element, value);
+                }
+                value.append(']');
+            }
+            case START_OBJECT -> {
+                value.append('{');
+                for (boolean first = true; parser.nextToken() == JsonToken.FIELD_NAME; first = false) {
+                    if (!first) {
+                        value.append(", ");
+                    }
+                    value.append(parser.currentName()).append('=');
+                    appendValue(parser, parser.nextToken(), value);
+                }
+                value.append('}');
+            }
+            default -> value.append(parser.getText());
+        }
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws IOException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ObjectReader {
+        void read(JsonParser parser) throws IOException;
+    }
+}
@@ -0,0 +1,101 @@
+package com.balazsh.inventory.domain.report;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Report file written through a FileChannel from one reused direct buffer.
+ * Bytes are copied into the buffer and the channel is only written when it is full, so every write
+ * but the last is one buffer long and starts at a multiple of the buffer size, which is itself a
+ * multiple of the page size. Closing writes what is left in the buffer and, if enabled, forces
+ * the file to disk once.
+ */
+public class ReportFileOutput extends OutputStream {
+
+    /** Size of the write buffer in KiB, rounded up to whole pages; overridable with -Dinventory.report.buffer_kib */
+    public static final int BUFFER_KIB = Integer.getInteger("inventory.report.buffer_kib", 1_024);
+
+    /**
+     * Whether a finished report is forced to disk before it replaces the previous one, enable with
+     * -Dinventory.report.fsync=true. Off by default: reports can be regenerated from the database,
+     * and forcing roughly doubles the time of an interactive print.
+     */
+    public static final boolean FSYNC = Boolean.parseBoolean(System.getProperty("inventory.report.fsync", "false"));
+
+    private static final int PAGE_SIZE = 4_096;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer; // Direct, so the channel writes it without another copy
+    private final boolean fsync;
+    private long written; // Bytes accepted so far, buffered or on the channel
+    private boolean closed;
+
+    public ReportFileOutput(Path path, int bufferSize, boolean fsync) throws IOException {
+        this.channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        int pages = Math.max(1, (bufferSize + PAGE_SIZE - 1) / PAGE_SIZE);
+        this.buffer = ByteBuffer.allocateDirect(pages * PAGE_SIZE);
+        this.fsync = fsync;
+    }
+
+    /** Opens the report file with the application buffer size and fsync setting */
+    public static ReportFileOutput open(Path path) throws IOException {
+        return new ReportFileOutput(path, BUFFER_KIB * 1_024, FSYNC);
+    }
+
+    /** Bytes written so far */
+    public long written() {
+        return written;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (!buffer.hasRemaining()) {
+            drain();
+        }
+        buffer.put((byte) b);
+        written++;
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+        while (length > 0) {
+            if (!buffer.hasRemaining()) {
+                drain();
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.put(bytes, offset, count);
+            offset += count;
+            length -= count;
+            written += count;
+        }
+    }
+
+    /** Writes what is buffered and forces the file to disk if enabled */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try (channel) {
+            drain();
+            if (fsync) {
+                channel.force(true);
+            }
+        }
+    }
+
+    private void drain() throws IOException {
+        buffer.flip();
+        long position = written - buffer.remaining();
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+        buffer.clear();
+    }
+}
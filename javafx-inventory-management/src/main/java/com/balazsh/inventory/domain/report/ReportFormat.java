@@ -0,0 +1,38 @@
+package com.balazsh.inventory.domain.report;
+
+import java.util.function.Supplier;
+
+/**
+ * Report file formats selectable from the dashboard, each creating its ReportWriter.
+ */
+public enum ReportFormat {
+
+    TEXT("Text", "txt", TextReportWriter::new),
+    CSV("CSV", "csv", CsvReportWriter::new),
+    JSON_LINES("JSON Lines", "jsonl", JsonLinesReportWriter::new),
+    BINARY("Binary", "bin", BinaryReportWriter::new);
+
+    private final String displayName;
+    private final String fileExtension;
+    private final Supplier<ReportWriter> writers;
+
+    ReportFormat(String displayName, String fileExtension, Supplier<ReportWriter> writers) {
+        this.displayName = displayName;
+        this.fileExtension = fileExtension;
+        this.writers = writers;
+    }
+
+    /** Creates a writer for one thread */
+    public ReportWriter newWriter() {
+        return writers.get();
+    }
+
+    public String fileExtension() {
+        return fileExtension;
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
@@ -0,0 +1,65 @@
+package com.balazsh.inventory.domain.report;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Product reports: the file name, columns and text layout of each report query's rows.
+ * Column order matches the query's select list.
+ */
+public enum ReportType {
+
+    STOCK_SUMMARY("product_stock_details", StockSummaryTextLayout::new, List.of(
+            new Column("product_id", ColumnType.NUMBER),
+            new Column("name", ColumnType.TEXT),
+            new Column("stock_quantity", ColumnType.NUMBER),
+            new Column("total_sale_value", ColumnType.NUMBER),
+            new Column("total_cost_value", ColumnType.NUMBER))),
+
+    PRODUCT_DETAILS("product_details", ProductDetailsTextLayout::new, List.of(
+            new Column("product_id", ColumnType.NUMBER),
+            new Column("name", ColumnType.TEXT),
+            new Column("category", ColumnType.TEXT),
+            new Column("colour", ColumnType.TEXT),
+            new Column("cost", ColumnType.NUMBER),
+            new Column("description", ColumnType.TEXT),
+            new Column("unique_attributes", ColumnType.JSON),
+            new Column("listings", ColumnType.NUMBER),
+            new Column("orders", ColumnType.NUMBER),
+            new Column("in_stock", ColumnType.NUMBER)));
+
+    /** Value kinds a report column can hold; every kind is nullable */
+    public enum ColumnType {
+        NUMBER, // Any integral Number, written as a long
+        TEXT,
+        JSON // Text holding a JSON document, embedded as JSON where the format allows it
+    }
+
+    /** One report column */
+    public record Column(String name, ColumnType type) {
+    }
+
+    private final String baseName;
+    private final Supplier<TextLayout> textLayouts;
+    private final List<Column> columns;
+
+    ReportType(String baseName, Supplier<TextLayout> textLayouts, List<Column> columns) {
+        this.baseName = baseName;
+        this.textLayouts = textLayouts;
+        this.columns = columns;
+    }
+
+    /** Output file name of the report in the format, e.g. product_details.csv */
+    public String fileName(ReportFormat format) {
+        return baseName + "." + format.fileExtension();
+    }
+
+    /** Creates the text layout used by the TEXT format */
+    public TextLayout newTextLayout() {
+        return textLayouts.get();
+    }
+
+    public List<Column> columns() {
+        return columns;
+    }
+}
@@ -0,0 +1,22 @@
+package com.balazsh.inventory.domain.report;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+
+/**
+ * Output format of a report file. A report is written as a header followed by any number of row blocks,
+ * each written straight to the stream it is given; blocks are appended in order, so a file is valid
+ * however its rows were split. Instances may keep per-row buffers, so each thread uses its own.
+ * Never closes the stream.
+ */
+@FunctionalInterface
+public interface ReportWriter {
+
+    /** Writes what precedes the first row block, once per file */
+    default void writeHeader(ReportType type, OutputStream out) throws IOException {
+    }
+
+    /** Writes one block of rows and returns how many were written */
+    long writeRows(ReportType type, Iterator<Object[]> rows, OutputStream out) throws IOException;
+}
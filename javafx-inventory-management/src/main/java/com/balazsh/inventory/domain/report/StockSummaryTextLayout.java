@@ -0,0 +1,34 @@
+package com.balazsh.inventory.domain.report;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Iterator;
+
+/**
+ * Text layout of the stock summary report, written one row at a time: id, name, stock quantity, listed value and stock value.
+ */
+public class StockSummaryTextLayout implements TextLayout {
+
+    @Override
+    public long write(Iterator<Object[]> productStockDetails, Writer writer) throws IOException {
+        long rows = 0;
+        while (productStockDetails.hasNext()) {
+            Object[] productStockDetail = productStockDetails.next();
+            writeLine(writer, "Product Id: ", productStockDetail[0]);
+            writeLine(writer, "Name: ", productStockDetail[1]);
+            writeLine(writer, "Stock quantity: ", productStockDetail[2]);
+            writeLine(writer, "Total sale value: ", productStockDetail[3]);
+            writeLine(writer, "Total cost value: ", productStockDetail[4]);
+            writer.write("=".repeat(20));
+            writer.write('\n');
+            rows++;
+        }
+        return rows;
+    }
+
+    private static void writeLine(Writer writer, String label, Object value) throws IOException {
+        writer.write(label);
+        writer.write(String.valueOf(value));
+        writer.write('\n');
+    }
+}
@@ -0,0 +1,16 @@
+package com.balazsh.inventory.domain.report;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Iterator;
+
+/**
+ * Human-readable text layout of one report type, written by the TEXT format.
+ * Instances may keep per-row buffers, so each thread uses its own.
+ */
+@FunctionalInterface
+public interface TextLayout {
+
+    /** Writes every row and returns how many were written */
+    long write(Iterator<Object[]> rows, Writer writer) throws IOException;
+}
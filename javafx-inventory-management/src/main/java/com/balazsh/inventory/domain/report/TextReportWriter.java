@@ -0,0 +1,22 @@
+package com.balazsh.inventory.domain.report;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+/**
+ * Human-readable text in the report type's own layout, encoded in UTF-8 like every other format.
+ */
+public class TextReportWriter implements ReportWriter {
+
+    @Override
+    public long writeRows(ReportType type, Iterator<Object[]> rows, OutputStream out) throws IOException {
+        Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        long written = type.newTextLayout().write(rows, writer);
+        writer.flush();
+        return written;
+    }
+}
@@ -0,0 +1,257 @@
+package com.balazsh.inventory.domain.reservation;
+
+import com.balazsh.inventory.dao.ProductDAO;
+import com.balazsh.inventory.dao.ProductDAOImpl;
+import com.balazsh.inventory.util.HibernateUtil;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * In-memory available quantity per product, kept in front of the conditional stock update so most
+ * oversell attempts are rejected without a database round trip.
+ * A sale reserves its quantity here first; only a successful reservation goes on to the database,
+ * and it is confirmed before the transaction commits or released if the sale fails. Reservations
+ * that are never confirmed or released return their quantity when they expire.
+ * Counters are seeded from the Stock table on first use, reloaded when a stock change bypasses them,
+ * and reconciled with the database in the background. The database update stays the final check,
+ * so a counter that drifts high only costs a round trip; products sharing a lock stripe serialise
+ * their reservations, other products never contend.
+ */
+public class StockReservations {
+
+    /** Number of lock stripes, rounded up to a power of two; overridable with -Dinventory.reservation.stripes */
+    public static final int STRIPES = Integer.getInteger("inventory.reservation.stripes", 64);
+
+    /** Milliseconds before an unconfirmed reservation expires, overridable with -Dinventory.reservation.ttl_millis */
+    public static final long TTL_MILLIS = Long.getLong("inventory.reservation.ttl_millis", 30_000);
+
+    /** Milliseconds between expiry sweeps, overridable with -Dinventory.reservation.sweep_millis */
+    public static final long SWEEP_MILLIS = Long.getLong("inventory.reservation.sweep_millis", 1_000);
+
+    /** Seconds between background reloads of every counter, 0 disables them; overridable with -Dinventory.reservation.reconcile_seconds */
+    public static final long RECONCILE_SECONDS = Long.getLong("inventory.reservation.reconcile_seconds", 30);
+
+    private static final Logger logger = LoggerFactory.getLogger(StockReservations.class);
+    private static StockReservations instance; // Shared application reservations, created on first use
+
+    private final ReentrantLock[] stripes;
+    private final Map<Integer, Counter> counters = new ConcurrentHashMap<>(); // Product id to its counter
+    private final Map<Long, Reservation> outstanding = new ConcurrentHashMap<>(); // Unconfirmed reservations by id
+    private final AtomicLong nextReservationId = new AtomicLong();
+    private final long ttlNanos;
+    private final IntFunction<Optional<Integer>> stockLoader; // Reads the committed stock quantity of a product
+
+    /** Quantity held for a sale until it is confirmed, released or expires */
+    public record Reservation(long id, int productId, int quantity, long expiresAtNanos) {
+    }
+
+    /** Counter state, guarded by the product's stripe lock */
+    private static final class Counter {
+        private int available; // Stock quantity minus every live reservation
+        private int reserved; // Quantity held by unconfirmed reservations
+        private boolean stale = true; // Reloaded from the database before the next reservation
+    }
+
+    public StockReservations(int stripeCount, long ttlMillis, IntFunction<Optional<Integer>> stockLoader) {
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.stockLoader = stockLoader;
+    }
+
+    /** Returns the application reservations, loading stock through the read pool and sweeping on a daemon thread */
+    public static synchronized StockReservations getInstance() {
+        if (instance == null) {
+            ProductDAO productDAO = new ProductDAOImpl();
+            instance = new StockReservations(STRIPES, TTL_MILLIS, productId -> {
+                try (Session session = HibernateUtil.openReadSession()) {
+                    return productDAO.findStockQuantity(productId, session);
+                }
+            });
+            instance.startSweeper();
+        }
+        return instance;
+    }
+
+    /** Holds the quantity if enough is available, empty if the sale has to be rejected */
+    public Optional<Reservation> reserve(int productId, int quantity) {
+        Counter counter = counters.computeIfAbsent(productId, id -> new Counter());
+        if (isStale(productId, counter)) {
+            reload(productId, counter);
+        }
+
+        ReentrantLock lock = stripeOf(productId);
+        lock.lock();
+        try {
+            if (counter.available < quantity) {
+                return Optional.empty();
+            }
+            counter.available -= quantity;
+            counter.reserved += quantity;
+        } finally {
+            lock.unlock();
+        }
+
+        Reservation reservation = new Reservation(nextReservationId.incrementAndGet(), productId, quantity,
+                System.nanoTime() + ttlNanos);
+        outstanding.put(reservation.id(), reservation);
+        return Optional.of(reservation);
+    }
+
+    /**
+     * Keeps the reserved quantity taken for good; call after the stock update and before the commit.
+     * Returns false if the reservation had already expired, in which case the counter is reloaded.
+     */
+    public boolean confirm(Reservation reservation) {
+        if (outstanding.remove(reservation.id()) == null) {
+            invalidate(reservation.productId());
+            return false;
+        }
+        withCounter(reservation.productId(), counter -> counter.reserved -= reservation.quantity());
+        return true;
+    }
+
+    /** Returns the reserved quantity; a reservation that was already confirmed or expired reloads the counter instead */
+    public void release(Reservation reservation) {
+        if (outstanding.remove(reservation.id()) == null) {
+            invalidate(reservation.productId());
+            return;
+        }
+        withCounter(reservation.productId(), counter -> {
+            counter.available += reservation.quantity();
+            counter.reserved -= reservation.quantity();
+        });
+    }
+
+    /** Marks the product's counter for reloading after its stock changed without a reservation */
+    public void invalidate(int productId) {
+        withCounter(productId, counter -> counter.stale = true);
+    }
+
+    /** Quantity that can currently be reserved, empty if the product has no counter yet */
+    public Optional<Integer> available(int productId) {
+        Counter counter = counters.get(productId);
+        if (counter == null) {
+            return Optional.empty();
+        }
+        ReentrantLock lock = stripeOf(productId);
+        lock.lock();
+        try {
+            return Optional.of(counter.available);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Number of reservations neither confirmed, released nor expired */
+    public int outstanding() {
+        return outstanding.size();
+    }
+
+    /** Releases every reservation past its expiry and returns how many were released */
+    public int expireReservations() {
+        long now = System.nanoTime();
+        int expired = 0;
+        for (Reservation reservation : outstanding.values()) {
+            if (now - reservation.expiresAtNanos() >= 0 && outstanding.remove(reservation.id()) != null) {
+                withCounter(reservation.productId(), counter -> {
+                    counter.available += reservation.quantity();
+                    counter.reserved -= reservation.quantity();
+                });
+                expired++;
+            }
+        }
+        if (expired > 0) {
+            logger.warn("{} stock reservations expired before they were confirmed", expired);
+        }
+        return expired;
+    }
+
+    /** Reloads every counter from the database, picking up stock changes made by other application instances */
+    public void reconcile() {
+        for (Map.Entry<Integer, Counter> entry : counters.entrySet()) {
+            try {
+                reload(entry.getKey(), entry.getValue());
+            } catch (Exception e) {
+                logger.warn("Failed to reconcile stock reservations of product id {}", entry.getKey(), e);
+                invalidate(entry.getKey());
+            }
+        }
+    }
+
+    /**
+     * Reads the committed quantity outside the lock and subtracts the live reservations under it.
+     * Reservations are confirmed before their commit, so a concurrent commit can only make the counter
+     * read high, which the conditional stock update still catches.
+     */
+    private void reload(int productId, Counter counter) {
+        int stockQuantity = stockLoader.apply(productId).orElse(0);
+        ReentrantLock lock = stripeOf(productId);
+        lock.lock();
+        try {
+            counter.available = stockQuantity - counter.reserved;
+            counter.stale = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isStale(int productId, Counter counter) {
+        ReentrantLock lock = stripeOf(productId);
+        lock.lock();
+        try {
+            return counter.stale;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void withCounter(int productId, Consumer<Counter> update) {
+        Counter counter = counters.get(productId);
+        if (counter == null) {
+            return;
+        }
+        ReentrantLock lock = stripeOf(productId);
+        lock.lock();
+        try {
+            update.accept(counter);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ReentrantLock stripeOf(int productId) {
+        // Spread consecutive ids before masking so neighbouring products land on different stripes
+        int hash = productId * 0x9E3779B9;
+        return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+    }
+
+    private void startSweeper() {
+        ScheduledExecutorService sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setName("Stock Reservation Sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sweeper.scheduleWithFixedDelay(this::expireReservations, SWEEP_MILLIS, SWEEP_MILLIS, TimeUnit.MILLISECONDS);
+        if (RECONCILE_SECONDS > 0) {
+            sweeper.scheduleWithFixedDelay(this::reconcile, RECONCILE_SECONDS, RECONCILE_SECONDS, TimeUnit.SECONDS);
+        }
+        HibernateUtil.beforeShutdown(sweeper::shutdownNow);
+    }
+}
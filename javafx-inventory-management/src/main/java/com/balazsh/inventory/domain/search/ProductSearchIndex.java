@@ -0,0 +1,306 @@
+package com.balazsh.inventory.domain.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * In-process inverted index over product name, category name and description.
+ * Every field is split into lower-case trigrams, each trigram maps to a sorted posting list
+ * of product ids, and substring queries intersect the postings of the query's trigrams
+ * before verifying and ranking the few remaining candidates.
+ * Reads and writes are guarded by a read/write lock so the UI can search while DAOs update it.
+ */
+public class ProductSearchIndex {
+
+    private static final int GRAM_LENGTH = 3;
+    private static final ProductSearchIndex INSTANCE = new ProductSearchIndex(); // Shared application index
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<Integer, ProductDocument> documents = new HashMap<>(); // Indexed products by id
+    private Map<String, PostingList> postings = new HashMap<>(); // Trigram to product ids
+    private Map<Integer, ProductDocument> changesDuringRebuild; // Latest document per id changed while a rebuild runs, null for removed; null when idle
+    private volatile boolean ready = false; // Set once the initial build has completed
+
+    /** Searchable text of a single product */
+    public record ProductDocument(int id, String name, String category, String description) {
+    }
+
+    /** Memory footprint report of the index */
+    public record IndexStats(int products, int trigrams, long postings, long estimatedBytes) {
+    }
+
+    public static ProductSearchIndex getInstance() {
+        return INSTANCE;
+    }
+
+    /** Whether the initial build has completed and search results cover the whole catalog */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Replaces the whole index; the new index is built off-lock so searches keep being served.
+     * Products indexed or removed while the build runs are recorded and replayed onto the new index
+     * before it is swapped in, so changes committed during a rebuild are never lost.
+     */
+    public synchronized void rebuild(Stream<ProductDocument> products) {
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = new HashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Map<Integer, ProductDocument> newDocuments = new HashMap<>();
+        Map<String, PostingList> newPostings = new HashMap<>();
+        try {
+            products.forEach(product -> addInternal(newDocuments, newPostings, normalise(product)));
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                changesDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild.forEach((id, document) -> {
+                removeInternal(newDocuments, newPostings, id);
+                if (document != null) {
+                    addInternal(newDocuments, newPostings, document);
+                }
+            });
+            changesDuringRebuild = null;
+            documents = newDocuments;
+            postings = newPostings;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Adds a product or replaces its previously indexed text */
+    public void index(ProductDocument product) {
+        ProductDocument document = normalise(product);
+        lock.writeLock().lock();
+        try {
+            removeInternal(documents, postings, document.id());
+            addInternal(documents, postings, document);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.put(document.id(), document);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Removes a product from the index */
+    public void remove(int id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(documents, postings, id);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.put(id, null);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns ids of products whose name, category or description contains the query, best match first.
+     * Ranking: exact name, name prefix, name word prefix, name substring, category, then description.
+     */
+    public List<Integer> search(String query, int limit) {
+        if (query == null || query.isBlank() || limit <= 0) {
+            return List.of();
+        }
+        String term = query.trim().toLowerCase(Locale.ROOT);
+
+        lock.readLock().lock();
+        try {
+            List<ScoredMatch> matches = new ArrayList<>();
+            for (int id : candidates(term)) {
+                ProductDocument document = documents.get(id);
+                int score = score(document, term);
+                if (score >= 0) {
+                    matches.add(new ScoredMatch(id, score, document.name().length()));
+                }
+            }
+            return matches.stream()
+                    .sorted(Comparator.comparingInt(ScoredMatch::score)
+                            .thenComparingInt(ScoredMatch::nameLength)
+                            .thenComparingInt(ScoredMatch::id))
+                    .limit(limit)
+                    .map(ScoredMatch::id)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Estimates heap used by the index: document strings, posting arrays and hash map entries.
+     * The figures assume a 64-bit JVM with compressed oops and are meant for trend reporting.
+     */
+    public IndexStats stats() {
+        lock.readLock().lock();
+        try {
+            long postingCount = 0;
+            long bytes = 0;
+            for (Map.Entry<String, PostingList> entry : postings.entrySet()) {
+                postingCount += entry.getValue().size;
+                bytes += 32 + stringBytes(entry.getKey()) + 16 + 16 + 4L * entry.getValue().ids.length;
+            }
+            for (ProductDocument document : documents.values()) {
+                bytes += 32 + 16 + 24 + stringBytes(document.name())
+                        + stringBytes(document.category()) + stringBytes(document.description());
+            }
+            return new IndexStats(documents.size(), postings.size(), postingCount, bytes);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Intersects trigram postings, smallest first; short queries fall back to scanning documents */
+    private int[] candidates(String term) {
+        if (term.length() < GRAM_LENGTH) {
+            return documents.keySet().stream().mapToInt(Integer::intValue).toArray();
+        }
+        List<PostingList> lists = new ArrayList<>();
+        for (String gram : gramsOf(term)) {
+            PostingList list = postings.get(gram);
+            if (list == null) {
+                return new int[0];
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(list -> list.size));
+
+        PostingList smallest = lists.get(0);
+        int[] result = new int[smallest.size];
+        int count = 0;
+        outer:
+        for (int i = 0; i < smallest.size; i++) {
+            int id = smallest.ids[i];
+            for (int j = 1; j < lists.size(); j++) {
+                if (!lists.get(j).contains(id)) {
+                    continue outer;
+                }
+            }
+            result[count++] = id;
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /** Ranks a candidate, or returns -1 when the trigram hit was a false positive */
+    private int score(ProductDocument document, String term) {
+        String name = document.name();
+        if (name.equals(term)) return 0;
+        if (name.startsWith(term)) return 1;
+        int index = name.indexOf(term);
+        if (index > 0 && !Character.isLetterOrDigit(name.charAt(index - 1))) return 2;
+        if (index > 0) return 3;
+        if (document.category().contains(term)) return 4;
+        if (document.description().contains(term)) return 5;
+        return -1;
+    }
+
+    private static void addInternal(Map<Integer, ProductDocument> documents, Map<String, PostingList> postings,
+                                    ProductDocument document) {
+        documents.put(document.id(), document);
+        for (String gram : gramsOf(document)) {
+            postings.computeIfAbsent(gram, g -> new PostingList()).add(document.id());
+        }
+    }
+
+    private static void removeInternal(Map<Integer, ProductDocument> documents, Map<String, PostingList> postings, int id) {
+        ProductDocument previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String gram : gramsOf(previous)) {
+            PostingList list = postings.get(gram);
+            if (list != null && list.remove(id) && list.size == 0) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    private static ProductDocument normalise(ProductDocument product) {
+        return new ProductDocument(product.id(), lower(product.name()), lower(product.category()), lower(product.description()));
+    }
+
+    private static String lower(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> gramsOf(ProductDocument document) {
+        Set<String> grams = gramsOf(document.name());
+        grams.addAll(gramsOf(document.category()));
+        grams.addAll(gramsOf(document.description()));
+        return grams;
+    }
+
+    private static Set<String> gramsOf(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    private static long stringBytes(String value) {
+        return 24 + 16 + (long) value.length();
+    }
+
+    private record ScoredMatch(int id, int score, int nameLength) {
+    }
+
+    /** Sorted, growable array of product ids */
+    private static final class PostingList {
+        private int[] ids = new int[4];
+        private int size = 0;
+
+        boolean contains(int id) {
+            return Arrays.binarySearch(ids, 0, size, id) >= 0;
+        }
+
+        void add(int id) {
+            int position = Arrays.binarySearch(ids, 0, size, id);
+            if (position >= 0) {
+                return;
+            }
+            int insertAt = -position - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            ids[insertAt] = id;
+            size++;
+        }
+
+        boolean remove(int id) {
+            int position = Arrays.binarySearch(ids, 0, size, id);
+            if (position < 0) {
+                return false;
+            }
+            System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+            size--;
+            return true;
+        }
+    }
+}
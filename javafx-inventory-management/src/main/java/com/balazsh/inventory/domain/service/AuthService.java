@@ -4,6 +4,7 @@ import com.balazsh.inventory.dao.UserDAO;
 import com.balazsh.inventory.domain.model.ActiveUserDetails;
 import com.balazsh.inventory.entity.*;
 import com.balazsh.inventory.util.exceptions.AuthenticationException;
+import com.balazsh.inventory.util.exceptions.DatabaseUnavailableException;
 import com.balazsh.inventory.util.HibernateUtil;
 import com.balazsh.inventory.util.enums.OPERATION;
 import com.balazsh.inventory.util.enums.RESOURCE;
@@ -46,13 +47,13 @@ public class AuthService {
                 .map(userRole -> userRole.getRole().getRoleName())
                 .toArray(String[]::new);
 
-        return new ActiveUserDetails(user.getUsername(), permissions, roles);
+        return new ActiveUserDetails(user.getId(), user.getUsername(), permissions, roles);
     }
 
     /** Authenticates user with password validation and account status verification */
     public ActiveUserDetails login(String username, String password){
         Transaction tx = null;
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+        try (Session session = HibernateUtil.openReadSession()) {
             tx = session.beginTransaction();
 
             User user = userDAO.findUserByName(username, session);
@@ -75,6 +76,8 @@ public class AuthService {
 
         }catch (NoResultException nr){
             throw new AuthenticationException("Invalid username");
+        }catch (DatabaseUnavailableException e){
+            throw e;
         }catch (Exception e){
             throw new AuthenticationException("Unexpected error has occurred");
         }
@@ -97,7 +100,7 @@ public class AuthService {
             }
 
             // Retrieve role entity for assignment
-            Role userRole = session.createQuery("from Role where roleName = :roleName", Role.class)
+            Role userRole = session.createNamedQuery(Role.FIND_BY_NAME, Role.class)
                     .setParameter("roleName", role)
                     .getSingleResult();
 
@@ -119,6 +122,8 @@ public class AuthService {
             tx.commit();
         } catch (AuthenticationException e){
             if (tx != null) tx.rollback();
+        } catch (DatabaseUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             if (tx != null) tx.rollback();
             throw new AuthenticationException("Unexpected error has occurred");
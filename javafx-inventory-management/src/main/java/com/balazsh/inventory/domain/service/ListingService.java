@@ -0,0 +1,63 @@
+package com.balazsh.inventory.domain.service;
+
+import com.balazsh.inventory.dao.ListingDAO;
+import com.balazsh.inventory.util.HibernateUtil;
+import com.balazsh.inventory.util.exceptions.ProductProcessingException;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDateTime;
+import java.util.function.ToIntFunction;
+
+/**
+ * Listing service moving listings through their lifecycle with set-based updates:
+ * every operation is one statement in its own transaction, however many listings it matches,
+ * and returns how many listings it changed. Only active listings are affected.
+ */
+public class ListingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ListingService.class);
+
+    private final ListingDAO listingDAO; // Data access for listing lifecycle updates
+
+    public ListingService(ListingDAO listingDAO) {
+        this.listingDAO = listingDAO;
+    }
+
+    /** Expires every active listing listed more than the given number of days ago */
+    public int expireListingsOlderThan(int days) {
+        if (days < 0) {
+            throw new ProductProcessingException("Days must not be negative");
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(days);
+        return update("expire listings older than " + days + " days", session -> listingDAO.expireListedBefore(cutoff, session));
+    }
+
+    /** Closes every active listing of the product */
+    public int closeListingsOfProduct(int productId) {
+        return update("close listings of product id " + productId, session -> listingDAO.closeListingsOfProduct(productId, session));
+    }
+
+    /** Changes the price of every active listing of the product by a percentage, e.g. -10 for a 10% discount */
+    public int repriceListingsOfProduct(int productId, int percent) {
+        if (percent <= -100) {
+            throw new ProductProcessingException("Price change must be greater than -100%");
+        }
+        return update("reprice listings of product id " + productId + " by " + percent + "%",
+                session -> listingDAO.repriceListingsOfProduct(productId, percent, session));
+    }
+
+    private int update(String description, ToIntFunction<Session> mutation) {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            session.beginTransaction();
+            int affected = mutation.applyAsInt(session);
+            session.getTransaction().commit();
+            logger.info("Listing update '{}' changed {} listings", description, affected);
+            return affected;
+        } catch (Exception e) {
+            logger.error("Listing update '{}' failed", description, e);
+            throw new ProductProcessingException("The listings could not be updated, no changes were made");
+        }
+    }
+}
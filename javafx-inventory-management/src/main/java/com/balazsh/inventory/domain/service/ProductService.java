@@ -1,22 +1,45 @@
 package com.balazsh.inventory.domain.service;
 
+import com.balazsh.inventory.dao.OperationRecord;
+import com.balazsh.inventory.dao.ProcessedOperationDAO;
+import com.balazsh.inventory.dao.ProcessedOperationDAOImpl;
 import com.balazsh.inventory.dao.ProductDAO;
-import com.balazsh.inventory.dao.UserDAO;
+import com.balazsh.inventory.dao.StockChange;
+import com.balazsh.inventory.domain.idempotency.RecentOperations;
+import com.balazsh.inventory.domain.ledger.TransactionLedger;
+import com.balazsh.inventory.domain.model.BatchLineResult;
+import com.balazsh.inventory.domain.model.LedgerEntry;
 import com.balazsh.inventory.domain.model.ProductEntry;
+import com.balazsh.inventory.domain.model.ProductPurchase;
+import com.balazsh.inventory.domain.model.ProductSale;
+import com.balazsh.inventory.domain.model.ReportResult;
+import com.balazsh.inventory.domain.report.PartitionedReport;
+import com.balazsh.inventory.domain.report.ReportFormat;
+import com.balazsh.inventory.domain.report.ReportType;
+import com.balazsh.inventory.domain.reservation.StockReservations;
+import com.balazsh.inventory.domain.reservation.StockReservations.Reservation;
+import com.balazsh.inventory.domain.search.ProductSearchIndex;
+import com.balazsh.inventory.domain.search.ProductSearchIndex.ProductDocument;
 import com.balazsh.inventory.entity.*;
-import com.balazsh.inventory.entity.json.UniqueAttributes;
 import com.balazsh.inventory.util.HibernateUtil;
 import com.balazsh.inventory.util.exceptions.ProductProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import jakarta.persistence.NoResultException;
 import org.hibernate.Session;
 import org.hibernate.Transaction;
+import org.hibernate.exception.ConstraintViolationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
-import java.io.BufferedWriter;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * Product service handling business logic for inventory management operations.
@@ -25,12 +48,29 @@ import java.util.List;
  */
 public class ProductService {
 
+    private static final Logger logger = LoggerFactory.getLogger(ProductService.class);
+
     private final ProductDAO productDAO; // Data access for product operations
-    private final UserDAO userDAO; // Data access for user operations
+    private final ProductSearchIndex searchIndex; // In-memory product text search
+    private final TransactionLedger transactionLedger; // Write-behind audit trail of stock movements
+    private final StockReservations stockReservations; // In-memory availability checked before the stock update
+    private final ProcessedOperationDAO processedOperationDAO; // Idempotency records of booked operations
+    private final RecentOperations recentOperations; // Recently booked operation ids, checked before the database
+
+    public ProductService(ProductDAO productDAO) {
+        this(productDAO, ProductSearchIndex.getInstance(), TransactionLedger.getInstance(), StockReservations.getInstance(),
+                new ProcessedOperationDAOImpl(), RecentOperations.getInstance());
+    }
 
-    public ProductService(ProductDAO productDAO, UserDAO userDAO) {
+    public ProductService(ProductDAO productDAO, ProductSearchIndex searchIndex, TransactionLedger transactionLedger,
+                          StockReservations stockReservations, ProcessedOperationDAO processedOperationDAO,
+                          RecentOperations recentOperations) {
         this.productDAO = productDAO;
-        this.userDAO = userDAO;
+        this.searchIndex = searchIndex;
+        this.transactionLedger = transactionLedger;
+        this.stockReservations = stockReservations;
+        this.processedOperationDAO = processedOperationDAO;
+        this.recentOperations = recentOperations;
     }
 
     /** Maps database query result objects to ProductEntry models for UI display */
@@ -42,7 +82,7 @@ public class ProductService {
             productEntry.setName((String) productObject[1]);
             productEntry.setCategory((String) productObject[2]);
             productEntry.setNumberOfProductsAvailableForPurchase((Integer) productObject[3]);
-            productEntry.setInStock((Integer) productObject[4]);
+            productEntry.setInStock(((Number) productObject[4]).intValue());
             productEntry.setImage((String) productObject[5]);
             productEntryList.add(productEntry);
         }
@@ -52,19 +92,12 @@ public class ProductService {
     /** Retrieves all products with stock and listing information for dashboard display */
     public List<ProductEntry> fetchProducts() {
         Transaction transaction = null;
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+        try (Session session = HibernateUtil.openReadSession()) {
             transaction = session.beginTransaction();
 
             // Complex query joining products with stocks, listings, and images
-            List<Object[]> productObjectList = session.createQuery(
-                    "SELECT p.id, p.name, p.category.categoryName, " +
-                            "SIZE(p.listings), s.quantity, i.filePath " +
-                            "FROM Product p " +
-                            "LEFT JOIN p.stocks s " +
-                            "LEFT JOIN ProductImage pi ON pi.product.id = p.id " +
-                            "LEFT JOIN pi.image i",
-                    Object[].class
-            ).getResultList();
+            List<Object[]> productObjectList = session.createNamedQuery(Product.FETCH_PRODUCT_ENTRIES, Object[].class)
+                    .getResultList();
 
             transaction.commit();
             return mapObjectListToProductEntryList(productObjectList);
@@ -77,240 +110,362 @@ public class ProductService {
         }
     }
 
-    /** Processes product purchase (restocking) with stock validation and order creation */
-    public void buyProduct(int id, String orderMakerUser, int quantityRequested) {
-        Transaction transaction = null;
-        try(Session session = HibernateUtil.getSessionFactory().openSession()) {
-            transaction = session.beginTransaction();
+    /** Builds the product search index from a streamed projection of the catalog and logs its footprint */
+    public void buildSearchIndex() {
+        try (Session session = HibernateUtil.openReadSession();
+             Stream<Object[]> rows = session.createNamedQuery(Product.SEARCH_DOCUMENTS, Object[].class)
+                     .setReadOnly(true)
+                     .setFetchSize(HibernateUtil.JDBC_FETCH_SIZE)
+                     .getResultStream()) {
 
-            Product productToBuy = productDAO.findById(id, session);
+            searchIndex.rebuild(rows.map(row -> new ProductDocument(
+                    (Integer) row[0], (String) row[1], (String) row[2], (String) row[3])));
 
-            User user = userDAO.findUserByName(orderMakerUser, session);
+            ProductSearchIndex.IndexStats stats = searchIndex.stats();
+            logger.info("Product search index built: {} products, {} trigrams, {} postings, ~{} KB",
+                    stats.products(), stats.trigrams(), stats.postings(), stats.estimatedBytes() / 1024);
 
-            // Retrieve product stock information
-            Stock stock = productToBuy.getStocks()
-                    .stream()
-                    .findFirst()
-                    .orElseThrow(()->new ProductProcessingException("No stock found for product id: " + id));
+        } catch (Exception e) {
+            throw new ProductProcessingException("Unexpected error has occurred");
+        }
+    }
 
-            // Validate against maximum stock capacity
-            if (quantityRequested > stock.getMaxStock()) {
-                throw new ProductProcessingException("Max stock has been reached for product id: " + id);
-            }
+    /** Whether product searches can be answered from the in-memory index */
+    public boolean isSearchIndexReady() {
+        return searchIndex.isReady();
+    }
 
-            // Update stock quantity (increase for purchase/restock)
-            stock.setQuantity(stock.getQuantity() + quantityRequested);
+    /** Returns ids of products matching the query in name, category or description, best match first */
+    public List<Integer> searchProducts(String query) {
+        return searchIndex.search(query, Integer.MAX_VALUE);
+    }
 
-            // Create purchase order record
-            Order order = new Order();
-            order.setProduct(productToBuy);
-            order.setUser(user);
-            order.setQuantity(quantityRequested);
-            order.setCost(productToBuy.getCost());
+    /** Processes product purchase (restocking) as a new operation, on behalf of the logged-in user */
+    public void buyProduct(int id, int userId, int quantityRequested) {
+        buyProduct(UUID.randomUUID(), id, userId, quantityRequested);
+    }
 
-            session.persist(order);
-            session.merge(stock);
+    /**
+     * Processes product purchase (restocking) with stock validation and order creation, on behalf of the logged-in user.
+     * A retry with the operation id of a purchase that was already booked returns without booking it again.
+     */
+    public void buyProduct(UUID operationId, int id, int userId, int quantityRequested) {
+        if (recentOperations.contains(operationId)) {
+            return;
+        }
+        requirePositive(quantityRequested);
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            Transaction transaction = session.beginTransaction();
+            try {
+                if (!claimOperation(OperationRecord.purchase(operationId, id, quantityRequested), session)) {
+                    transaction.rollback();
+                    return;
+                }
 
-            transaction.commit();
+                Product productToBuy = productDAO.findById(id, session);
+
+                // Increase stock in one conditional statement, validated against maximum stock capacity
+                if (productDAO.addStock(id, quantityRequested, session) == 0) {
+                    productDAO.findStockQuantity(id, session)
+                            .orElseThrow(() -> new ProductProcessingException("No stock found for product id: " + id));
+                    throw new ProductProcessingException("Max stock has been reached for product id: " + id);
+                }
 
-        }catch (NoResultException e) {
+                // Create purchase order record
+                Order order = new Order();
+                order.setProduct(productToBuy);
+                order.setUser(session.getReference(User.class, userId));
+                order.setQuantity(quantityRequested);
+                order.setCost(productToBuy.getCost());
+
+                session.persist(order);
+
+                transaction.commit();
+                recentOperations.remember(operationId);
+                stockReservations.invalidate(id);
+                transactionLedger.record(LedgerEntry.purchase(id, userId, quantityRequested, productToBuy.getCost()));
+            } catch (RuntimeException e) {
+                rollback(transaction);
+                throw e;
+            }
+        } catch (ProductProcessingException e) {
+            throw e;
+        } catch (Exception e) {
+            logger.error("Purchase of {} units of product {} failed", quantityRequested, id, e);
             throw new ProductProcessingException("Unexpected error has occurred");
         }
     }
+    public void sellProduct(int id, int userId, int quantityRequested, int price) {
+        sellProduct(UUID.randomUUID(), id, userId, quantityRequested, price);
+    }
 
-    /** Processes product sale with stock validation and listing creation */
-    public void sellProduct(int id, String saleMakerUser, int quantityRequested, int price) {
-        Transaction transaction = null;
-        try(Session session = HibernateUtil.getSessionFactory().openSession()) {
-            transaction = session.beginTransaction();
+    /**
+     * Processes product sale with stock validation and listing creation.
+     * The quantity is reserved in memory first, so most oversells are rejected without a database round trip;
+     * the availability check and the decrement are then one conditional update, so concurrent sales cannot oversell.
+     * A retry with the operation id of a sale that was already booked returns without booking it again.
+     */
+    public void sellProduct(UUID operationId, int id, int userId, int quantityRequested, int price) {
+        if (recentOperations.contains(operationId)) {
+            return;
+        }
+        requirePositive(quantityRequested);
+        Optional<Reservation> reserved = stockReservations.reserve(id, quantityRequested);
+        if (reserved.isEmpty()) {
+            // A retried sale may itself have taken the stock it now finds missing
+            if (isProcessed(operationId)) {
+                return;
+            }
+            throw new ProductProcessingException("Insufficient stock quantity for product id: " + id
+                    + ". Available quantity: " + stockReservations.available(id).orElse(0) + ", Requested: " + quantityRequested);
+        }
+        Reservation reservation = reserved.get();
 
-            Product productToSell = productDAO.findById(id, session);
+        boolean committed = false;
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            Transaction transaction = session.beginTransaction();
+            try {
+                if (!claimOperation(OperationRecord.sale(operationId, id, quantityRequested), session)) {
+                    transaction.rollback();
+                    return;
+                }
 
-            User user = userDAO.findUserByName(saleMakerUser, session);
+                // Decrease stock only if enough is available; no row updated means the sale is rejected
+                if (productDAO.takeStock(id, quantityRequested, session) == 0) {
+                    // The in-memory counter read high, reload it before the next sale
+                    stockReservations.invalidate(id);
+                    Integer available = productDAO.findStockQuantity(id, session)
+                            .orElseThrow(() -> new ProductProcessingException("No stock found for product id: " + id));
+                    throw new ProductProcessingException("Insufficient stock quantity for product id: " + id
+                            + ". Available quantity: " + available + ", Requested: " + quantityRequested);
+                }
 
-            // Retrieve product stock information
-            Stock stock = productToSell.getStocks()
-                    .stream()
-                    .findFirst()
-                    .orElseThrow(()->new ProductProcessingException("No stock found for product id: " + id));
+                // Create sales listing with pricing information, referencing the product without loading it
+                Listing listing = new Listing();
+                listing.setProduct(session.getReference(Product.class, id));
+                listing.setQuantity(quantityRequested);
+                listing.setUnitPrice(price);
+                listing.setTotalPrice(price * quantityRequested);
+                listing.setListingStatus("active");
+                listing.setListedBy(session.getReference(User.class, userId));
+
+                session.persist(listing);
+                session.flush();
+
+                // Confirmed before the commit, so a counter reloaded meanwhile can only read high, never low
+                stockReservations.confirm(reservation);
+                transaction.commit();
+                committed = true;
+                recentOperations.remember(operationId);
+                transactionLedger.record(LedgerEntry.sale(id, userId, quantityRequested, price));
+            } catch (RuntimeException e) {
+                rollback(transaction);
+                throw e;
+            }
+        } catch (ProductProcessingException e) {
+            throw e;
+        } catch (Exception e) {
+            logger.error("Sale of {} units of product {} failed", quantityRequested, id, e);
+            throw new ProductProcessingException("Unexpected error has occurred");
+        } finally {
+            if (!committed) {
+                // A rejected or failed sale gives the quantity back, or reloads the counter if it was already confirmed
+                stockReservations.release(reservation);
+            }
+        }
+    }
 
-            // Validate sufficient stock for sale
-            if (stock.getQuantity() <= quantityRequested) {
-                throw new ProductProcessingException("Insufficient stock quantity for product id: " + id
-                        + "Available quantity: " + stock.getQuantity() + ", Requested: " + quantityRequested);
+    /**
+     * Books a basket of sales and purchases in one transaction and returns one result per line, sales first.
+     * All stock changes go out as one JDBC batch ordered by product id, so concurrent baskets lock stock rows
+     * in the same order; listings and orders for the accepted lines follow as two more batches.
+     * Lines rejected for insufficient or excess stock do not prevent the others from committing.
+     * Lines whose operation id was already booked, or repeats within the basket, are skipped and reported as completed.
+     */
+    public List<BatchLineResult> processBatch(List<ProductSale> sales, List<ProductPurchase> purchases, int userId) {
+        List<StockChange> changes = new ArrayList<>();
+        sales.forEach(sale -> changes.add(new StockChange(sale.productId(), -sale.quantity())));
+        purchases.forEach(purchase -> changes.add(new StockChange(purchase.productId(), purchase.quantity())));
+        List<UUID> operationIds = new ArrayList<>(changes.size());
+        sales.forEach(sale -> operationIds.add(sale.operationId()));
+        purchases.forEach(purchase -> operationIds.add(purchase.operationId()));
+
+        boolean[] alreadyBooked = new boolean[changes.size()];
+        int[] updatedRows = new int[changes.size()];
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            Transaction transaction = session.beginTransaction();
+
+            // Only ids missing from the recent operations cache are looked up
+            Set<UUID> bookedIds = new HashSet<>(operationIds);
+            bookedIds.removeIf(operationId -> !recentOperations.contains(operationId));
+            bookedIds.addAll(processedOperationDAO.findProcessed(
+                    operationIds.stream().filter(operationId -> !bookedIds.contains(operationId)).toList(), session));
+            Set<UUID> seenIds = new HashSet<>();
+            for (int i = 0; i < changes.size(); i++) {
+                alreadyBooked[i] = bookedIds.contains(operationIds.get(i)) || !seenIds.add(operationIds.get(i));
             }
 
-            // Create sales listing with pricing information
-            Listing listing = new Listing();
-            listing.setProduct(productToSell);
-            listing.setQuantity(quantityRequested);
-            listing.setUnitPrice(price);
-            listing.setTotalPrice(price * quantityRequested);
-            listing.setListingStatus("active");
-            listing.setListedBy(user);
+            // Lines with a non-positive quantity are rejected without touching the database
+            List<Integer> applyOrder = IntStream.range(0, changes.size())
+                    .filter(i -> !alreadyBooked[i])
+                    .filter(i -> i < sales.size() ? sales.get(i).quantity() > 0 : purchases.get(i - sales.size()).quantity() > 0)
+                    .boxed()
+                    .sorted(Comparator.comparingInt(i -> changes.get(i).productId()))
+                    .toList();
+
+            int[] appliedRows = productDAO.applyStockChanges(applyOrder.stream().map(changes::get).toList(), session);
+            for (int i = 0; i < appliedRows.length; i++) {
+                updatedRows[applyOrder.get(i)] = appliedRows[i];
+            }
 
-            // Update stock quantity (decrease for sale)
-            stock.setQuantity(stock.getQuantity() - quantityRequested);
+            // Sales no single location could fill are split across the product's locations, still in product order
+            for (int line : applyOrder) {
+                if (line < sales.size() && updatedRows[line] == 0) {
+                    updatedRows[line] = productDAO.takeStock(sales.get(line).productId(), sales.get(line).quantity(), session);
+                }
+            }
 
-            session.merge(stock);
-            session.persist(listing);
-            session.flush();
+            List<ProductSale> completedSales = IntStream.range(0, sales.size())
+                    .filter(i -> updatedRows[i] > 0)
+                    .mapToObj(sales::get)
+                    .toList();
+            List<ProductPurchase> completedPurchases = IntStream.range(0, purchases.size())
+                    .filter(i -> updatedRows[sales.size() + i] > 0)
+                    .mapToObj(purchases::get)
+                    .toList();
+            productDAO.saveListings(completedSales, userId, session);
+            productDAO.saveOrders(completedPurchases, userId, session);
+
+            List<OperationRecord> completedOperations = new ArrayList<>();
+            completedSales.forEach(sale -> completedOperations.add(
+                    OperationRecord.sale(sale.operationId(), sale.productId(), sale.quantity())));
+            completedPurchases.forEach(purchase -> completedOperations.add(
+                    OperationRecord.purchase(purchase.operationId(), purchase.productId(), purchase.quantity())));
+            processedOperationDAO.saveAll(completedOperations, session);
 
             transaction.commit();
+            completedOperations.forEach(operation -> recentOperations.remember(operation.operationId()));
+            changes.forEach(change -> stockReservations.invalidate(change.productId()));
+
+            // Purchases are recorded at the product's cost when the ledger writes them
+            completedSales.forEach(sale -> transactionLedger.record(
+                    LedgerEntry.sale(sale.productId(), userId, sale.quantity(), sale.price())));
+            completedPurchases.forEach(purchase -> transactionLedger.record(
+                    LedgerEntry.purchase(purchase.productId(), userId, purchase.quantity(), null)));
+
+        } catch (Exception e) {
+            logger.error("Batch of {} sales and {} purchases failed", sales.size(), purchases.size(), e);
+            throw new ProductProcessingException("The batch could not be booked, no changes were made");
+        }
 
-        }catch (NoResultException e) {
-            throw new ProductProcessingException("Unexpected error has occurred");
+        List<BatchLineResult> results = new ArrayList<>(changes.size());
+        for (int i = 0; i < sales.size(); i++) {
+            ProductSale sale = sales.get(i);
+            results.add(alreadyBooked[i]
+                    ? new BatchLineResult("sale", sale.productId(), sale.quantity(), true, "Already completed")
+                    : lineResult("sale", sale.productId(), sale.quantity(), updatedRows[i] > 0,
+                            "Insufficient stock quantity for product id: " + sale.productId()));
+        }
+        for (int i = 0; i < purchases.size(); i++) {
+            ProductPurchase purchase = purchases.get(i);
+            results.add(alreadyBooked[sales.size() + i]
+                    ? new BatchLineResult("purchase", purchase.productId(), purchase.quantity(), true, "Already completed")
+                    : lineResult("purchase", purchase.productId(), purchase.quantity(), updatedRows[sales.size() + i] > 0,
+                            "Max stock has been reached for product id: " + purchase.productId()));
         }
+        return results;
     }
 
-    /** Generates stock summary report for selected products and exports to file */
-    public void printProductStockDetailsToFile(List<Integer> productIds) {
-        List<Object[]> productStockDetails;
-        Transaction transaction = null;
-        try(Session session = HibernateUtil.getSessionFactory().openSession()){
-            transaction = session.beginTransaction();
+    /**
+     * Inserts the operation's idempotency record before any stock is touched. A duplicate waits on the
+     * primary key until the first booking commits or rolls back; returns false if it was already booked.
+     */
+    private boolean claimOperation(OperationRecord operation, Session session) {
+        try {
+            processedOperationDAO.save(operation, session);
+            return true;
+        } catch (ConstraintViolationException e) {
+            recentOperations.remember(operation.operationId());
+            logger.info("Operation {} was already booked, not booking it again", operation.operationId());
+            return false;
+        }
+    }
 
-            // Aggregate query for stock summary with financial calculations
-            productStockDetails = session.createQuery(
-                    "SELECT " +
-                            "p.id, p.name, " +
-                            "SUM(s.quantity), " +
-                            "COALESCE(SUM(l.totalPrice), 0), " +
-                            "SUM(s.quantity * p.cost) " +
-                            "FROM Product p " +
-                            "LEFT JOIN p.listings l " +
-                            "LEFT JOIN p.stocks s " +
-                            "WHERE p.id IN (:productIds) " +
-                            "GROUP BY p.id, p.name", Object[].class)
-                    .setParameterList("productIds", productIds)
-                    .getResultList();
+    /** Rolls back a transaction that is still active, while its session is open */
+    private static void rollback(Transaction transaction) {
+        if (transaction.isActive()) {
+            transaction.rollback();
+        }
+    }
 
-            transaction.commit();
-        }catch (Exception e){
-            if (transaction != null && transaction.isActive()) {
-                transaction.rollback();
+    /** Whether the operation was booked by an earlier attempt */
+    private boolean isProcessed(UUID operationId) {
+        try (Session session = HibernateUtil.openReadSession()) {
+            if (processedOperationDAO.findProcessed(List.of(operationId), session).isEmpty()) {
+                return false;
             }
-            throw new ProductProcessingException("Unexpected error has occurred");
         }
-        writeProductStockDetailsToFile(productStockDetails);
+        recentOperations.remember(operationId);
+        return true;
     }
 
-    /** Writes stock summary data to formatted text file */
-    public void writeProductStockDetailsToFile(List<Object[]> productStockDetails){
-        try(BufferedWriter writer = new BufferedWriter(new FileWriter("product_stock_details.txt"))){
-            
-            for (Object[] productStockDetail : productStockDetails) {
-                StringBuilder stringBuilder = new StringBuilder();
-                
-                stringBuilder.append("Product Id: ").append(productStockDetail[0]).append("\n");
-                stringBuilder.append("Name: ").append(productStockDetail[1]).append("\n");
-                stringBuilder.append("Stock quantity: ").append(productStockDetail[2]).append("\n");
-                stringBuilder.append("Total sale value: ").append(productStockDetail[3]).append("\n");
-                stringBuilder.append("Total cost value: ").append(productStockDetail[4]).append("\n");
-                stringBuilder.append("=".repeat(20)).append("\n");
-
-                writer.write(stringBuilder.toString());
-            }
+    private static BatchLineResult lineResult(String operation, int productId, int quantity, boolean applied, String stockMessage) {
+        if (applied) {
+            return new BatchLineResult(operation, productId, quantity, true, "Completed");
+        }
+        String message = quantity <= 0 ? "Quantity must be greater than zero" : stockMessage;
+        return new BatchLineResult(operation, productId, quantity, false, message);
+    }
 
-        }catch (IOException e){
-            throw new ProductProcessingException("Error while writing to file");
+    private static void requirePositive(int quantityRequested) {
+        if (quantityRequested <= 0) {
+            throw new ProductProcessingException("Quantity must be greater than zero");
         }
     }
 
-    /** Generates comprehensive product details report for selected products */
-    public void printProductDetailsToFile(List<Integer> productIds) {
-        List<Object[]> productDetails;
-        Transaction transaction = null;
-        try(Session session = HibernateUtil.getSessionFactory().openSession()){
-            transaction = session.beginTransaction();
-            
-            // Query including product attributes and relationships
-            productDetails = session.createQuery(
-                    "select " +
-                            "p.id,p.name, p.category.categoryName ,p.colour,p.cost,p.description, " +
-                            "p.uniqueAttributes, SIZE(p.listings), SIZE(p.orders), s.quantity  " +
-                            "from Product p left join p.stocks s where p.id in (:productIds)", Object[].class)
-                    .setParameterList("productIds", productIds)
-                    .getResultList();
+    /** Generates stock summary report for selected products and streams it to a text file */
+    public ReportResult printProductStockDetailsToFile(List<Integer> productIds) {
+        return printProductStockDetailsToFile(productIds, ReportFormat.TEXT);
+    }
 
-            if (productDetails.isEmpty()){
-                throw new ProductProcessingException("No products found for the given IDs");
-            }
-            transaction.commit();
-        }catch (Exception e){
-            if (transaction != null && transaction.isActive()) {
-                transaction.rollback();
-            }
+    /** Generates stock summary report for selected products and streams it to a file in the format */
+    public ReportResult printProductStockDetailsToFile(List<Integer> productIds, ReportFormat format) {
+        try {
+            // Aggregate query for stock summary with financial calculations
+            return PartitionedReport.getInstance().run(productIds, productDAO::streamStockSummary,
+                    ReportType.STOCK_SUMMARY, format::newWriter, Path.of(ReportType.STOCK_SUMMARY.fileName(format)));
+        } catch (IOException e) {
+            throw new ProductProcessingException("Error while writing to file");
+        } catch (Exception e) {
             throw new ProductProcessingException("Unexpected error has occurred");
         }
-        writeToFile(productDetails);
     }
 
-    /** Writes detailed product information to formatted text file with JSON attribute parsing */
-    private void writeToFile(List<Object[]> productDetails) {
-        ObjectMapper mapper = new ObjectMapper();
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter("product_details.txt"))) {
-
-            for (Object[] productDetail : productDetails) {
-                StringBuilder stringBuilder = new StringBuilder();
-                stringBuilder.append("Product ID: ").append(productDetail[0]).append("\n");
-                stringBuilder.append("Name: ").append(productDetail[1]).append("\n");
-                stringBuilder.append("Category: ").append(productDetail[2]).append("\n");
-                stringBuilder.append("Colour: ").append(productDetail[3]).append("\n");
-                stringBuilder.append("Cost: ").append(productDetail[4]).append("\n");
-                stringBuilder.append("Description: ").append(productDetail[5]).append("\n");
-                
-                // Handle unique attributes JSON parsing and formatting
-                if (productDetail[6] != null) {
-                    try {
-                        UniqueAttributes uniqueAttributes = mapper.readValue(
-                                productDetail[6].toString(), UniqueAttributes.class);
-                        
-                        // Format attributes
-                        stringBuilder.append("Product Attributes:\n");
-                        if (uniqueAttributes.getAttributeList() != null && !uniqueAttributes.getAttributeList().isEmpty()) {
-                            uniqueAttributes.getAttributeList().forEach(attr -> {
-                                stringBuilder.append("  - ").append(attr.getAttributeName())
-                                           .append(": ").append(attr.getAttributeValue());
-                                if (attr.getUnit() != null && !attr.getUnit().isEmpty()) {
-                                    stringBuilder.append(" ").append(attr.getUnit());
-                                }
-                                stringBuilder.append(" (").append(attr.getDataType()).append(")\n");
-                            });
-                        } else {
-                            stringBuilder.append("  No attributes\n");
-                        }
-                        
-                        // Format components
-                        stringBuilder.append("Product Components:\n");
-                        if (uniqueAttributes.getComponentList() != null && !uniqueAttributes.getComponentList().isEmpty()) {
-                            uniqueAttributes.getComponentList().forEach(comp -> {
-                                stringBuilder.append("  - ").append(comp.getDisplayName())
-                                           .append(" (ID: ").append(comp.getProductId()).append(")\n");
-                            });
-                        } else {
-                            stringBuilder.append("  No components\n");
-                        }
-                        
-                    } catch (Exception jsonException) {
-                        stringBuilder.append("Product Attributes: Error parsing JSON - ")
-                                   .append(productDetail[6]).append("\n");
-                    }
-                } else {
-                    stringBuilder.append("Product Attributes: None\n");
-                }
-                
-                stringBuilder.append("Number of Listings: ").append(productDetail[7]).append("\n");
-                stringBuilder.append("Number of Orders: ").append(productDetail[8]).append("\n");
-                stringBuilder.append("In stock: ").append(productDetail[9]).append("\n");
-                stringBuilder.append("=".repeat(20)).append("\n");
-
-                writer.write(stringBuilder.toString());
-            }
+    /**
+     * Generates comprehensive product details report for selected products and streams it to file.
+     * Partitions of the selection are queried concurrently and appended in id order, so memory use does
+     * not grow with the number of products; the elapsed time, rows per second and speedup are returned.
+     */
+    public ReportResult printProductDetailsToFile(List<Integer> productIds) {
+        return printProductDetailsToFile(productIds, ReportFormat.TEXT);
+    }
 
+    /** Generates the product details report for selected products and streams it to a file in the format */
+    public ReportResult printProductDetailsToFile(List<Integer> productIds, ReportFormat format) {
+        ReportResult result;
+        try {
+            // Query including product attributes and relationships
+            result = PartitionedReport.getInstance().run(productIds, productDAO::streamDetailsReport,
+                    ReportType.PRODUCT_DETAILS, format::newWriter, Path.of(ReportType.PRODUCT_DETAILS.fileName(format)));
         } catch (IOException e) {
             throw new ProductProcessingException("Failed to write product details to file");
+        } catch (Exception e) {
+            throw new ProductProcessingException("Unexpected error has occurred");
+        }
+        if (result.rows() == 0) {
+            throw new ProductProcessingException("No products found for the given IDs");
         }
+        return result;
     }
 
 }
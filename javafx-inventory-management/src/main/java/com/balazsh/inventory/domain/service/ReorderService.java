@@ -0,0 +1,80 @@
+package com.balazsh.inventory.domain.service;
+
+import com.balazsh.inventory.dao.OrderDAO;
+import com.balazsh.inventory.dao.ProductDAO;
+import com.balazsh.inventory.domain.ledger.TransactionLedger;
+import com.balazsh.inventory.domain.model.LedgerEntry;
+import com.balazsh.inventory.domain.model.PendingReorder;
+import com.balazsh.inventory.domain.reservation.StockReservations;
+import com.balazsh.inventory.util.HibernateUtil;
+import com.balazsh.inventory.util.exceptions.ProductProcessingException;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reorder service listing the pending reorders raised by the replenishment engine
+ * and booking them into stock when the goods arrive.
+ */
+public class ReorderService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReorderService.class);
+
+    private final OrderDAO orderDAO; // Data access for reorders
+    private final ProductDAO productDAO; // Data access for stock locations
+    private final TransactionLedger transactionLedger; // Write-behind audit trail of stock movements
+    private final StockReservations stockReservations; // In-memory availability reloaded after restocking
+
+    public ReorderService(OrderDAO orderDAO, ProductDAO productDAO) {
+        this(orderDAO, productDAO, TransactionLedger.getInstance(), StockReservations.getInstance());
+    }
+
+    public ReorderService(OrderDAO orderDAO, ProductDAO productDAO, TransactionLedger transactionLedger,
+                          StockReservations stockReservations) {
+        this.orderDAO = orderDAO;
+        this.productDAO = productDAO;
+        this.transactionLedger = transactionLedger;
+        this.stockReservations = stockReservations;
+    }
+
+    /** Retrieves every pending reorder, oldest first */
+    public List<PendingReorder> fetchPendingReorders() {
+        try (Session session = HibernateUtil.openReadSession()) {
+            return orderDAO.findPendingReorders(session);
+        } catch (Exception e) {
+            throw new ProductProcessingException("Unexpected error has occurred");
+        }
+    }
+
+    /**
+     * Adds each reorder's quantity to its stock location and completes it, all in one transaction.
+     * Reorders already received elsewhere are skipped; returns how many were received.
+     */
+    public int receiveReorders(List<PendingReorder> reorders, int userId) {
+        List<PendingReorder> received = new ArrayList<>();
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            session.beginTransaction();
+
+            for (PendingReorder reorder : reorders) {
+                if (orderDAO.markReceived(reorder.orderId(), session)) {
+                    productDAO.addStockToLocation(reorder.stockId(), reorder.quantity(), session);
+                    received.add(reorder);
+                }
+            }
+
+            session.getTransaction().commit();
+        } catch (Exception e) {
+            logger.error("Receiving {} reorders failed", reorders.size(), e);
+            throw new ProductProcessingException("The reorders could not be received, no changes were made");
+        }
+
+        for (PendingReorder reorder : received) {
+            stockReservations.invalidate(reorder.productId());
+            transactionLedger.record(LedgerEntry.purchase(reorder.productId(), userId, reorder.quantity(), reorder.cost()));
+        }
+        return received.size();
+    }
+}
@@ -49,7 +49,7 @@ public class UserService {
     /** Retrieves all users with pending approval status with transaction management */
     public List<UserEntry> getAllPendingUsers(){
         Transaction tx = null;
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+        try (Session session = HibernateUtil.openReadSession()) {
             tx = session.beginTransaction();
 
             List<User> users = userDAO.getAllPendingUsers(session);
@@ -1,11 +1,32 @@
 package com.balazsh.inventory.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.Nationalized;
 
+import java.time.LocalDateTime;
+
 @Entity
-@Table(name = "Listing", schema = "new")
+@NamedQuery(name = Listing.EXPIRE_LISTED_BEFORE,
+        query = "update Listing l set l.listingStatus = 'expired' "
+                + "where l.listingStatus = 'active' and l.listedAt < :cutoff")
+@NamedQuery(name = Listing.CLOSE_BY_PRODUCT,
+        query = "update Listing l set l.listingStatus = 'closed' "
+                + "where l.listingStatus = 'active' and l.product.id = :productId")
+@NamedQuery(name = Listing.REPRICE_BY_PRODUCT,
+        query = "update Listing l set l.unitPrice = l.unitPrice * (100 + :percent) / 100, "
+                + "l.totalPrice = l.quantity * (l.unitPrice * (100 + :percent) / 100) "
+                + "where l.listingStatus = 'active' and l.product.id = :productId")
+@Table(name = "Listing", schema = "new", indexes = {
+        @Index(name = "IX_Listing_status_listed_at", columnList = "listing_status, listed_at"),
+        @Index(name = "IX_Listing_product_id", columnList = "product_id, listing_status")})
 public class Listing {
+    /** Marks every active listing listed before the cutoff as expired */
+    public static final String EXPIRE_LISTED_BEFORE = "Listing.expireListedBefore";
+    /** Marks every active listing of a product as closed */
+    public static final String CLOSE_BY_PRODUCT = "Listing.closeByProduct";
+    /** Changes the unit and total price of every active listing of a product by a percentage, rounded down */
+    public static final String REPRICE_BY_PRODUCT = "Listing.repriceByProduct";
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "listing_id", nullable = false)
@@ -32,6 +53,10 @@ public class Listing {
     @JoinColumn(name = "listed_by", nullable = false)
     private User listedBy;
 
+    @ColumnDefault("current_timestamp")
+    @Column(name = "listed_at", nullable = false, insertable = false, updatable = false)
+    private LocalDateTime listedAt; // Set by the database when the listing is inserted
+
     public Integer getId() {
         return id;
     }
@@ -88,4 +113,8 @@ public class Listing {
         this.listedBy = listedBy;
     }
 
+    public LocalDateTime getListedAt() {
+        return listedAt;
+    }
+
 }
\ No newline at end of file
@@ -1,8 +1,13 @@
 package com.balazsh.inventory.entity;
 
+import com.balazsh.inventory.util.CacheUtil;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheUtil.REFERENCE_REGION)
 @Table(name = "Operation", schema = "new")
 public class Operation {
     @Id
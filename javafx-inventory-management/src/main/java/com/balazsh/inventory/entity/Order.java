@@ -1,10 +1,22 @@
 package com.balazsh.inventory.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
+@NamedQuery(name = Order.FIND_PENDING_REORDERS,
+        query = "select o.id, p.id, p.name, o.stock.id, o.quantity, o.cost "
+                + "from Order o join o.product p where o.orderStatus = 'pending' order by o.id",
+        resultClass = Object[].class)
+@NamedQuery(name = Order.MARK_RECEIVED,
+        query = "update Order o set o.orderStatus = 'completed' where o.id = :orderId and o.orderStatus = 'pending'")
 @Table(name = "\"Order\"", schema = "new")
 public class Order {
+    /** Pending reorders: order id, product id, product name, stock location id, quantity and unit cost */
+    public static final String FIND_PENDING_REORDERS = "Order.findPendingReorders";
+    /** Completes a pending reorder, updating no row if it was already received */
+    public static final String MARK_RECEIVED = "Order.markReceived";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "order_id", nullable = false)
@@ -24,6 +36,14 @@ public class Order {
     @Column(name = "cost", nullable = false)
     private Integer cost;
 
+    @ColumnDefault("'completed'")
+    @Column(name = "order_status", nullable = false, length = 20)
+    private String orderStatus = "completed";
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "stock_id")
+    private Stock stock; // Location a pending reorder restocks, null for direct purchases
+
     public Integer getId() {
         return id;
     }
@@ -64,4 +84,19 @@ public class Order {
         this.cost = cost;
     }
 
+    public String getOrderStatus() {
+        return orderStatus;
+    }
+
+    public void setOrderStatus(String orderStatus) {
+        this.orderStatus = orderStatus;
+    }
+
+    public Stock getStock() {
+        return stock;
+    }
+
+    public void setStock(Stock stock) {
+        this.stock = stock;
+    }
 }
\ No newline at end of file
@@ -1,13 +1,29 @@
 package com.balazsh.inventory.entity;
 
+import com.balazsh.inventory.util.CacheUtil;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.jpa.HibernateHints;
 
 import java.util.LinkedHashSet;
 import java.util.Set;
 
 @Entity
+@NamedQuery(name = Permission.FIND_BY_USER,
+        query = "select distinct p from UserRole ur " +
+                "join ur.role r join r.rolePermissions rp join rp.permission p where ur.user = :user",
+        hints = {
+                @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+                @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheUtil.REFERENCE_QUERY_REGION)
+        })
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheUtil.REFERENCE_REGION)
 @Table(name = "Permission", schema = "new")
 public class Permission {
+    /** Permissions granted to a user through their roles, served from the query cache */
+    public static final String FIND_BY_USER = "Permission.findByUser";
+
     @EmbeddedId
     private PermissionId id;
 
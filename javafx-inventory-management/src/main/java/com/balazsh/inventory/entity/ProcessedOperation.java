@@ -0,0 +1,69 @@
+package com.balazsh.inventory.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.LocalDateTime;
+
+@Entity
+@NamedQuery(name = ProcessedOperation.FIND_PROCESSED_IDS,
+        query = "select o.operationId from ProcessedOperation o where o.operationId in :operationIds",
+        resultClass = String.class)
+@Table(name = "ProcessedOperation", schema = "new")
+public class ProcessedOperation {
+    /** Operation ids among the given ones that have already been booked */
+    public static final String FIND_PROCESSED_IDS = "ProcessedOperation.findProcessedIds";
+
+    @Id
+    @Column(name = "operation_id", nullable = false, length = 36)
+    private String operationId;
+
+    @Column(name = "operation_type", nullable = false, length = 20)
+    private String operationType;
+
+    @Column(name = "product_id", nullable = false)
+    private Integer productId;
+
+    @Column(name = "quantity", nullable = false)
+    private Integer quantity;
+
+    @ColumnDefault("current_timestamp")
+    @Column(name = "processed_at", nullable = false, insertable = false, updatable = false)
+    private LocalDateTime processedAt; // Set by the database, kept for purging old records
+
+    public String getOperationId() {
+        return operationId;
+    }
+
+    public void setOperationId(String operationId) {
+        this.operationId = operationId;
+    }
+
+    public String getOperationType() {
+        return operationType;
+    }
+
+    public void setOperationType(String operationType) {
+        this.operationType = operationType;
+    }
+
+    public Integer getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Integer productId) {
+        this.productId = productId;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+
+    public LocalDateTime getProcessedAt() {
+        return processedAt;
+    }
+}
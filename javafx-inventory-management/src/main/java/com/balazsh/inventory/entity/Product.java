@@ -7,8 +7,51 @@ import java.util.LinkedHashSet;
 import java.util.Set;
 
 @Entity
+@NamedQuery(name = Product.FETCH_PRODUCT_ENTRIES,
+        query = "SELECT p.id, p.name, p.category.categoryName, " +
+                "SIZE(p.listings), COALESCE(st.quantity, 0), i.filePath " +
+                "FROM Product p " +
+                "LEFT JOIN (SELECT s.product.id AS productId, SUM(s.quantity) AS quantity " +
+                "FROM Stock s GROUP BY s.product.id) st ON st.productId = p.id " +
+                "LEFT JOIN ProductImage pi ON pi.product.id = p.id " +
+                "LEFT JOIN pi.image i",
+        resultClass = Object[].class)
+@NamedQuery(name = Product.STOCK_SUMMARY,
+        query = "SELECT " +
+                "p.id, p.name, " +
+                "COALESCE(st.quantity, 0), " +
+                "COALESCE(lt.totalPrice, 0), " +
+                "COALESCE(st.quantity, 0) * p.cost " +
+                "FROM Product p " +
+                "LEFT JOIN (SELECT s.product.id AS productId, SUM(s.quantity) AS quantity " +
+                "FROM Stock s WHERE s.product.id IN (:productIds) GROUP BY s.product.id) st ON st.productId = p.id " +
+                "LEFT JOIN (SELECT l.product.id AS productId, SUM(l.totalPrice) AS totalPrice " +
+                "FROM Listing l WHERE l.product.id IN (:productIds) GROUP BY l.product.id) lt ON lt.productId = p.id " +
+                "WHERE p.id IN (:productIds)",
+        resultClass = Object[].class)
+@NamedQuery(name = Product.DETAILS_REPORT,
+        query = "select " +
+                "p.id,p.name, p.category.categoryName ,p.colour,p.cost,p.description, " +
+                "p.uniqueAttributes, SIZE(p.listings), SIZE(p.orders), coalesce(st.quantity, 0)  " +
+                "from Product p " +
+                "left join (select s.product.id as productId, sum(s.quantity) as quantity " +
+                "from Stock s where s.product.id in (:productIds) group by s.product.id) st on st.productId = p.id " +
+                "where p.id in (:productIds)",
+        resultClass = Object[].class)
+@NamedQuery(name = Product.SEARCH_DOCUMENTS,
+        query = "select p.id, p.name, p.category.categoryName, p.description from Product p",
+        resultClass = Object[].class)
 @Table(name = "Product", schema = "new")
 public class Product {
+    /** Dashboard rows: id, name, category, listing count, stock quantity summed over locations and image path */
+    public static final String FETCH_PRODUCT_ENTRIES = "Product.fetchProductEntries";
+    /** Stock summary per product: id, name, quantity over all locations, listed value and stock value */
+    public static final String STOCK_SUMMARY = "Product.stockSummary";
+    /** Product details report: core fields, attributes JSON, listing and order counts and stock quantity */
+    public static final String DETAILS_REPORT = "Product.detailsReport";
+    /** Search index documents: id, name, category and description */
+    public static final String SEARCH_DOCUMENTS = "Product.searchDocuments";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "product_id", nullable = false)
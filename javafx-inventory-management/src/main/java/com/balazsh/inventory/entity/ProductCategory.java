@@ -1,12 +1,17 @@
 package com.balazsh.inventory.entity;
 
+import com.balazsh.inventory.util.CacheUtil;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.Nationalized;
 
 import java.util.LinkedHashSet;
 import java.util.Set;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheUtil.REFERENCE_REGION)
 @Table(name = "ProductCategory", schema = "new")
 public class ProductCategory {
     @Id
@@ -1,13 +1,28 @@
 package com.balazsh.inventory.entity;
 
+import com.balazsh.inventory.util.CacheUtil;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.jpa.HibernateHints;
 
 import java.util.LinkedHashSet;
 import java.util.Set;
 
 @Entity
+@NamedQuery(name = Role.FIND_BY_NAME,
+        query = "from Role where roleName = :roleName",
+        hints = {
+                @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+                @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheUtil.REFERENCE_QUERY_REGION)
+        })
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheUtil.REFERENCE_REGION)
 @Table(name = "Role", schema = "new")
 public class Role {
+    /** Role lookup by name, served from the query cache */
+    public static final String FIND_BY_NAME = "Role.findByName";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "role_id", nullable = false)
@@ -17,6 +32,7 @@ public class Role {
     private String roleName;
 
     @OneToMany(mappedBy = "role")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheUtil.REFERENCE_REGION)
     private Set<RolePermission> rolePermissions = new LinkedHashSet<>();
 
     @OneToMany(mappedBy = "role")
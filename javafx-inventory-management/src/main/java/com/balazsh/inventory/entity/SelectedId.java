@@ -0,0 +1,21 @@
+package com.balazsh.inventory.entity;
+
+import jakarta.persistence.*;
+
+@Entity
+@Table(name = "SelectedId", schema = "new")
+public class SelectedId {
+    /** Ids staged under :selectionId, used by the multi-id queries in place of an IN list */
+    public static final String SUBQUERY = "(select i.id.entityId from SelectedId i where i.id.selectionId = :selectionId)";
+
+    @EmbeddedId
+    private SelectedIdKey id; // Clustered on the selection first, so a query reads only its own ids
+
+    public SelectedIdKey getId() {
+        return id;
+    }
+
+    public void setId(SelectedIdKey id) {
+        this.id = id;
+    }
+}
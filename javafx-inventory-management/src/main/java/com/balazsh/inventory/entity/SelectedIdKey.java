@@ -0,0 +1,48 @@
+package com.balazsh.inventory.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import org.hibernate.Hibernate;
+
+import java.util.Objects;
+
+@Embeddable
+public class SelectedIdKey implements java.io.Serializable {
+    private static final long serialVersionUID = 4123958270419325517L;
+    @Column(name = "selection_id", nullable = false, length = 36)
+    private String selectionId;
+
+    @Column(name = "entity_id", nullable = false)
+    private Integer entityId;
+
+    public String getSelectionId() {
+        return selectionId;
+    }
+
+    public void setSelectionId(String selectionId) {
+        this.selectionId = selectionId;
+    }
+
+    public Integer getEntityId() {
+        return entityId;
+    }
+
+    public void setEntityId(Integer entityId) {
+        this.entityId = entityId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || Hibernate.getClass(this) != Hibernate.getClass(o)) return false;
+        SelectedIdKey entity = (SelectedIdKey) o;
+        return Objects.equals(this.selectionId, entity.selectionId) &&
+                Objects.equals(this.entityId, entity.entityId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(selectionId, entityId);
+    }
+
+}
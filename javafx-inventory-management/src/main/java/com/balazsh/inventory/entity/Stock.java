@@ -2,10 +2,84 @@ package com.balazsh.inventory.entity;
 
 import jakarta.persistence.*;
 import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.CurrentTimestamp;
+import org.hibernate.annotations.SQLUpdate;
+import org.hibernate.annotations.SourceType;
+import org.hibernate.generator.EventType;
+import org.hibernate.jdbc.Expectation;
+
+import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "Stock", schema = "new")
+@NamedQuery(name = Stock.TAKE_QUANTITY,
+        query = "update versioned Stock s set s.quantity = s.quantity - :quantity, s.updatedAt = local datetime "
+                + "where s.id = (select min(f.id) from Stock f where f.product.id = :productId and f.quantity >= :quantity) "
+                + "and s.quantity >= :quantity")
+@NamedQuery(name = Stock.ADD_QUANTITY,
+        query = "update versioned Stock s set s.quantity = s.quantity + :quantity, s.updatedAt = local datetime "
+                + "where s.id = (select min(f.id) from Stock f where f.product.id = :productId and f.maxStock >= :quantity) "
+                + "and s.maxStock >= :quantity")
+@NamedQuery(name = Stock.FIND_QUANTITY,
+        query = "select sum(s.quantity) from Stock s where s.product.id = :productId",
+        resultClass = Long.class)
+@NamedQuery(name = Stock.LOCK_LOCATIONS,
+        query = "select s from Stock s where s.product.id = :productId and s.quantity > 0 order by s.id",
+        lockMode = LockModeType.PESSIMISTIC_WRITE)
+@NamedQuery(name = Stock.ADD_TO_LOCATION,
+        query = "update versioned Stock s set s.quantity = s.quantity + :quantity, s.updatedAt = local datetime where s.id = :stockId")
+@NamedQuery(name = Stock.DATABASE_TIME,
+        query = "select local datetime",
+        resultClass = LocalDateTime.class)
+@NamedQuery(name = Stock.PRODUCTS_CHANGED_SINCE,
+        query = "select distinct s.product.id from Stock s where s.updatedAt > :since",
+        resultClass = Integer.class)
+@NamedQuery(name = Stock.REORDER_CANDIDATES,
+        query = "select s.id, s.product.id, s.quantity, s.maxStock from Stock s "
+                + "where s.product.id in (:productIds) and s.quantity <= s.reorderPoint and s.quantity < s.maxStock "
+                + "and not exists (select o.id from Order o where o.stock = s and o.orderStatus = 'pending') "
+                + "order by s.id",
+        resultClass = Object[].class)
+@NamedQuery(name = Stock.REORDER_CANDIDATES_SELECTED,
+        query = "select s.id, s.product.id, s.quantity, s.maxStock from Stock s "
+                + "where s.product.id in " + SelectedId.SUBQUERY + " and s.quantity <= s.reorderPoint and s.quantity < s.maxStock "
+                + "and not exists (select o.id from Order o where o.stock = s and o.orderStatus = 'pending') "
+                + "order by s.id",
+        resultClass = Object[].class)
+@NamedQuery(name = Stock.ALL_REORDER_CANDIDATES,
+        query = "select s.id, s.product.id, s.quantity, s.maxStock from Stock s "
+                + "where s.quantity <= s.reorderPoint and s.quantity < s.maxStock "
+                + "and not exists (select o.id from Order o where o.stock = s and o.orderStatus = 'pending') "
+                + "order by s.id",
+        resultClass = Object[].class)
+// Entity updates stamp updated_at from the database clock in the statement itself instead of reading a generated value back
+@SQLUpdate(sql = "update new.Stock set max_stock = ?, min_stock = ?, product_id = ?, quantity = ?, reorder_point = ?, "
+        + "version = ?, updated_at = current_timestamp where stock_id = ? and version = ?",
+        verify = Expectation.RowCount.class)
+@Table(name = "Stock", schema = "new", indexes = {
+        @Index(name = "IX_Stock_product_id", columnList = "product_id, stock_id"),
+        @Index(name = "IX_Stock_updated_at", columnList = "updated_at, product_id")})
 public class Stock {
+    /** Takes the whole quantity from the product's lowest-id location that holds it */
+    public static final String TAKE_QUANTITY = "Stock.takeQuantity";
+    /** Adds the quantity to the product's lowest-id location whose maximum stock admits it */
+    public static final String ADD_QUANTITY = "Stock.addQuantity";
+    /** Total quantity of the product across all of its locations */
+    public static final String FIND_QUANTITY = "Stock.findQuantity";
+    /** Locks the product's non-empty locations in id order, for a sale split across them */
+    public static final String LOCK_LOCATIONS = "Stock.lockLocations";
+    /** Adds the quantity to one location, used when a reorder for it is received */
+    public static final String ADD_TO_LOCATION = "Stock.addToLocation";
+    /** Locations of the given products at or below their reorder point without a pending reorder: id, product id, quantity and max stock */
+    public static final String REORDER_CANDIDATES = "Stock.reorderCandidates";
+    /** Reorder candidates among the products staged under :selectionId */
+    public static final String REORDER_CANDIDATES_SELECTED = "Stock.reorderCandidatesSelected";
+    /** Every location at or below its reorder point without a pending reorder, same columns as REORDER_CANDIDATES */
+    public static final String ALL_REORDER_CANDIDATES = "Stock.allReorderCandidates";
+    /** Current time of the database clock, the clock every updatedAt is taken from */
+    public static final String DATABASE_TIME = "Stock.databaseTime";
+    /** Ids of products with a location inserted or updated after :since */
+    public static final String PRODUCTS_CHANGED_SINCE = "Stock.productsChangedSince";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "stock_id", nullable = false)
@@ -29,6 +103,15 @@ public class Stock {
     @Column(name = "reorder_point", nullable = false)
     private Integer reorderPoint;
 
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Integer version;
+
+    @CurrentTimestamp(event = EventType.INSERT, source = SourceType.DB)
+    @Column(name = "updated_at", nullable = false, updatable = false)
+    private LocalDateTime updatedAt; // Database time of the insert; every update path sets it to current_timestamp in SQL
+
     public Integer getId() {
         return id;
     }
@@ -77,4 +160,16 @@ public class Stock {
         this.reorderPoint = reorderPoint;
     }
 
+    public Integer getVersion() {
+        return version;
+    }
+
+    public void setVersion(Integer version) {
+        this.version = version;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
 }
\ No newline at end of file
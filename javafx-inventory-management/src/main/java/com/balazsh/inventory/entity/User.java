@@ -8,8 +8,18 @@ import java.util.LinkedHashSet;
 import java.util.Set;
 
 @Entity
+@NamedQuery(name = User.FIND_BY_USERNAME,
+        query = "from User where username = :username")
+@NamedQuery(name = User.FIND_BY_ACCOUNT_STATUS,
+        query = "from User u where u.accountStatus = :status")
+@NamedQuery(name = User.UPDATE_ACCOUNT_STATUS,
+        query = "update User u set u.accountStatus = :status where u.id = :id")
 @Table(name = "\"User\"", schema = "new")
 public class User {
+    public static final String FIND_BY_USERNAME = "User.findByUsername";
+    public static final String FIND_BY_ACCOUNT_STATUS = "User.findByAccountStatus";
+    public static final String UPDATE_ACCOUNT_STATUS = "User.updateAccountStatus";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "user_id", nullable = false)
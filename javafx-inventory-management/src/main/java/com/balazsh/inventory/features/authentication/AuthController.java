@@ -52,6 +52,7 @@ public class AuthController {
         userDetails.bindBidirectional(authModel.loggedInUserProperty());
         this.switchToDashboard = switchToDashboard;
         createLoginSuccessListener();
+        authInteractor.trackDatabaseBootstrap();
     }
 
     /** Sets up listener for automatic dashboard navigation on successful login */
@@ -66,6 +67,7 @@ public class AuthController {
     /** Performs login on background thread with progress binding and result handling */
     private void performLogin(Runnable postAsync) {
         authModel.authenticatedProperty().setValue(false);
+        authInteractor.trackDatabaseBootstrap();
 
         Task<Result> loginTask = new Task<>() {
             @Override
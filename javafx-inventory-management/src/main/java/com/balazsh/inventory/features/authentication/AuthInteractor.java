@@ -3,8 +3,15 @@ package com.balazsh.inventory.features.authentication;
 import com.balazsh.inventory.dao.UserDaoImpl;
 import com.balazsh.inventory.domain.model.*;
 import com.balazsh.inventory.domain.service.AuthService;
+import com.balazsh.inventory.util.HibernateUtil;
 import com.balazsh.inventory.util.exceptions.AuthenticationException;
+import com.balazsh.inventory.util.exceptions.DatabaseUnavailableException;
 import javafx.application.Platform;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Authentication business logic layer handling login, registration, and view switching.
@@ -12,7 +19,10 @@ import javafx.application.Platform;
  */
 public class AuthInteractor {
 
+    private static final Logger logger = LoggerFactory.getLogger(AuthInteractor.class);
+
     private final AuthModel authModel;
+    private CompletableFuture<SessionFactory> trackedBootstrap; // Latest bootstrap shown in the model, touched on the UI thread only
 
     public AuthInteractor(AuthModel authModel) {
         this.authModel = authModel;
@@ -23,6 +33,31 @@ public class AuthInteractor {
         authModel.authResultProperty().set(result);
     }
 
+    /**
+     * Tracks the background database bootstrap, starting a new one if the last one failed, and reflects it
+     * in the model. Called on the UI thread at start and before every login, so a retry shows progress again
+     * and clears the previous error. Completions of bootstraps that a newer one replaced are ignored.
+     */
+    public void trackDatabaseBootstrap(){
+        CompletableFuture<SessionFactory> bootstrap = HibernateUtil.bootstrapAsync();
+        if (bootstrap == trackedBootstrap) {
+            return;
+        }
+        trackedBootstrap = bootstrap;
+        if (!bootstrap.isDone()) {
+            authModel.databaseConnectingProperty().set(true);
+            authModel.databaseErrorProperty().set("");
+        }
+        bootstrap.whenComplete((sessionFactory, error) -> Platform.runLater(() -> {
+            if (bootstrap != trackedBootstrap) {
+                return;
+            }
+            authModel.databaseConnectingProperty().set(false);
+            authModel.databaseErrorProperty().set(
+                    error == null ? "" : "Database is unavailable, logging in will try to connect again");
+        }));
+    }
+
     /** 
      * Performs login authentication with comprehensive error handling.
      * Updates user details on UI thread after successful authentication.
@@ -30,14 +65,16 @@ public class AuthInteractor {
     public Result performLogin() {
         AuthService service = new AuthService(new UserDaoImpl());
         UserLoginDetails userLoginDetails = authModel.getUserLoginDetails();
+        long start = System.nanoTime();
         try {
             ActiveUserDetails userDetails = service.login(userLoginDetails.username(), userLoginDetails.password());
+            logger.info("Login completed in {} ms", (System.nanoTime() - start) / 1_000_000);
             // Thread-safe UI update
             Platform.runLater(() -> {
                 authModel.loggedInUserProperty().set(userDetails);
             });
             return new Result("success", "Login Successful");
-        } catch (AuthenticationException e) {
+        } catch (AuthenticationException | DatabaseUnavailableException e) {
             return new Result("failure", e.getMessage());
         } catch (Exception e) {
             return new Result("failure", "Unexpected error has occurred");
@@ -54,7 +91,7 @@ public class AuthInteractor {
             UserRegisterDetails details = authModel.getUserRegisterDetails();
             service.register(details.username(), details.password(), details.role());
             return new Result("success", "Successful register");
-        } catch (AuthenticationException e) {
+        } catch (AuthenticationException | DatabaseUnavailableException e) {
             return new Result("failed", e.getMessage());
         } catch (Exception e) {
             return new Result("failed", "An unexpected error has occurred");
@@ -19,6 +19,8 @@ public class AuthModel {
     private final BooleanProperty notAuthenticated = new SimpleBooleanProperty(true); // Inverse of authenticated
     private final ObjectProperty<Result> authResult = new SimpleObjectProperty<>(new Result("","")); // Auth operation result
     private final DoubleProperty authProgress = new SimpleDoubleProperty(); // Progress for async operations
+    private final BooleanProperty databaseConnecting = new SimpleBooleanProperty(true); // Database bootstrap in progress
+    private final StringProperty databaseError = new SimpleStringProperty(""); // Database bootstrap failure message
 
     public AuthModel() {
 
@@ -100,6 +102,22 @@ public class AuthModel {
         return showRegister;
     }
 
+    public boolean isDatabaseConnecting() {
+        return databaseConnecting.get();
+    }
+
+    public BooleanProperty databaseConnectingProperty() {
+        return databaseConnecting;
+    }
+
+    public String getDatabaseError() {
+        return databaseError.get();
+    }
+
+    public StringProperty databaseErrorProperty() {
+        return databaseError;
+    }
+
     public String getUsername() {
         return username.get();
     }
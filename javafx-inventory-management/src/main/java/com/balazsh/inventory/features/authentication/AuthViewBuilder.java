@@ -1,5 +1,13 @@
 package com.balazsh.inventory.features.authentication;
 
+import javafx.beans.binding.Bindings;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.control.ProgressIndicator;
+import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
 import javafx.util.Builder;
@@ -34,6 +42,37 @@ public class AuthViewBuilder implements Builder<Region> {
        registerView.visibleProperty().bind(authModel.showRegisterProperty());
        registerView.managedProperty().bind(authModel.showRegisterProperty());
 
-       return new StackPane(loginView, registerView);
+       BorderPane root = new BorderPane(new StackPane(loginView, registerView));
+       root.setBottom(createDatabaseStatus());
+       return root;
+    }
+
+    /** Creates status bar showing database bootstrap progress, or the failure if it could not start */
+    private Node createDatabaseStatus() {
+        ProgressIndicator progressIndicator = new ProgressIndicator();
+        progressIndicator.setPrefSize(18, 18);
+        progressIndicator.visibleProperty().bind(authModel.databaseConnectingProperty());
+        progressIndicator.managedProperty().bind(authModel.databaseConnectingProperty());
+
+        Label connectingLabel = new Label("Connecting to database...");
+        connectingLabel.getStyleClass().add("main-subheader");
+        connectingLabel.visibleProperty().bind(authModel.databaseConnectingProperty());
+        connectingLabel.managedProperty().bind(authModel.databaseConnectingProperty());
+
+        Label errorLabel = new Label();
+        errorLabel.getStyleClass().add("text-field-error");
+        errorLabel.textProperty().bind(authModel.databaseErrorProperty());
+        errorLabel.visibleProperty().bind(Bindings.isNotEmpty(authModel.databaseErrorProperty()));
+        errorLabel.managedProperty().bind(Bindings.isNotEmpty(authModel.databaseErrorProperty()));
+
+        HBox statusBar = new HBox(progressIndicator, connectingLabel, errorLabel);
+        statusBar.getStylesheets().add(AuthViewBuilder.class.getResource("/auth_page.css").toExternalForm());
+        statusBar.setAlignment(Pos.CENTER);
+        statusBar.setSpacing(10);
+        statusBar.setPadding(new Insets(10));
+        statusBar.visibleProperty().bind(authModel.databaseConnectingProperty()
+                .or(Bindings.isNotEmpty(authModel.databaseErrorProperty())));
+        statusBar.managedProperty().bind(statusBar.visibleProperty());
+        return statusBar;
     }
 }
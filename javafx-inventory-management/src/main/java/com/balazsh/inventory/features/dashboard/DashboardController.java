@@ -2,7 +2,9 @@ package com.balazsh.inventory.features.dashboard;
 
 import com.balazsh.inventory.domain.model.ActiveUserDetails;
 import com.balazsh.inventory.domain.model.Result;
+import com.balazsh.inventory.features.dashboard.diagnostics.DiagnosticsController;
 import com.balazsh.inventory.features.dashboard.product.ProductController;
+import com.balazsh.inventory.features.dashboard.reorder.ReorderController;
 import com.balazsh.inventory.features.dashboard.user.UserController;
 import javafx.beans.property.ObjectProperty;
 import javafx.concurrent.Task;
@@ -22,6 +24,8 @@ public class DashboardController {
 
     private final UserController userController; // User management child controller
     private final ProductController productController; // Product management child controller
+    private final ReorderController reorderController; // Pending reorders child controller
+    private final DiagnosticsController diagnosticsController; // Query diagnostics child controller
 
     /**
      * Creates dashboard controller with child controllers and shared state binding.
@@ -48,25 +52,68 @@ public class DashboardController {
                 dashboardModel.progressProperty(),
                 dashboardModel.productPurchaseObjectPropertyProperty(),
                 dashboardModel.productSaleObjectPropertyProperty(),
+                dashboardModel.productSearchTextProperty(),
+                dashboardModel.productSearchMatchesProperty(),
+                dashboardModel.getBasketSales(),
+                dashboardModel.getBasketPurchases(),
+                dashboardModel.reportFormatProperty(),
                 this::printProductDetails,
                 this::printStockDetails,
                 this::sellProduct,
                 this::buyProduct,
+                this::processBasket,
                 this::refreshProducts);
 
+        // Initialize reorder controller with shared reorder lists and operation callbacks
+        this.reorderController = new ReorderController(
+                dashboardModel.getPendingReorders(),
+                dashboardModel.getSelectedReorders(),
+                dashboardModel.resultObjectPropertyProperty(),
+                this::fetchPendingReorders,
+                this::receiveReorders);
+
+        // Initialize diagnostics controller, hidden until enabled from the dashboard
+        this.diagnosticsController = new DiagnosticsController(
+                dashboardModel.diagnosticsSnapshotProperty(),
+                this::fetchDiagnostics);
+
         // Initialize view builder with child views and navigation callbacks
         this.dashboardViewBuilder =
                 new DashboardViewBuilder(
                         dashboardModel,
                         userController.getView(),
                         productController.getView(),
+                        reorderController.getView(),
+                        diagnosticsController.getView(),
                         this::fetchProducts,
                         this::fetchUsers,
+                        this::fetchPendingReorders,
+                        this::fetchDiagnostics,
                         switchToAuthentication
                 );
         
         // Bind active user details for permission checks and user context
         dashboardModel.activeUserDetailsObjectPropertyProperty().bind(activeUserDetailsObjectProperty);
+
+        // Resolve search matches as the user types and build the search index in the background
+        dashboardModel.productSearchTextProperty().subscribe(searchText -> dashboardInteractor.searchProducts());
+        buildSearchIndex();
+    }
+
+    /** Builds the product search index asynchronously so it is ready before the first search */
+    private void buildSearchIndex() {
+        Task<Void> buildIndexTask = new Task<>() {
+            @Override
+            protected Void call() {
+                dashboardInteractor.buildSearchIndex();
+                return null;
+            }
+        };
+
+        Thread thread = new Thread(buildIndexTask);
+        thread.setName("Build Search Index");
+        thread.setDaemon(true);
+        thread.start();
     }
 
     /** Refreshes product data asynchronously*/
@@ -202,6 +249,61 @@ public class DashboardController {
         thread.start();
     }
 
+    /** Fetches query statistics asynchronously */
+    private void fetchDiagnostics(Runnable postAsync) {
+        Task<Void> fetchDiagnosticsTask = new Task<>() {
+            @Override
+            protected Void call() {
+                dashboardInteractor.fetchDiagnostics();
+                return null;
+            }
+        };
+
+        fetchDiagnosticsTask.setOnSucceeded(event -> postAsync.run());
+        fetchDiagnosticsTask.setOnFailed(event -> postAsync.run());
+
+        Thread thread = new Thread(fetchDiagnosticsTask);
+        thread.setName("Fetch Diagnostics");
+        thread.start();
+    }
+
+    /** Fetches the pending reorders asynchronously */
+    private void fetchPendingReorders(Runnable postAsync) {
+        Task<Void> fetchReordersTask = new Task<>() {
+            @Override
+            protected Void call() {
+                dashboardInteractor.fetchPendingReorders();
+                return null;
+            }
+        };
+
+        fetchReordersTask.setOnSucceeded(event -> postAsync.run());
+        fetchReordersTask.setOnFailed(event -> postAsync.run());
+
+        Thread thread = new Thread(fetchReordersTask);
+        thread.setName("Fetch Reorders");
+        thread.start();
+    }
+
+    /** Receives the selected reorders into stock and refreshes the pending reorders */
+    private void receiveReorders(Runnable postAsync) {
+        Task<Void> receiveReordersTask = new Task<>() {
+            @Override
+            protected Void call() {
+                dashboardInteractor.receiveReorders();
+                dashboardInteractor.fetchPendingReorders();  // Refresh after receiving
+                return null;
+            }
+        };
+
+        receiveReordersTask.setOnSucceeded(event -> postAsync.run());
+        receiveReordersTask.setOnFailed(event -> postAsync.run());
+
+        Thread thread = new Thread(receiveReordersTask);
+        thread.setName("Receive Reorders");
+        thread.start();
+    }
+
     /** Prints stock details asynchronously with validation */
     private void printStockDetails(Runnable postAsync){
         if (dashboardInteractor.preProductPrintValidation()){
@@ -283,6 +385,32 @@ public class DashboardController {
         thread.start();
     }
 
+    /** Books all basket lines in one transaction and refreshes inventory data */
+    private void processBasket(Runnable postAsync){
+        Task<Void> processBasketTask = new Task<>() {
+            @Override
+            protected Void call() throws Exception {
+                dashboardInteractor.processBasket();
+                dashboardInteractor.fetchProductEntries();  // Refresh after checkout
+                return null;
+            }
+        };
+
+        dashboardModel.progressProperty().bind(processBasketTask.progressProperty());
+        processBasketTask.setOnSucceeded(event -> {
+            dashboardModel.progressProperty().unbind();
+            postAsync.run();
+        });
+
+        processBasketTask.setOnFailed(event -> {
+            dashboardModel.progressProperty().unbind();
+            postAsync.run();
+        });
+        Thread thread = new Thread(processBasketTask);
+        thread.setName("Process Basket");
+        thread.start();
+    }
+
     /** Generates sample data for testing and development */
     public void generateData(){
         dashboardInteractor.createDashboardData();
@@ -1,10 +1,13 @@
 package com.balazsh.inventory.features.dashboard;
 
+import com.balazsh.inventory.dao.OrderDAOImpl;
 import com.balazsh.inventory.dao.ProductDAOImpl;
 import com.balazsh.inventory.dao.UserDaoImpl;
 import com.balazsh.inventory.domain.model.*;
 import com.balazsh.inventory.domain.service.ProductService;
+import com.balazsh.inventory.domain.service.ReorderService;
 import com.balazsh.inventory.domain.service.UserService;
+import com.balazsh.inventory.util.DiagnosticsUtil;
 import com.balazsh.inventory.util.exceptions.ProductProcessingException;
 import com.balazsh.inventory.util.exceptions.UserException;
 import com.balazsh.inventory.util.enums.OPERATION;
@@ -12,9 +15,12 @@ import com.balazsh.inventory.util.enums.RESOURCE;
 import javafx.application.Platform;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Dashboard interactor handling business logic for inventory management operations.
@@ -28,11 +34,13 @@ public class DashboardInteractor {
     private final Random random = new Random(); // Sample data generation
     private final ProductService productService; // Product business operations
     private final UserService userService; // User management operations
+    private final ReorderService reorderService; // Pending reorder operations
 
     public DashboardInteractor(DashboardModel dashboardModel) {
         this.dashboardModel = dashboardModel;
-        productService = new ProductService(new ProductDAOImpl(), new UserDaoImpl());
+        productService = new ProductService(new ProductDAOImpl());
         userService = new UserService(new UserDaoImpl());
+        reorderService = new ReorderService(new OrderDAOImpl(), new ProductDAOImpl());
     }
 
     /** Initializes dashboard with sample product and user data for testing */
@@ -45,7 +53,7 @@ public class DashboardInteractor {
     public void sellProducts(){
         try{
             ProductSale sale = dashboardModel.getProductSaleObjectProperty();
-            productService.sellProduct(sale.productId(), dashboardModel.getActiveUserDetailsObjectProperty().username(), sale.quantity(), sale.price());
+            productService.sellProduct(sale.operationId(), sale.productId(), dashboardModel.getActiveUserDetailsObjectProperty().userId(), sale.quantity(), sale.price());
             setResult("success", "Product sale completed");
         }catch (ProductProcessingException e){
             setResult("failed", e.getMessage());
@@ -58,7 +66,7 @@ public class DashboardInteractor {
     public void buyProducts(){
         try{
             ProductPurchase purchase = dashboardModel.getProductPurchaseObjectProperty();
-            productService.buyProduct(purchase.productId(), dashboardModel.getActiveUserDetailsObjectProperty().username(), purchase.quantity());
+            productService.buyProduct(purchase.operationId(), purchase.productId(), dashboardModel.getActiveUserDetailsObjectProperty().userId(), purchase.quantity());
             setResult("success", "Product purchase completed successfully");
         }catch (ProductProcessingException e){
             setResult("failed", e.getMessage());
@@ -67,15 +75,57 @@ public class DashboardInteractor {
         }
     }
 
-    /** Prints stock details for selected products to file with error handling */
+    /** Books every basket line in one transaction, reports failed lines and keeps them in the basket for another attempt */
+    public void processBasket(){
+        try{
+            List<ProductSale> sales = List.copyOf(dashboardModel.getBasketSales());
+            List<ProductPurchase> purchases = List.copyOf(dashboardModel.getBasketPurchases());
+            List<BatchLineResult> results = productService.processBatch(sales, purchases, dashboardModel.getActiveUserDetailsObjectProperty().userId());
+            Platform.runLater(() -> removeBookedLines(sales, purchases, results));
+
+            List<String> failures = results.stream()
+                    .filter(result -> !result.success())
+                    .map(result -> result.operation() + " of " + result.quantity() + " x product " + result.productId() + ": " + result.message())
+                    .toList();
+            String summary = "Basket booked: " + (results.size() - failures.size()) + " of " + results.size() + " lines completed";
+            if (failures.isEmpty()){
+                setResult("success", summary);
+            } else {
+                setResult("failed", summary + "\n" + String.join("\n", failures));
+            }
+        }catch (ProductProcessingException e){
+            setResult("failed", e.getMessage());
+        }catch (Exception e){
+            setResult("failed", "Something went wrong");
+        }
+    }
+
+    /**
+     * Removes the lines that were booked from the basket. Results list the sales first, then the purchases,
+     * in basket order; failed lines keep their operation ids, so booking them again cannot double-book.
+     */
+    void removeBookedLines(List<ProductSale> sales, List<ProductPurchase> purchases, List<BatchLineResult> results){
+        for (int i = 0; i < sales.size(); i++){
+            if (results.get(i).success()){
+                dashboardModel.getBasketSales().remove(sales.get(i));
+            }
+        }
+        for (int i = 0; i < purchases.size(); i++){
+            if (results.get(sales.size() + i).success()){
+                dashboardModel.getBasketPurchases().remove(purchases.get(i));
+            }
+        }
+    }
+
+    /** Prints stock details for selected products to a file in the selected format with error handling */
     public void printStockDetails(){
         try{
             List<Integer> productIds = dashboardModel.getProductList()
                     .stream()
                     .filter(ProductEntry::isSelected)
                     .map(ProductEntry::getId).toList();
-            productService.printProductStockDetailsToFile(productIds);
-            setResult("success", "Product stock details printed successfully");
+            ReportResult report = productService.printProductStockDetailsToFile(productIds, dashboardModel.getReportFormat());
+            setResult("success", "Product stock details printed successfully: " + reportSummary(report));
         }catch (ProductProcessingException e){
             setResult("failure", e.getMessage());
         }catch (Exception e){
@@ -83,7 +133,13 @@ public class DashboardInteractor {
         }
     }
 
-    /** Prints general product details for selected products to file with error handling */
+    /** Formats the size, throughput and parallel speedup of a written report */
+    private static String reportSummary(ReportResult report) {
+        return String.format("%d products, %d rows/s, %.1fx parallel speedup",
+                report.rows(), report.rowsPerSecond(), report.speedup());
+    }
+
+    /** Prints general product details for selected products to a file in the selected format with error handling */
     public void printDetails(){
         try{
             List<Integer> productIds = dashboardModel.getProductList()
@@ -91,8 +147,8 @@ public class DashboardInteractor {
                     .filter(ProductEntry::isSelected)
                     .map(ProductEntry::getId).toList();
 
-            productService.printProductDetailsToFile(productIds);
-            setResult("success", "Product details printed successfully");
+            ReportResult report = productService.printProductDetailsToFile(productIds, dashboardModel.getReportFormat());
+            setResult("success", "Product details printed successfully: " + reportSummary(report));
         }catch (ProductProcessingException e){
             setResult("failed", e.getMessage());
         }catch (Exception e){
@@ -134,6 +190,67 @@ public class DashboardInteractor {
         }
     }
 
+    /** Builds the in-memory product search index; searches fall back to the loaded product list until it is ready */
+    public void buildSearchIndex(){
+        try{
+            productService.buildSearchIndex();
+        }catch (Exception e){
+            // Search keeps using the loaded product list
+        }
+    }
+
+    /** Resolves the product ids matching the search text, clearing the matches when the search box is empty */
+    public void searchProducts(){
+        String searchText = dashboardModel.getProductSearchText();
+        if (searchText == null || searchText.isBlank()){
+            dashboardModel.productSearchMatchesProperty().set(null);
+            return;
+        }
+
+        Set<Integer> matches;
+        if (productService.isSearchIndexReady()){
+            matches = new HashSet<>(productService.searchProducts(searchText));
+        } else {
+            String lowerCaseFilter = searchText.trim().toLowerCase();
+            matches = dashboardModel.getProductList()
+                    .stream()
+                    .filter(product -> product.getName().toLowerCase().contains(lowerCaseFilter)
+                            || product.getCategory().toLowerCase().contains(lowerCaseFilter))
+                    .map(ProductEntry::getId)
+                    .collect(Collectors.toSet());
+        }
+        dashboardModel.productSearchMatchesProperty().set(matches);
+    }
+
+    /** Fetches the current query statistics and updates UI on JavaFX thread */
+    public void fetchDiagnostics(){
+        DiagnosticsSnapshot snapshot = DiagnosticsUtil.snapshot().orElse(null);
+        Platform.runLater(() -> dashboardModel.diagnosticsSnapshotProperty().set(snapshot));
+    }
+
+    /** Fetches the pending reorders and updates UI on JavaFX thread */
+    public void fetchPendingReorders(){
+        List<PendingReorder> pendingReorders = reorderService.fetchPendingReorders();
+        Platform.runLater(() -> dashboardModel.getPendingReorders().setAll(pendingReorders));
+    }
+
+    /** Receives the selected reorders into stock with error handling and result feedback */
+    public void receiveReorders(){
+        try{
+            List<PendingReorder> selected = List.copyOf(dashboardModel.getSelectedReorders());
+            int received = reorderService.receiveReorders(selected, dashboardModel.getActiveUserDetailsObjectProperty().userId());
+            if (received == selected.size()){
+                setResult("success", received + " reorders received into stock");
+            } else {
+                setResult("success", received + " of " + selected.size() + " reorders received, the rest were already received");
+            }
+        }catch (ProductProcessingException e){
+            setResult("failed", e.getMessage());
+        }catch (Exception e){
+            setResult("failed", "Something went wrong");
+        }
+    }
+
     /** Updates dashboard result property on JavaFX thread for UI feedback */
     private void setResult(String status, String message){
         Platform.runLater(() -> {
@@ -1,10 +1,13 @@
 package com.balazsh.inventory.features.dashboard;
 
 import com.balazsh.inventory.domain.model.*;
+import com.balazsh.inventory.domain.report.ReportFormat;
 import javafx.beans.property.*;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
+import java.util.Set;
+
 /**
  * Dashboard model managing application state, user data, and product data.
  * Central hub for data shared between product and user management features.
@@ -13,11 +16,22 @@ public class DashboardModel {
 
     private final BooleanProperty productPageSelected = new SimpleBooleanProperty(); // Product page visibility
     private final BooleanProperty userPageSelected = new SimpleBooleanProperty(); // User page visibility
+    private final BooleanProperty reorderPageSelected = new SimpleBooleanProperty(); // Reorder page visibility
+    private final BooleanProperty diagnosticsPageSelected = new SimpleBooleanProperty(); // Diagnostics page visibility
+    private final BooleanProperty diagnosticsEnabled = new SimpleBooleanProperty(Boolean.getBoolean("inventory.diagnostics")); // Diagnostics navigation shown, toggled with Ctrl+Shift+D
+    private final ObjectProperty<DiagnosticsSnapshot> diagnosticsSnapshot = new SimpleObjectProperty<>(); // Latest query statistics
     private final ObservableList<ProductEntry> productList = FXCollections.observableArrayList();  // Product inventory
     private final ObservableList<UserEntry> userList = FXCollections.observableArrayList(); // User accounts
     private final ObjectProperty<UserEntry> selectedUser = new SimpleObjectProperty<>(); // Selected user for operations
     private final ObjectProperty<ProductSale> productSaleObjectProperty = new SimpleObjectProperty<>(); // Sale transaction data
     private final ObjectProperty<ProductPurchase> productPurchaseObjectProperty = new SimpleObjectProperty<>(); // Purchase transaction data
+    private final ObservableList<ProductSale> basketSales = FXCollections.observableArrayList(); // Sales waiting for basket checkout
+    private final ObservableList<ProductPurchase> basketPurchases = FXCollections.observableArrayList(); // Purchases waiting for basket checkout
+    private final ObservableList<PendingReorder> pendingReorders = FXCollections.observableArrayList(); // Reorders raised by the replenishment engine
+    private final ObservableList<PendingReorder> selectedReorders = FXCollections.observableArrayList(); // Reorders selected for receiving
+    private final StringProperty productSearchText = new SimpleStringProperty(""); // Product search box text
+    private final ObjectProperty<Set<Integer>> productSearchMatches = new SimpleObjectProperty<>(); // Ids matching the search, null when not searching
+    private final ObjectProperty<ReportFormat> reportFormat = new SimpleObjectProperty<>(ReportFormat.TEXT); // Format the product reports are printed in
 
     private final ObjectProperty<Result> resultObjectProperty = new SimpleObjectProperty<>(new Result("", "")); // Operation results
     private final DoubleProperty progress = new SimpleDoubleProperty(); // Progress tracking
@@ -56,6 +70,22 @@ public class DashboardModel {
         return productPurchaseObjectProperty;
     }
 
+    public String getProductSearchText() {
+        return productSearchText.get();
+    }
+
+    public StringProperty productSearchTextProperty() {
+        return productSearchText;
+    }
+
+    public Set<Integer> getProductSearchMatches() {
+        return productSearchMatches.get();
+    }
+
+    public ObjectProperty<Set<Integer>> productSearchMatchesProperty() {
+        return productSearchMatches;
+    }
+
     public boolean isIsLoading() {
         return isLoading.get();
     }
@@ -80,6 +110,14 @@ public class DashboardModel {
         return resultObjectProperty;
     }
 
+    public ReportFormat getReportFormat() {
+        return reportFormat.get();
+    }
+
+    public ObjectProperty<ReportFormat> reportFormatProperty() {
+        return reportFormat;
+    }
+
     public ObservableList<ProductEntry> getProductList() {
         return productList;
     }
@@ -88,6 +126,14 @@ public class DashboardModel {
         return userList;
     }
 
+    public ObservableList<ProductSale> getBasketSales() {
+        return basketSales;
+    }
+
+    public ObservableList<ProductPurchase> getBasketPurchases() {
+        return basketPurchases;
+    }
+
     public boolean isProductPageSelected() {
         return productPageSelected.get();
     }
@@ -104,4 +150,44 @@ public class DashboardModel {
         return userPageSelected;
     }
 
+    public boolean isReorderPageSelected() {
+        return reorderPageSelected.get();
+    }
+
+    public BooleanProperty reorderPageSelectedProperty() {
+        return reorderPageSelected;
+    }
+
+    public ObservableList<PendingReorder> getPendingReorders() {
+        return pendingReorders;
+    }
+
+    public ObservableList<PendingReorder> getSelectedReorders() {
+        return selectedReorders;
+    }
+
+    public boolean isDiagnosticsPageSelected() {
+        return diagnosticsPageSelected.get();
+    }
+
+    public BooleanProperty diagnosticsPageSelectedProperty() {
+        return diagnosticsPageSelected;
+    }
+
+    public boolean isDiagnosticsEnabled() {
+        return diagnosticsEnabled.get();
+    }
+
+    public BooleanProperty diagnosticsEnabledProperty() {
+        return diagnosticsEnabled;
+    }
+
+    public DiagnosticsSnapshot getDiagnosticsSnapshot() {
+        return diagnosticsSnapshot.get();
+    }
+
+    public ObjectProperty<DiagnosticsSnapshot> diagnosticsSnapshotProperty() {
+        return diagnosticsSnapshot;
+    }
+
 }
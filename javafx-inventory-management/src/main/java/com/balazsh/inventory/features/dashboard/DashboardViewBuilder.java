@@ -6,6 +6,8 @@ import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Node;
 import javafx.scene.control.*;
+import javafx.scene.input.KeyCombination;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.*;
 import javafx.util.Builder;
 import javafx.util.Duration;
@@ -22,21 +24,33 @@ public class DashboardViewBuilder implements Builder<Region> {
     private final DashboardModel dashboardModel; // Dashboard state and data
     private final Region productView; // Product management UI component
     private final Region userView; // User management UI component
+    private final Region reorderView; // Pending reorders UI component
+    private final Region diagnosticsView; // Query diagnostics UI component
     private final Consumer<Runnable> fetchProducts; // Async product data loading
     private final Consumer<Runnable> fetchUsers; // Async user data loading
+    private final Consumer<Runnable> fetchReorders; // Async pending reorder loading
+    private final Consumer<Runnable> fetchDiagnostics; // Async query statistics loading
     private final Runnable switchToAuthentication; // Logout navigation callback
 
     public DashboardViewBuilder(DashboardModel dashboardModel,
                                 Region userView,
                                 Region productView,
+                                Region reorderView,
+                                Region diagnosticsView,
                                 Consumer<Runnable> fetchProducts,
                                 Consumer<Runnable> fetchUsers,
+                                Consumer<Runnable> fetchReorders,
+                                Consumer<Runnable> fetchDiagnostics,
                                 Runnable switchToAuthentication) {
         this.dashboardModel = dashboardModel;
         this.userView = userView;
         this.productView = productView;
+        this.reorderView = reorderView;
+        this.diagnosticsView = diagnosticsView;
         this.fetchProducts = fetchProducts;
         this.fetchUsers = fetchUsers;
+        this.fetchReorders = fetchReorders;
+        this.fetchDiagnostics = fetchDiagnostics;
         this.switchToAuthentication = switchToAuthentication;
     }
 
@@ -58,6 +72,15 @@ public class DashboardViewBuilder implements Builder<Region> {
         root.setTop(headerPanel);
         root.setLeft(navigationPanel);
         root.setCenter(centerContent);
+
+        // Hidden diagnostics page is toggled with Ctrl+Shift+D (Cmd+Shift+D on macOS)
+        KeyCombination toggleDiagnostics = KeyCombination.keyCombination("Shortcut+Shift+D");
+        root.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (toggleDiagnostics.match(event)) {
+                dashboardModel.diagnosticsEnabledProperty().set(!dashboardModel.isDiagnosticsEnabled());
+                event.consume();
+            }
+        });
         
         return root;
     }
@@ -101,6 +124,33 @@ public class DashboardViewBuilder implements Builder<Region> {
         userButton.getStyleClass().add("nav-toggle-button");
         userButton.setToggleGroup(navigationGroup);
         userButton.selectedProperty().bindBidirectional(dashboardModel.userPageSelectedProperty());
+
+        ToggleButton reorderButton = new ToggleButton("Reorders");
+        reorderButton.getStyleClass().add("nav-toggle-button");
+        reorderButton.setToggleGroup(navigationGroup);
+        reorderButton.selectedProperty().bindBidirectional(dashboardModel.reorderPageSelectedProperty());
+        reorderButton.setOnAction(e -> {
+            if (reorderButton.isSelected()) {
+                fetchReorders.accept(() -> {});
+            }
+        });
+
+        ToggleButton diagnosticsButton = new ToggleButton("Diagnostics");
+        diagnosticsButton.getStyleClass().add("nav-toggle-button");
+        diagnosticsButton.setToggleGroup(navigationGroup);
+        diagnosticsButton.selectedProperty().bindBidirectional(dashboardModel.diagnosticsPageSelectedProperty());
+        diagnosticsButton.visibleProperty().bind(dashboardModel.diagnosticsEnabledProperty());
+        diagnosticsButton.managedProperty().bind(dashboardModel.diagnosticsEnabledProperty());
+        dashboardModel.diagnosticsEnabledProperty().subscribe(enabled -> {
+            if (!enabled) {
+                dashboardModel.diagnosticsPageSelectedProperty().set(false);
+            }
+        });
+        diagnosticsButton.setOnAction(e -> {
+            if (diagnosticsButton.isSelected()) {
+                fetchDiagnostics.accept(() -> {});
+            }
+        });
         
         Region spacer = new Region();
         VBox.setVgrow(spacer, Priority.ALWAYS);
@@ -112,7 +162,7 @@ public class DashboardViewBuilder implements Builder<Region> {
             switchToAuthentication.run();
         });
         
-        navigationPanel.getChildren().addAll(productButton, userButton, spacer, logoutButton);
+        navigationPanel.getChildren().addAll(productButton, userButton, reorderButton, diagnosticsButton, spacer, logoutButton);
 
         // Product button action with loading state and button disabling
         productButton.setOnAction(e -> {
@@ -193,16 +243,20 @@ public class DashboardViewBuilder implements Builder<Region> {
         // Bind visibility properties for view switching
         productView.visibleProperty().bind(dashboardModel.productPageSelectedProperty());
         userView.visibleProperty().bind(dashboardModel.userPageSelectedProperty());
+        reorderView.visibleProperty().bind(dashboardModel.reorderPageSelectedProperty());
+        diagnosticsView.visibleProperty().bind(dashboardModel.diagnosticsPageSelectedProperty());
         
         // Ensure only one view is managed at a time for proper layout
         productView.managedProperty().bind(productView.visibleProperty());
         userView.managedProperty().bind(userView.visibleProperty());
+        reorderView.managedProperty().bind(reorderView.visibleProperty());
+        diagnosticsView.managedProperty().bind(diagnosticsView.visibleProperty());
 
         // Disable views during loading operations
         productView.disableProperty().bind(dashboardModel.isLoadingProperty());
         userView.disableProperty().bind(dashboardModel.isLoadingProperty());
         
-        centerContent.getChildren().addAll(userView, productView, createLoadingScreen());
+        centerContent.getChildren().addAll(userView, productView, reorderView, diagnosticsView, createLoadingScreen());
         
         return centerContent;
     }
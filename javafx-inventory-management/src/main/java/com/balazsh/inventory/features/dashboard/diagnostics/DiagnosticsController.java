@@ -0,0 +1,43 @@
+package com.balazsh.inventory.features.dashboard.diagnostics;
+
+import com.balazsh.inventory.domain.model.DiagnosticsSnapshot;
+import javafx.beans.property.ObjectProperty;
+import javafx.scene.layout.Region;
+
+import java.util.function.Consumer;
+
+/**
+ * Diagnostics controller showing per-query latency percentiles and Hibernate statistics.
+ * The snapshot is fetched by the parent dashboard controller.
+ */
+public class DiagnosticsController {
+
+    private final DiagnosticsModel diagnosticsModel; // Snapshot and table rows
+    private final DiagnosticsInteractor diagnosticsInteractor; // Snapshot to row conversion
+    private final DiagnosticsViewBuilder diagnosticsViewBuilder; // UI construction
+    private final Consumer<Runnable> refreshDiagnosticsAsync; // Fetch a fresh snapshot
+
+    public DiagnosticsController(ObjectProperty<DiagnosticsSnapshot> diagnosticsSnapshot,
+                                 Consumer<Runnable> refreshDiagnosticsAsync) {
+        this.diagnosticsModel = new DiagnosticsModel();
+        this.diagnosticsInteractor = new DiagnosticsInteractor(diagnosticsModel);
+        this.diagnosticsViewBuilder = new DiagnosticsViewBuilder(diagnosticsModel, this::refreshDiagnostics);
+        this.refreshDiagnosticsAsync = refreshDiagnosticsAsync;
+
+        diagnosticsModel.snapshotProperty().bind(diagnosticsSnapshot);
+        diagnosticsModel.snapshotProperty().subscribe(snapshot -> diagnosticsInteractor.populateDiagnostics());
+    }
+
+    /** Requests a fresh snapshot from the parent controller */
+    private void refreshDiagnostics(Runnable onRefreshComplete) {
+        diagnosticsModel.isLoadingProperty().set(true);
+        refreshDiagnosticsAsync.accept(() -> {
+            diagnosticsModel.isLoadingProperty().set(false);
+            onRefreshComplete.run();
+        });
+    }
+
+    public Region getView() {
+        return diagnosticsViewBuilder.build();
+    }
+}
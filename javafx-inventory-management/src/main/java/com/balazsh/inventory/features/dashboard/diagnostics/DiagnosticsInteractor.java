@@ -0,0 +1,52 @@
+package com.balazsh.inventory.features.dashboard.diagnostics;
+
+import com.balazsh.inventory.domain.model.DiagnosticsSnapshot;
+
+import java.util.stream.Collectors;
+
+/**
+ * Diagnostics business logic turning statistics snapshots into table rows and summary text.
+ */
+public class DiagnosticsInteractor {
+
+    private final DiagnosticsModel diagnosticsModel;
+
+    public DiagnosticsInteractor(DiagnosticsModel diagnosticsModel) {
+        this.diagnosticsModel = diagnosticsModel;
+    }
+
+    /** Replaces the query rows and summary with the contents of the latest snapshot */
+    public void populateDiagnostics() {
+        DiagnosticsSnapshot snapshot = diagnosticsModel.getSnapshot();
+        if (snapshot == null) {
+            diagnosticsModel.getQueries().clear();
+            diagnosticsModel.summaryProperty().set("Statistics are not available until the database is connected");
+            return;
+        }
+
+        diagnosticsModel.getQueries().setAll(snapshot.queries());
+
+        String entityLoads = snapshot.entityLoads()
+                .entrySet()
+                .stream()
+                .filter(entry -> entry.getValue() > 0)
+                .map(entry -> entry.getKey() + " " + entry.getValue())
+                .collect(Collectors.joining(", "));
+
+        String pools = snapshot.pools()
+                .stream()
+                .map(pool -> String.format(" | %s pool: %d/%d active, %d waiting, p95 wait %d us",
+                        pool.pool(), pool.active(), pool.max(), pool.pending(), pool.acquireP95Micros()))
+                .collect(Collectors.joining());
+
+        diagnosticsModel.summaryProperty().set(String.format(
+                "Sessions: %d | Statements: %d | Cache hits/misses: %d/%d | Entities loaded: %d%s%s",
+                snapshot.sessionsOpened(),
+                snapshot.statementsPrepared(),
+                snapshot.secondLevelCacheHits(),
+                snapshot.secondLevelCacheMisses(),
+                snapshot.totalEntityLoads(),
+                entityLoads.isEmpty() ? "" : " (" + entityLoads + ")",
+                pools));
+    }
+}
@@ -0,0 +1,43 @@
+package com.balazsh.inventory.features.dashboard.diagnostics;
+
+import com.balazsh.inventory.domain.model.DiagnosticsSnapshot;
+import com.balazsh.inventory.domain.model.QueryDiagnostics;
+import javafx.beans.property.*;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+public class DiagnosticsModel {
+
+    private final ObjectProperty<DiagnosticsSnapshot> snapshot = new SimpleObjectProperty<>(); // Latest statistics snapshot
+    private final ObservableList<QueryDiagnostics> queries = FXCollections.observableArrayList(); // Per-query latencies, slowest first
+    private final StringProperty summary = new SimpleStringProperty(""); // Session, cache and entity load totals
+    private final BooleanProperty isLoading = new SimpleBooleanProperty(false); // Refresh in progress
+
+    public DiagnosticsSnapshot getSnapshot() {
+        return snapshot.get();
+    }
+
+    public ObjectProperty<DiagnosticsSnapshot> snapshotProperty() {
+        return snapshot;
+    }
+
+    public ObservableList<QueryDiagnostics> getQueries() {
+        return queries;
+    }
+
+    public String getSummary() {
+        return summary.get();
+    }
+
+    public StringProperty summaryProperty() {
+        return summary;
+    }
+
+    public boolean isIsLoading() {
+        return isLoading.get();
+    }
+
+    public BooleanProperty isLoadingProperty() {
+        return isLoading;
+    }
+}
@@ -0,0 +1,91 @@
+package com.balazsh.inventory.features.dashboard.diagnostics;
+
+import com.balazsh.inventory.domain.model.QueryDiagnostics;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.control.*;
+import javafx.scene.layout.*;
+import javafx.util.Builder;
+
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * Diagnostics view builder showing a table of query latency percentiles
+ * with session, cache and entity load totals.
+ */
+public class DiagnosticsViewBuilder implements Builder<Region> {
+
+    private final DiagnosticsModel diagnosticsModel; // Snapshot and table rows
+    private final Consumer<Runnable> refreshAction; // Refresh snapshot callback
+
+    public DiagnosticsViewBuilder(DiagnosticsModel diagnosticsModel, Consumer<Runnable> refreshAction) {
+        this.diagnosticsModel = diagnosticsModel;
+        this.refreshAction = refreshAction;
+    }
+
+    /** Builds the diagnostics page with summary, refresh button and query table */
+    @Override
+    public Region build() {
+        VBox root = new VBox(20);
+        root.setPadding(new Insets(20));
+
+        Label summaryLabel = new Label();
+        summaryLabel.setWrapText(true);
+        summaryLabel.textProperty().bind(diagnosticsModel.summaryProperty());
+
+        TableView<QueryDiagnostics> tableView = createQueryTableView();
+        VBox.setVgrow(tableView, Priority.ALWAYS);
+
+        root.getChildren().addAll(createButtonPanel(), summaryLabel, tableView);
+        return root;
+    }
+
+    /** Creates refresh button, disabled while a snapshot is being fetched */
+    private HBox createButtonPanel() {
+        HBox buttonPanel = new HBox(12);
+        buttonPanel.getStyleClass().add("button-panel");
+        buttonPanel.setAlignment(Pos.CENTER_LEFT);
+
+        Button refreshButton = new Button("Refresh");
+        refreshButton.getStyleClass().add("success-button");
+        refreshButton.disableProperty().bind(diagnosticsModel.isLoadingProperty());
+        refreshButton.setOnAction(event -> refreshAction.accept(() -> {}));
+
+        buttonPanel.getChildren().add(refreshButton);
+        return buttonPanel;
+    }
+
+    /** Creates query table with execution counts and latency percentiles */
+    private TableView<QueryDiagnostics> createQueryTableView() {
+        TableView<QueryDiagnostics> tableView = new TableView<>();
+        tableView.getStyleClass().add("modern-table");
+        tableView.setItems(diagnosticsModel.getQueries());
+        tableView.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY);
+        tableView.setPlaceholder(new Label("No queries executed yet"));
+
+        TableColumn<QueryDiagnostics, String> queryColumn = new TableColumn<>("Query");
+        queryColumn.setCellValueFactory(cell -> new ReadOnlyStringWrapper(cell.getValue().query()));
+        queryColumn.setPrefWidth(400);
+
+        tableView.getColumns().addAll(
+                queryColumn,
+                createNumberColumn("Executions", QueryDiagnostics::executions),
+                createNumberColumn("Rows", QueryDiagnostics::rows),
+                createNumberColumn("p50 (ms)", QueryDiagnostics::p50Millis),
+                createNumberColumn("p95 (ms)", QueryDiagnostics::p95Millis),
+                createNumberColumn("p99 (ms)", QueryDiagnostics::p99Millis),
+                createNumberColumn("Max (ms)", QueryDiagnostics::maxMillis));
+
+        return tableView;
+    }
+
+    private TableColumn<QueryDiagnostics, Long> createNumberColumn(String title, ToLongFunction<QueryDiagnostics> value) {
+        TableColumn<QueryDiagnostics, Long> column = new TableColumn<>(title);
+        column.setCellValueFactory(cell -> new ReadOnlyObjectWrapper<>(value.applyAsLong(cell.getValue())));
+        column.setPrefWidth(90);
+        return column;
+    }
+}
@@ -4,15 +4,18 @@ import com.balazsh.inventory.domain.model.ProductEntry;
 import com.balazsh.inventory.domain.model.ProductPurchase;
 import com.balazsh.inventory.domain.model.ProductSale;
 import com.balazsh.inventory.domain.model.Result;
+import com.balazsh.inventory.domain.report.ReportFormat;
 import com.balazsh.inventory.entity.Product;
 import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.property.StringProperty;
 import javafx.collections.ObservableList;
 import javafx.scene.control.Alert;
 import javafx.scene.layout.Region;
 import javafx.beans.binding.Bindings;
 
+import java.util.Set;
 import java.util.function.Consumer;
 
 /**
@@ -30,6 +33,7 @@ public class ProductController {
     private final Consumer<Runnable> printStockAsync; // Print stock report
     private final Consumer<Runnable> sellProductAsync; // Process product sale
     private final Consumer<Runnable> buyProductAsync; // Process product purchase
+    private final Consumer<Runnable> processBasketAsync; // Book all basket lines in one transaction
 
     /**
      * Creates product controller with shared state binding and operation callbacks.
@@ -40,10 +44,16 @@ public class ProductController {
                              DoubleProperty progressProperty,
                              ObjectProperty<ProductPurchase> productPurchaseObjectProperty,
                              ObjectProperty<ProductSale> productSaleObjectProperty,
+                             StringProperty productSearchText,
+                             ObjectProperty<Set<Integer>> productSearchMatches,
+                             ObservableList<ProductSale> basketSales,
+                             ObservableList<ProductPurchase> basketPurchases,
+                             ObjectProperty<ReportFormat> reportFormat,
                              Consumer<Runnable> printDetailsAsync,
                              Consumer<Runnable> printStockAsync,
                              Consumer<Runnable> sellProductAsync,
                              Consumer<Runnable> buyProductAsync,
+                             Consumer<Runnable> processBasketAsync,
                              Consumer<Runnable> refreshProductAsync) {
         productModel = new ProductModel();
         productInteractor = new ProductInteractor(productModel);
@@ -55,6 +65,9 @@ public class ProductController {
                 this::sellProduct,
                 this::showBuyForm,
                 this::buyProduct,
+                this::addSaleToBasket,
+                this::addPurchaseToBasket,
+                this::checkoutBasket,
                 refreshProductAsync);
 
         // Establish bidirectional binding with parent dashboard state
@@ -63,11 +76,17 @@ public class ProductController {
         productModel.progressProperty().bind(progressProperty);
         productModel.productPurchaseObjectPropertyProperty().bindBidirectional(productPurchaseObjectProperty);
         productModel.productSaleObjectPropertyProperty().bindBidirectional(productSaleObjectProperty);
+        productModel.searchTextProperty().bindBidirectional(productSearchText);
+        productModel.searchMatchesProperty().bind(productSearchMatches);
+        Bindings.bindContentBidirectional(productModel.getBasketSales(), basketSales);
+        Bindings.bindContentBidirectional(productModel.getBasketPurchases(), basketPurchases);
+        productModel.reportFormatProperty().bindBidirectional(reportFormat);
 
         this.printDetailsAsync = printDetailsAsync;
         this.printStockAsync = printStockAsync;
         this.sellProductAsync = sellProductAsync;
         this.buyProductAsync = buyProductAsync;
+        this.processBasketAsync = processBasketAsync;
     }
 
     /** Shows purchase form modal with validation for single product selection */
@@ -137,6 +156,50 @@ public class ProductController {
         });
     }
 
+    /** Adds the purchase to the basket with the same validation as an immediate purchase */
+    private void addPurchaseToBasket(Runnable onAdded) {
+        if (!productInteractor.prePurchaseValidation()){
+            Alert alert = new Alert(Alert.AlertType.WARNING);
+            alert.setTitle("Basket warning");
+            alert.setContentText("Quantity must be a number and be greater than 0!");
+            alert.show();
+            onAdded.run();
+            return;
+        }
+        productInteractor.addPurchaseToBasket();
+        onAdded.run();
+    }
+
+    /** Adds the sale to the basket with the same validation as an immediate sale */
+    private void addSaleToBasket(Runnable onAdded) {
+        if (!productInteractor.preSaleValidation()){
+            Alert alert = new Alert(Alert.AlertType.WARNING);
+            alert.setTitle("Basket warning");
+            alert.setContentText("Price must be a number!");
+            alert.show();
+            onAdded.run();
+            return;
+        }
+        productInteractor.addSaleToBasket();
+        onAdded.run();
+    }
+
+    /** Books every basket line in one transaction and delegates to parent controller */
+    private void checkoutBasket(Runnable onCheckoutComplete) {
+        if (productInteractor.isBasketEmpty()){
+            Alert alert = new Alert(Alert.AlertType.WARNING);
+            alert.setTitle("Basket warning");
+            alert.setContentText("Add sales or purchases to the basket first");
+            alert.show();
+            onCheckoutComplete.run();
+            return;
+        }
+        processBasketAsync.accept(()->{
+            productInteractor.resolveResult();
+            onCheckoutComplete.run();
+        });
+    }
+
     /** Prints details of selected products and processes result */
     private void printProductDetails(Runnable onPrintTaskCompleted) {
         printDetailsAsync.accept(()->{
@@ -59,19 +59,67 @@ public class ProductInteractor {
         return count == 1;
     }
 
-    /** Creates product sale transaction object from form data */
+    /**
+     * Creates product sale transaction object from form data.
+     * Submitting the same sale again after a failed attempt keeps its operation id, so a sale
+     * whose first attempt did reach the database is not booked twice.
+     */
     public void createProductSale(){
+        ProductSale previous = productModel.getProductSaleObjectProperty();
+        ProductSale sale = newProductSale();
+        if (previous != null && isRetry() && previous.productId() == sale.productId()
+                && previous.price() == sale.price() && previous.quantity() == sale.quantity()) {
+            sale = previous;
+        }
+        productModel.productSaleObjectPropertyProperty().set(sale);
+    }
+
+    /**
+     * Creates product purchase transaction object from form data.
+     * Submitting the same purchase again after a failed attempt keeps its operation id.
+     */
+    public void createProductPurchase(){
+        ProductPurchase previous = productModel.getProductPurchaseObjectProperty();
+        ProductPurchase purchase = newProductPurchase();
+        if (previous != null && isRetry() && previous.productId() == purchase.productId()
+                && previous.quantity() == purchase.quantity()) {
+            purchase = previous;
+        }
+        productModel.productPurchaseObjectPropertyProperty().set(purchase);
+    }
+
+    /** Adds the sale from the form data to the basket instead of booking it immediately */
+    public void addSaleToBasket(){
+        productModel.getBasketSales().add(newProductSale());
+    }
+
+    /** Adds the purchase from the form data to the basket instead of booking it immediately */
+    public void addPurchaseToBasket(){
+        productModel.getBasketPurchases().add(newProductPurchase());
+    }
+
+    private ProductSale newProductSale(){
         ProductEntry productEntry = productModel.getActiveProductEntryObjectProperty();
         int quantity = productModel.getQuantity();
         int price = Integer.parseInt(productModel.getPrice());
-        productModel.productSaleObjectPropertyProperty().set(new ProductSale(productEntry.getId(), price, quantity));
+        return new ProductSale(productEntry.getId(), price, quantity);
     }
 
-    /** Creates product purchase transaction object from form data */
-    public void createProductPurchase(){
+    private ProductPurchase newProductPurchase(){
         ProductEntry productEntry = productModel.getActiveProductEntryObjectProperty();
         int quantity = Integer.parseInt(productModel.getBuyQuantity());
-        productModel.productPurchaseObjectPropertyProperty().set(new ProductPurchase(productEntry.getId(), quantity));
+        return new ProductPurchase(productEntry.getId(), quantity);
+    }
+
+    /** Whether the last operation failed, so the next identical one is a retry of it */
+    private boolean isRetry(){
+        Result result = productModel.getResultObjectProperty();
+        return result != null && !"success".equals(result.getStatus());
+    }
+
+    /** Validates that the basket holds at least one sale or purchase */
+    public boolean isBasketEmpty(){
+        return productModel.getBasketSales().isEmpty() && productModel.getBasketPurchases().isEmpty();
     }
 
     /** Validates that price input is a valid number */
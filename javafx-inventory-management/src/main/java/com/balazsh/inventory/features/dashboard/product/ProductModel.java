@@ -4,10 +4,13 @@ import com.balazsh.inventory.domain.model.ProductEntry;
 import com.balazsh.inventory.domain.model.ProductPurchase;
 import com.balazsh.inventory.domain.model.ProductSale;
 import com.balazsh.inventory.domain.model.Result;
+import com.balazsh.inventory.domain.report.ReportFormat;
 import javafx.beans.property.*;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
+import java.util.Set;
+
 public class ProductModel {
 
     private final ObservableList<ProductEntry> productEntries = FXCollections.observableArrayList(); // Product inventory list
@@ -15,6 +18,8 @@ public class ProductModel {
     private final ObjectProperty<ProductEntry> activeProductEntryObjectProperty = new SimpleObjectProperty<>(); // Currently selected product
     private final ObjectProperty<ProductSale> productSaleObjectProperty = new SimpleObjectProperty<>(); // Sale transaction data
     private final ObjectProperty<ProductPurchase> productPurchaseObjectProperty = new SimpleObjectProperty<>(); // Purchase transaction data
+    private final ObservableList<ProductSale> basketSales = FXCollections.observableArrayList(); // Sales added to the basket
+    private final ObservableList<ProductPurchase> basketPurchases = FXCollections.observableArrayList(); // Purchases added to the basket
     private final BooleanProperty showSaleForm = new SimpleBooleanProperty(false); // Sale form modal visibility
     private final BooleanProperty showBuyForm = new SimpleBooleanProperty(false); // Purchase form modal visibility
     private final SimpleStringProperty price = new SimpleStringProperty(); // Price input for transactions
@@ -25,6 +30,9 @@ public class ProductModel {
     private final ObjectProperty<Result> resultObjectProperty = new SimpleObjectProperty<>(); // Operation results
     private final BooleanProperty isLoading = new SimpleBooleanProperty(false); // Loading state
     private final DoubleProperty progress = new SimpleDoubleProperty(); // Progress tracking
+    private final StringProperty searchText = new SimpleStringProperty(""); // Search box text
+    private final ObjectProperty<Set<Integer>> searchMatches = new SimpleObjectProperty<>(); // Ids matching the search
+    private final ObjectProperty<ReportFormat> reportFormat = new SimpleObjectProperty<>(ReportFormat.TEXT); // Format the print buttons write
 
     public String getBuyQuantity() {
         return buyQuantity.get();
@@ -134,7 +142,39 @@ public class ProductModel {
         return resultObjectProperty;
     }
 
+    public String getSearchText() {
+        return searchText.get();
+    }
+
+    public StringProperty searchTextProperty() {
+        return searchText;
+    }
+
+    public Set<Integer> getSearchMatches() {
+        return searchMatches.get();
+    }
+
+    public ObjectProperty<Set<Integer>> searchMatchesProperty() {
+        return searchMatches;
+    }
+
     public ObservableList<ProductEntry> getProductEntries() {
         return productEntries;
     }
+
+    public ObservableList<ProductSale> getBasketSales() {
+        return basketSales;
+    }
+
+    public ObservableList<ProductPurchase> getBasketPurchases() {
+        return basketPurchases;
+    }
+
+    public ReportFormat getReportFormat() {
+        return reportFormat.get();
+    }
+
+    public ObjectProperty<ReportFormat> reportFormatProperty() {
+        return reportFormat;
+    }
 }
@@ -1,7 +1,9 @@
 package com.balazsh.inventory.features.dashboard.product;
 
 import com.balazsh.inventory.domain.model.ProductEntry;
+import com.balazsh.inventory.domain.report.ReportFormat;
 import javafx.beans.binding.Bindings;
+import javafx.beans.binding.ObjectBinding;
 import javafx.beans.property.StringProperty;
 import javafx.collections.transformation.FilteredList;
 import javafx.geometry.Insets;
@@ -16,7 +18,9 @@ import javafx.scene.paint.Paint;
 import javafx.util.Builder;
 import javafx.util.Callback;
 
+import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * Product view builder constructing the product management interface.
@@ -32,6 +36,9 @@ public class ProductViewBuilder implements Builder<Region> {
     private final Consumer<Runnable> sellProductAction; // Process sale callback
     private final Consumer<Runnable> showBuyForm; // Show purchase form callback
     private final Consumer<Runnable> buyProductAction; // Process purchase callback
+    private final Consumer<Runnable> addSaleToBasketAction; // Add sale to basket callback
+    private final Consumer<Runnable> addPurchaseToBasketAction; // Add purchase to basket callback
+    private final Consumer<Runnable> checkoutBasketAction; // Book basket callback
     private final Consumer<Runnable> refreshAction; // Refresh data callback
 
     public ProductViewBuilder(ProductModel productModel,
@@ -41,6 +48,9 @@ public class ProductViewBuilder implements Builder<Region> {
                               Consumer<Runnable> sellProductAction,
                               Consumer<Runnable> showBuyForm,
                               Consumer<Runnable> buyProductAction,
+                              Consumer<Runnable> addSaleToBasketAction,
+                              Consumer<Runnable> addPurchaseToBasketAction,
+                              Consumer<Runnable> checkoutBasketAction,
                               Consumer<Runnable> refreshAction) {
         this.productModel = productModel;
         this.printDetailsAction = printDetailsAction;
@@ -49,6 +59,9 @@ public class ProductViewBuilder implements Builder<Region> {
         this.sellProductAction = sellProductAction;
         this.showBuyForm = showBuyForm;
         this.buyProductAction = buyProductAction;
+        this.addSaleToBasketAction = addSaleToBasketAction;
+        this.addPurchaseToBasketAction = addPurchaseToBasketAction;
+        this.checkoutBasketAction = checkoutBasketAction;
         this.refreshAction = refreshAction;
     }
 
@@ -64,7 +77,7 @@ public class ProductViewBuilder implements Builder<Region> {
 
         TextField searchField = createSearchField();
 
-        TableView<ProductEntry> tableView = createProductTableView(searchField);
+        TableView<ProductEntry> tableView = createProductTableView();
 
         HBox buttonPanel = createButtonPanel();
 
@@ -135,6 +148,13 @@ public class ProductViewBuilder implements Builder<Region> {
             productModel.buyQuantityProperty().set("");
         });
 
+        Button addToBasket = new Button("Add to Basket");
+        addToBasket.getStyleClass().add("secondary-button");
+        addToBasket.setOnAction(e -> addPurchaseToBasketAction.accept(() -> {
+            productModel.showBuyFormProperty().set(false);
+            productModel.buyQuantityProperty().set("");
+        }));
+
         // Confirm purchase with loading state and form reset
         confirm.setOnAction(e -> {
             formRoot.setDisable(true);
@@ -146,7 +166,7 @@ public class ProductViewBuilder implements Builder<Region> {
             });
         });
         
-        buttonContainer.getChildren().addAll(confirm, cancel);
+        buttonContainer.getChildren().addAll(confirm, addToBasket, cancel);
 
         formContainer.getChildren().addAll(title, fieldsContainer, buttonContainer);
         formRoot.getChildren().add(formContainer);
@@ -206,6 +226,13 @@ public class ProductViewBuilder implements Builder<Region> {
             productModel.priceProperty().set("");
         });
 
+        Button addToBasket = new Button("Add to Basket");
+        addToBasket.getStyleClass().add("secondary-button");
+        addToBasket.setOnAction(e -> addSaleToBasketAction.accept(() -> {
+            productModel.showSaleFormProperty().set(false);
+            productModel.priceProperty().set("");
+        }));
+
         // Confirm sale with loading state and form reset
         confirm.setOnAction(e -> {
             formRoot.setDisable(true);
@@ -217,7 +244,7 @@ public class ProductViewBuilder implements Builder<Region> {
             });
         });
         
-        buttonContainer.getChildren().addAll(confirm, cancel);
+        buttonContainer.getChildren().addAll(confirm, addToBasket, cancel);
 
         formContainer.getChildren().addAll(title, fieldsContainer, buttonContainer);
         formRoot.getChildren().add(formContainer);
@@ -260,34 +287,33 @@ public class ProductViewBuilder implements Builder<Region> {
         searchField.setPromptText("Search products by name, category, or ID...");
         searchField.getStyleClass().add("form-field");
         searchField.setPrefWidth(400);
+        searchField.textProperty().bindBidirectional(productModel.searchTextProperty());
 
         return searchField;
     }
 
     /** Creates product table with search filtering, selection, and image display */
-    private TableView<ProductEntry> createProductTableView(TextField searchField) {
+    private TableView<ProductEntry> createProductTableView() {
         TableView<ProductEntry> tableView = new TableView<>();
         tableView.getStyleClass().add("modern-table");
 
         FilteredList<ProductEntry> filteredData = new FilteredList<>(productModel.getProductEntries(), p -> true);
 
-        // Real-time search filtering by name, category, or ID
-        searchField.textProperty().addListener((observable, oldValue, newValue) -> {
-            filteredData.setPredicate(product -> {
+        // Real-time search filtering: name/category/description matches are resolved by the search index, IDs here
+        ObjectBinding<Predicate<ProductEntry>> searchPredicate = Bindings.createObjectBinding(() -> {
+            String searchText = productModel.getSearchText();
+            Set<Integer> matches = productModel.getSearchMatches();
 
-                if (newValue == null || newValue.isEmpty()) {
-                    return true;
-                }
+            if (searchText == null || searchText.isBlank()) {
+                return product -> true;
+            }
 
-                String lowerCaseFilter = newValue.toLowerCase();
+            String trimmedFilter = searchText.trim();
+            return product -> (matches != null && matches.contains(product.getId()))
+                    || String.valueOf(product.getId()).contains(trimmedFilter);
+        }, productModel.searchTextProperty(), productModel.searchMatchesProperty());
 
-                if (product.getName().toLowerCase().contains(lowerCaseFilter)) {
-                    return true;
-                } else if (product.getCategory().toLowerCase().contains(lowerCaseFilter)) {
-                    return true;
-                } else return String.valueOf(product.getId()).contains(lowerCaseFilter);
-            });
-        });
+        filteredData.predicateProperty().bind(searchPredicate);
 
         tableView.setItems(filteredData);
 
@@ -418,18 +444,30 @@ public class ProductViewBuilder implements Builder<Region> {
         Button printStockButton = new Button("Print Stock");
         printStockButton.getStyleClass().add("action-button");
 
+        // File format both print buttons write
+        ComboBox<ReportFormat> reportFormatBox = new ComboBox<>();
+        reportFormatBox.getStyleClass().add("form-combo");
+        reportFormatBox.getItems().addAll(ReportFormat.values());
+        reportFormatBox.valueProperty().bindBidirectional(productModel.reportFormatProperty());
+
         Button sellProductButton = new Button("Sell Product");
         sellProductButton.getStyleClass().add("success-button");
 
         Button buyProductButton = new Button("Buy Product");
         buyProductButton.getStyleClass().add("action-button");
 
+        // Checkout shows how many lines are waiting in the basket
+        Button checkoutBasketButton = new Button();
+        checkoutBasketButton.getStyleClass().add("success-button");
+        checkoutBasketButton.textProperty().bind(Bindings.format("Checkout Basket (%d)",
+                Bindings.size(productModel.getBasketSales()).add(Bindings.size(productModel.getBasketPurchases()))));
+
         Button refreshButton = new Button("Refresh");
         refreshButton.getStyleClass().add("action-button");
 
         buttonPanel.getChildren().addAll(
             selectAllButton, deselectAllButton, printDetailsButton,
-            printStockButton, sellProductButton, buyProductButton, refreshButton
+            printStockButton, reportFormatBox, sellProductButton, buyProductButton, checkoutBasketButton, refreshButton
         );
 
         // Button actions with loading states
@@ -455,6 +493,13 @@ public class ProductViewBuilder implements Builder<Region> {
             showBuyForm.accept(()->{});
         });
 
+        checkoutBasketButton.setOnAction(e -> {
+            productModel.isLoadingProperty().set(true);
+            checkoutBasketAction.accept(()->{
+                productModel.isLoadingProperty().set(false);
+            });
+        });
+
         refreshButton.setOnAction(e -> {
             productModel.isLoadingProperty().set(true);
             refreshAction.accept(()->{
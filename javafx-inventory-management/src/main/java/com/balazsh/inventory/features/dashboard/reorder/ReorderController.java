@@ -0,0 +1,75 @@
+package com.balazsh.inventory.features.dashboard.reorder;
+
+import com.balazsh.inventory.domain.model.PendingReorder;
+import com.balazsh.inventory.domain.model.Result;
+import javafx.beans.binding.Bindings;
+import javafx.beans.property.ObjectProperty;
+import javafx.collections.ObservableList;
+import javafx.scene.control.Alert;
+import javafx.scene.layout.Region;
+
+import java.util.function.Consumer;
+
+/**
+ * Reorder controller listing the pending reorders raised by the replenishment engine
+ * and receiving the selected ones into stock. Data is fetched by the parent dashboard controller.
+ */
+public class ReorderController {
+
+    private final ReorderModel reorderModel; // Pending and selected reorders
+    private final ReorderInteractor reorderInteractor; // Summary and validation
+    private final ReorderViewBuilder reorderViewBuilder; // UI construction
+    private final Consumer<Runnable> fetchReordersAsync; // Fetch pending reorders
+    private final Consumer<Runnable> receiveReordersAsync; // Receive selected reorders
+
+    public ReorderController(ObservableList<PendingReorder> pendingReorders,
+                             ObservableList<PendingReorder> selectedReorders,
+                             ObjectProperty<Result> resultObjectProperty,
+                             Consumer<Runnable> fetchReordersAsync,
+                             Consumer<Runnable> receiveReordersAsync) {
+        this.reorderModel = new ReorderModel();
+        this.reorderInteractor = new ReorderInteractor(reorderModel);
+        this.reorderViewBuilder = new ReorderViewBuilder(reorderModel, this::refreshReorders, this::receiveReorders);
+        this.fetchReordersAsync = fetchReordersAsync;
+        this.receiveReordersAsync = receiveReordersAsync;
+
+        // Share the lists with the parent dashboard, which fetches and receives them
+        Bindings.bindContentBidirectional(reorderModel.getPendingReorders(), pendingReorders);
+        Bindings.bindContentBidirectional(reorderModel.getSelectedReorders(), selectedReorders);
+        reorderModel.resultPropertyProperty().bind(resultObjectProperty);
+
+        reorderInteractor.updateSummary();
+        reorderModel.getPendingReorders().subscribe(reorderInteractor::updateSummary);
+    }
+
+    /** Requests the pending reorders from the parent controller */
+    private void refreshReorders(Runnable onRefreshComplete) {
+        reorderModel.isLoadingProperty().set(true);
+        fetchReordersAsync.accept(() -> {
+            reorderModel.isLoadingProperty().set(false);
+            onRefreshComplete.run();
+        });
+    }
+
+    /** Receives the selected reorders, warning when none is selected */
+    private void receiveReorders(Runnable onReceiveComplete) {
+        if (!reorderInteractor.hasSelectedReorders()) {
+            Alert alert = new Alert(Alert.AlertType.WARNING);
+            alert.setTitle("Reorder receiving warning");
+            alert.setContentText("Select the reorders that have arrived");
+            alert.show();
+            onReceiveComplete.run();
+            return;
+        }
+        reorderModel.isLoadingProperty().set(true);
+        receiveReordersAsync.accept(() -> {
+            reorderModel.isLoadingProperty().set(false);
+            reorderInteractor.resolveResult();
+            onReceiveComplete.run();
+        });
+    }
+
+    public Region getView() {
+        return reorderViewBuilder.build();
+    }
+}
@@ -0,0 +1,53 @@
+package com.balazsh.inventory.features.dashboard.reorder;
+
+import com.balazsh.inventory.domain.model.PendingReorder;
+import com.balazsh.inventory.domain.model.Result;
+import javafx.scene.control.Alert;
+
+import java.util.List;
+
+/**
+ * Reorder business logic summarising the pending reorders and validating receive requests.
+ */
+public class ReorderInteractor {
+
+    private final ReorderModel reorderModel;
+
+    public ReorderInteractor(ReorderModel reorderModel) {
+        this.reorderModel = reorderModel;
+    }
+
+    /** Replaces the summary with the number of pending reorders, their units and their total cost */
+    public void updateSummary() {
+        List<PendingReorder> reorders = reorderModel.getPendingReorders();
+        if (reorders.isEmpty()) {
+            reorderModel.summaryProperty().set("No pending reorders");
+            return;
+        }
+
+        long units = reorders.stream().mapToLong(PendingReorder::quantity).sum();
+        long cost = reorders.stream().mapToLong(reorder -> (long) reorder.quantity() * reorder.cost()).sum();
+        reorderModel.summaryProperty().set(String.format("Pending reorders: %d | Units: %d | Total cost: %d",
+                reorders.size(), units, cost));
+    }
+
+    /** Validates that at least one reorder is selected for receiving */
+    public boolean hasSelectedReorders() {
+        return !reorderModel.getSelectedReorders().isEmpty();
+    }
+
+    /** Shows the outcome of the last receive operation */
+    public void resolveResult() {
+        Result result = reorderModel.getResultProperty();
+        Alert alert;
+        if (result.getStatus().equals("success")) {
+            alert = new Alert(Alert.AlertType.CONFIRMATION);
+            alert.setTitle("Success");
+        } else {
+            alert = new Alert(Alert.AlertType.ERROR);
+            alert.setTitle("Error");
+        }
+        alert.setContentText(result.getMessage());
+        alert.show();
+    }
+}
@@ -0,0 +1,48 @@
+package com.balazsh.inventory.features.dashboard.reorder;
+
+import com.balazsh.inventory.domain.model.PendingReorder;
+import com.balazsh.inventory.domain.model.Result;
+import javafx.beans.property.*;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+public class ReorderModel {
+
+    private final ObservableList<PendingReorder> pendingReorders = FXCollections.observableArrayList(); // Reorders raised by the replenishment engine
+    private final ObservableList<PendingReorder> selectedReorders = FXCollections.observableArrayList(); // Reorders selected for receiving
+    private final StringProperty summary = new SimpleStringProperty(""); // Reorder, unit and cost totals
+    private final ObjectProperty<Result> resultProperty = new SimpleObjectProperty<>(); // Operation results
+    private final BooleanProperty isLoading = new SimpleBooleanProperty(false); // Fetch or receive in progress
+
+    public ObservableList<PendingReorder> getPendingReorders() {
+        return pendingReorders;
+    }
+
+    public ObservableList<PendingReorder> getSelectedReorders() {
+        return selectedReorders;
+    }
+
+    public String getSummary() {
+        return summary.get();
+    }
+
+    public StringProperty summaryProperty() {
+        return summary;
+    }
+
+    public Result getResultProperty() {
+        return resultProperty.get();
+    }
+
+    public ObjectProperty<Result> resultPropertyProperty() {
+        return resultProperty;
+    }
+
+    public boolean isIsLoading() {
+        return isLoading.get();
+    }
+
+    public BooleanProperty isLoadingProperty() {
+        return isLoading;
+    }
+}
@@ -0,0 +1,101 @@
+package com.balazsh.inventory.features.dashboard.reorder;
+
+import com.balazsh.inventory.domain.model.PendingReorder;
+import javafx.beans.binding.Bindings;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.control.*;
+import javafx.scene.layout.*;
+import javafx.util.Builder;
+
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * Reorder view builder showing the pending reorders raised by the replenishment engine,
+ * with refresh and receive actions for the selected rows.
+ */
+public class ReorderViewBuilder implements Builder<Region> {
+
+    private final ReorderModel reorderModel; // Pending and selected reorders
+    private final Consumer<Runnable> refreshAction; // Refresh reorders callback
+    private final Consumer<Runnable> receiveAction; // Receive selected reorders callback
+
+    public ReorderViewBuilder(ReorderModel reorderModel, Consumer<Runnable> refreshAction, Consumer<Runnable> receiveAction) {
+        this.reorderModel = reorderModel;
+        this.refreshAction = refreshAction;
+        this.receiveAction = receiveAction;
+    }
+
+    /** Builds the reorder page with action buttons, summary and reorder table */
+    @Override
+    public Region build() {
+        VBox root = new VBox(20);
+        root.setPadding(new Insets(20));
+
+        Label summaryLabel = new Label();
+        summaryLabel.setWrapText(true);
+        summaryLabel.textProperty().bind(reorderModel.summaryProperty());
+
+        TableView<PendingReorder> tableView = createReorderTableView();
+        VBox.setVgrow(tableView, Priority.ALWAYS);
+
+        root.getChildren().addAll(createButtonPanel(), summaryLabel, tableView);
+        return root;
+    }
+
+    /** Creates refresh and receive buttons, disabled while an operation is running */
+    private HBox createButtonPanel() {
+        HBox buttonPanel = new HBox(12);
+        buttonPanel.getStyleClass().add("button-panel");
+        buttonPanel.setAlignment(Pos.CENTER_LEFT);
+
+        Button refreshButton = new Button("Refresh");
+        refreshButton.getStyleClass().add("success-button");
+        refreshButton.disableProperty().bind(reorderModel.isLoadingProperty());
+        refreshButton.setOnAction(event -> refreshAction.accept(() -> {}));
+
+        Button receiveButton = new Button("Receive Selected");
+        receiveButton.getStyleClass().add("success-button");
+        receiveButton.disableProperty().bind(reorderModel.isLoadingProperty()
+                .or(Bindings.isEmpty(reorderModel.getSelectedReorders())));
+        receiveButton.setOnAction(event -> receiveAction.accept(() -> {}));
+
+        buttonPanel.getChildren().addAll(refreshButton, receiveButton);
+        return buttonPanel;
+    }
+
+    /** Creates the reorder table; the selected rows are mirrored into the model for receiving */
+    private TableView<PendingReorder> createReorderTableView() {
+        TableView<PendingReorder> tableView = new TableView<>();
+        tableView.getStyleClass().add("modern-table");
+        tableView.setItems(reorderModel.getPendingReorders());
+        tableView.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY);
+        tableView.setPlaceholder(new Label("No pending reorders"));
+        tableView.getSelectionModel().setSelectionMode(SelectionMode.MULTIPLE);
+        tableView.getSelectionModel().getSelectedItems().subscribe(() ->
+                reorderModel.getSelectedReorders().setAll(tableView.getSelectionModel().getSelectedItems()));
+
+        TableColumn<PendingReorder, String> productColumn = new TableColumn<>("Product");
+        productColumn.setCellValueFactory(cell -> new ReadOnlyStringWrapper(cell.getValue().productName()));
+        productColumn.setPrefWidth(300);
+
+        tableView.getColumns().addAll(
+                createNumberColumn("Order", PendingReorder::orderId),
+                productColumn,
+                createNumberColumn("Location", PendingReorder::stockId),
+                createNumberColumn("Quantity", PendingReorder::quantity),
+                createNumberColumn("Unit cost", PendingReorder::cost));
+
+        return tableView;
+    }
+
+    private TableColumn<PendingReorder, Integer> createNumberColumn(String title, ToIntFunction<PendingReorder> value) {
+        TableColumn<PendingReorder, Integer> column = new TableColumn<>(title);
+        column.setCellValueFactory(cell -> new ReadOnlyObjectWrapper<>(value.applyAsInt(cell.getValue())));
+        column.setPrefWidth(90);
+        return column;
+    }
+}
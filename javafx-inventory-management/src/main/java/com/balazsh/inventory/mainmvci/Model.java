@@ -9,7 +9,7 @@ import javafx.beans.property.SimpleObjectProperty;
 public class Model {
 
     private final BooleanProperty authPageSelected = new SimpleBooleanProperty(true);
-    private final ObjectProperty<ActiveUserDetails> activeUserDetails = new SimpleObjectProperty<>(new ActiveUserDetails("", null, null));
+    private final ObjectProperty<ActiveUserDetails> activeUserDetails = new SimpleObjectProperty<>(new ActiveUserDetails(0, "", null, null));
     private final BooleanProperty dashboardPageSelected = new SimpleBooleanProperty(false);
 
 
@@ -0,0 +1,22 @@
+package com.balazsh.inventory.util;
+
+/**
+ * Second-level cache (Caffeine JCache) settings shared by Hibernate and the cached entities.
+ * Hibernate creates and closes the cache manager itself; the regions, their size limits and
+ * time-to-live are configured in application.conf, which Caffeine reads when the manager is created.
+ * The application never touches the JCache API directly, so the cache-api jar, which has no module
+ * name of its own, stays on the class path instead of becoming a filename-based automatic module.
+ * Entity writes and HQL mutations made through Hibernate invalidate the cached regions; edits made
+ * outside the application become visible once the cached entries expire.
+ */
+public class CacheUtil {
+
+    /** Entity and collection region for rarely changing reference data (roles, permissions, categories) */
+    public static final String REFERENCE_REGION = "reference";
+
+    /** Query result region for queries that only read reference data */
+    public static final String REFERENCE_QUERY_REGION = "reference-queries";
+
+    /** JCache provider Hibernate creates the cache manager from */
+    static final String CACHING_PROVIDER = "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider";
+}
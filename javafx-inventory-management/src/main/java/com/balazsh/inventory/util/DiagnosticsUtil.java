@@ -0,0 +1,136 @@
+package com.balazsh.inventory.util;
+
+import com.balazsh.inventory.domain.model.DiagnosticsSnapshot;
+import com.balazsh.inventory.domain.model.PoolDiagnostics;
+import com.balazsh.inventory.domain.model.QueryDiagnostics;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.jboss.logging.Logger;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exposes query latency statistics and periodically exports them to a snapshot file,
+ * so regressions under production load can be inspected without attaching a profiler.
+ */
+public class DiagnosticsUtil {
+
+    /** Seconds between snapshot file exports, 0 disables the export; overridable with -Dinventory.diagnostics.snapshot_seconds */
+    public static final long SNAPSHOT_INTERVAL_SECONDS = Long.getLong("inventory.diagnostics.snapshot_seconds", 300);
+
+    /** Snapshot file location, overridable with -Dinventory.diagnostics.file */
+    public static final Path SNAPSHOT_FILE = Path.of(System.getProperty("inventory.diagnostics.file", "diagnostics_snapshot.txt"));
+
+    private static ScheduledExecutorService snapshotExecutor;
+    private static final Logger logger = Logger.getLogger(DiagnosticsUtil.class);
+
+    /** Returns the current statistics, or empty while the SessionFactory is not available */
+    public static Optional<DiagnosticsSnapshot> snapshot() {
+        SessionFactory sessionFactory = HibernateUtil.currentSessionFactory();
+        return Optional.ofNullable(sessionFactory)
+                .map(SessionFactory::getStatistics)
+                .filter(QueryStatisticsRecorder.class::isInstance)
+                .map(statistics -> ((QueryStatisticsRecorder) statistics).snapshot(poolDiagnostics(sessionFactory)));
+    }
+
+    /** Returns the read and write pool gauges, or nothing if Hibernate manages its own connections */
+    private static List<PoolDiagnostics> poolDiagnostics(SessionFactory sessionFactory) {
+        MultiTenantConnectionProvider<?> connectionProvider = sessionFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(MultiTenantConnectionProvider.class);
+        if (connectionProvider != null && connectionProvider.isUnwrappableAs(ReadWriteConnectionProvider.class)) {
+            return connectionProvider.unwrap(ReadWriteConnectionProvider.class).poolDiagnostics();
+        }
+        return List.of();
+    }
+
+    /** Starts the periodic snapshot export unless it is disabled or already running */
+    public static synchronized void startSnapshotExport() {
+        if (SNAPSHOT_INTERVAL_SECONDS <= 0 || snapshotExecutor != null) {
+            return;
+        }
+        snapshotExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setName("Diagnostics Snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        snapshotExecutor.scheduleAtFixedRate(DiagnosticsUtil::exportSnapshot,
+                SNAPSHOT_INTERVAL_SECONDS, SNAPSHOT_INTERVAL_SECONDS, TimeUnit.SECONDS);
+        logger.infof("Diagnostics snapshots exported to %s every %d s", SNAPSHOT_FILE.toAbsolutePath(), SNAPSHOT_INTERVAL_SECONDS);
+    }
+
+    /** Stops the periodic export and writes a final snapshot */
+    public static synchronized void shutdown() {
+        if (snapshotExecutor != null) {
+            snapshotExecutor.shutdownNow();
+            snapshotExecutor = null;
+            exportSnapshot();
+        }
+    }
+
+    /** Writes the current snapshot to a temporary file and moves it over the previous one */
+    private static void exportSnapshot() {
+        snapshot().ifPresent(snapshot -> {
+            try {
+                Path directory = SNAPSHOT_FILE.toAbsolutePath().getParent();
+                Path temporary = Files.createTempFile(directory, "diagnostics", ".tmp");
+                try (BufferedWriter writer = Files.newBufferedWriter(temporary)) {
+                    writer.write(format(snapshot));
+                }
+                Files.move(temporary, SNAPSHOT_FILE, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                logger.warn("Failed to export diagnostics snapshot", e);
+            }
+        });
+    }
+
+    /** Formats a snapshot as a plain text report */
+    public static String format(DiagnosticsSnapshot snapshot) {
+        StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append("Snapshot taken at: ").append(snapshot.takenAt()).append("\n");
+        stringBuilder.append("Sessions opened: ").append(snapshot.sessionsOpened()).append("\n");
+        stringBuilder.append("Statements prepared: ").append(snapshot.statementsPrepared()).append("\n");
+        stringBuilder.append("Second-level cache hits/misses: ")
+                .append(snapshot.secondLevelCacheHits()).append("/").append(snapshot.secondLevelCacheMisses()).append("\n");
+        stringBuilder.append("Entities loaded: ").append(snapshot.totalEntityLoads()).append("\n");
+        for (Map.Entry<String, Long> entityLoad : snapshot.entityLoads().entrySet()) {
+            stringBuilder.append("  ").append(entityLoad.getKey()).append(": ").append(entityLoad.getValue()).append("\n");
+        }
+        for (PoolDiagnostics pool : snapshot.pools()) {
+            stringBuilder.append("Pool ").append(pool.pool()).append(": ")
+                    .append(pool.active()).append(" active, ")
+                    .append(pool.idle()).append(" idle, ")
+                    .append(pool.pending()).append(" waiting, max ").append(pool.max())
+                    .append(", timeouts: ").append(pool.timeouts()).append("\n");
+            stringBuilder.append("  Acquisitions: ").append(pool.acquisitions())
+                    .append(", p50: ").append(pool.acquireP50Micros()).append(" us")
+                    .append(", p95: ").append(pool.acquireP95Micros()).append(" us")
+                    .append(", p99: ").append(pool.acquireP99Micros()).append(" us")
+                    .append(", max: ").append(pool.acquireMaxMicros()).append(" us").append("\n");
+        }
+        stringBuilder.append("\n");
+
+        for (QueryDiagnostics query : snapshot.queries()) {
+            stringBuilder.append("Query: ").append(query.query()).append("\n");
+            stringBuilder.append("  Executions: ").append(query.executions())
+                    .append(", Rows: ").append(query.rows()).append("\n");
+            stringBuilder.append("  p50: ").append(query.p50Millis()).append(" ms")
+                    .append(", p95: ").append(query.p95Millis()).append(" ms")
+                    .append(", p99: ").append(query.p99Millis()).append(" ms")
+                    .append(", max: ").append(query.maxMillis()).append(" ms").append("\n");
+        }
+        return stringBuilder.toString();
+    }
+}
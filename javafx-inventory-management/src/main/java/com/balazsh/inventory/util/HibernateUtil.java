@@ -1,60 +1,195 @@
 package com.balazsh.inventory.util;
 
 import com.balazsh.inventory.entity.*;
+import org.hibernate.Session;
 import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
 import org.hibernate.boot.Metadata;
 import org.hibernate.boot.MetadataSources;
 import org.hibernate.boot.registry.StandardServiceRegistry;
 import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.spi.StatisticsFactory;
+import com.balazsh.inventory.util.exceptions.DatabaseUnavailableException;
 import org.jboss.logging.Logger;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+
 public class HibernateUtil {
 
-    private static SessionFactory sessionFactory;
-    private static StandardServiceRegistry registry;
+    /** JDBC batch size used by Hibernate and by the DAO flush/clear cycle, overridable with -Dinventory.jdbc.batch_size */
+    public static final int JDBC_BATCH_SIZE = Integer.getInteger("inventory.jdbc.batch_size", 50);
+
+    /** Rows fetched per JDBC round trip by streaming queries, overridable with -Dinventory.jdbc.fetch_size */
+    public static final int JDBC_FETCH_SIZE = Integer.getInteger("inventory.jdbc.fetch_size", 500);
+
+    private static final List<Runnable> shutdownHooks = new CopyOnWriteArrayList<>(); // Run before the SessionFactory closes
+    private static CompletableFuture<SessionFactory> sessionFactoryFuture;
+    private static volatile StandardServiceRegistry registry;
     private static final Logger logger = Logger.getLogger(HibernateUtil.class);
 
-    public static SessionFactory getSessionFactory() {
-        if (sessionFactory == null) {
-            try {
-                registry = new StandardServiceRegistryBuilder().loadProperties("hibernate.properties").build();
-
-                MetadataSources metadataSources = new MetadataSources(registry);
-
-                metadataSources.addAnnotatedClass(Image.class);
-                metadataSources.addAnnotatedClass(User.class);
-                metadataSources.addAnnotatedClass(Product.class);
-                metadataSources.addAnnotatedClass(ProductImage.class);
-                metadataSources.addAnnotatedClass(Listing.class);
-                metadataSources.addAnnotatedClass(ProductCategory.class);
-                metadataSources.addAnnotatedClass(Role.class);
-                metadataSources.addAnnotatedClass(RolePermission.class);
-                metadataSources.addAnnotatedClass(Stock.class);
-                metadataSources.addAnnotatedClass(UserRole.class);
-                metadataSources.addAnnotatedClass(Resource.class);
-                metadataSources.addAnnotatedClass(Operation.class);
-                metadataSources.addAnnotatedClass(Permission.class);
-                metadataSources.addAnnotatedClass(PermissionId.class);
-                metadataSources.addAnnotatedClass(ProductImageId.class);
-                metadataSources.addAnnotatedClass(Order.class);
-                metadataSources.addAnnotatedClass(Transaction.class);
-
-                Metadata metadata = metadataSources.getMetadataBuilder().build();
-
-                sessionFactory = metadata.getSessionFactoryBuilder().build();
-                logger.info("Hibernate SessionFactory created");
-
-            }catch (Exception e) {
-                if (registry != null) {
-                    StandardServiceRegistryBuilder.destroy(registry);
-                    logger.info("Hibernate SessionFactory destroyed");
+    /**
+     * Starts building the SessionFactory on a background thread, or returns the bootstrap already in progress.
+     * Called from application start so the metadata is built while the login view renders.
+     * A failed bootstrap is forgotten once it completes, so the next caller starts a new one
+     * instead of every call failing until the application restarts.
+     */
+    public static synchronized CompletableFuture<SessionFactory> bootstrapAsync() {
+        if (sessionFactoryFuture == null) {
+            CompletableFuture<SessionFactory> bootstrap =
+                    CompletableFuture.supplyAsync(HibernateUtil::buildSessionFactory, daemonThread("Hibernate Bootstrap"));
+            sessionFactoryFuture = bootstrap;
+            bootstrap.whenComplete((sessionFactory, failure) -> {
+                if (failure != null) {
+                    forgetBootstrap(bootstrap);
                 }
+            });
+            // Warm query plans once the factory is available, without delaying anyone waiting for it; skipped if the bootstrap fails
+            bootstrap.thenAcceptAsync(NamedQueryWarmup::warmUp, daemonThread("Query Plan Warmup"))
+                    .whenComplete((ignored, failure) -> {
+                        if (failure != null && !bootstrap.isCompletedExceptionally()) {
+                            logger.warn("Query plan warmup failed", failure);
+                        }
+                    });
+        }
+        return sessionFactoryFuture;
+    }
+
+    /** Clears the failed bootstrap unless a newer one has already replaced it */
+    private static synchronized void forgetBootstrap(CompletableFuture<SessionFactory> failed) {
+        if (sessionFactoryFuture == failed) {
+            sessionFactoryFuture = null;
+        }
+    }
+
+    private static Executor daemonThread(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setName(name);
+            thread.setDaemon(true);
+            thread.start();
+        };
+    }
+
+    /**
+     * Returns the SessionFactory, waiting for the background bootstrap to finish if it is still running.
+     * @throws DatabaseUnavailableException if the bootstrap failed
+     */
+    public static SessionFactory getSessionFactory() {
+        try {
+            return bootstrapAsync().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof DatabaseUnavailableException databaseUnavailable) {
+                throw databaseUnavailable;
             }
+            throw new DatabaseUnavailableException("Database is unavailable", e.getCause());
         }
-        return sessionFactory;
+    }
+
+    /** Opens a session on the read pool, for dashboard fetches and lookups that never write */
+    public static Session openReadSession() {
+        return getSessionFactory().withOptions()
+                .tenantIdentifier((Object) ReadWriteConnectionProvider.READ_POOL)
+                .openSession();
+    }
+
+    /** Opens a stateless session on the read pool, for streaming reports */
+    public static StatelessSession openReadStatelessSession() {
+        return getSessionFactory().withStatelessOptions()
+                .tenantIdentifier((Object) ReadWriteConnectionProvider.READ_POOL)
+                .openStatelessSession();
+    }
+
+    private static SessionFactory buildSessionFactory() {
+        long start = System.nanoTime();
+        try {
+            StandardServiceRegistryBuilder registryBuilder = new StandardServiceRegistryBuilder()
+                    .loadProperties("hibernate.properties")
+                    .applySetting(AvailableSettings.STATEMENT_BATCH_SIZE, JDBC_BATCH_SIZE)
+                    .applySetting(AvailableSettings.ORDER_INSERTS, true)
+                    .applySetting(AvailableSettings.ORDER_UPDATES, true)
+                    .applySetting(AvailableSettings.STATEMENT_FETCH_SIZE, JDBC_FETCH_SIZE)
+                    .applySetting(AvailableSettings.USE_SECOND_LEVEL_CACHE, true)
+                    .applySetting(AvailableSettings.USE_QUERY_CACHE, true)
+                    .applySetting(AvailableSettings.CACHE_REGION_FACTORY, ConfigSettings.SIMPLE_FACTORY_NAME)
+                    .applySetting(ConfigSettings.PROVIDER, CacheUtil.CACHING_PROVIDER)
+                    .applySetting(AvailableSettings.GENERATE_STATISTICS, true)
+                    .applySetting(AvailableSettings.STATS_BUILDER, (StatisticsFactory) QueryStatisticsRecorder::new)
+                    // Route sessions to the read or write pool through the tenant identifier
+                    .applySetting(AvailableSettings.MULTI_TENANT_CONNECTION_PROVIDER, new ReadWriteConnectionProvider())
+                    .applySetting(AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER, new ReadWriteConnectionProvider.WritePoolResolver())
+                    // Share second-level cache entries between both pools instead of keying them by tenant
+                    .applySetting(AvailableSettings.CACHE_KEYS_FACTORY, "simple");
+            registry = registryBuilder.build();
+
+            MetadataSources metadataSources = new MetadataSources(registry);
+
+            metadataSources.addAnnotatedClass(Image.class);
+            metadataSources.addAnnotatedClass(User.class);
+            metadataSources.addAnnotatedClass(Product.class);
+            metadataSources.addAnnotatedClass(ProductImage.class);
+            metadataSources.addAnnotatedClass(Listing.class);
+            metadataSources.addAnnotatedClass(ProductCategory.class);
+            metadataSources.addAnnotatedClass(Role.class);
+            metadataSources.addAnnotatedClass(RolePermission.class);
+            metadataSources.addAnnotatedClass(Stock.class);
+            metadataSources.addAnnotatedClass(UserRole.class);
+            metadataSources.addAnnotatedClass(Resource.class);
+            metadataSources.addAnnotatedClass(Operation.class);
+            metadataSources.addAnnotatedClass(Permission.class);
+            metadataSources.addAnnotatedClass(PermissionId.class);
+            metadataSources.addAnnotatedClass(ProductImageId.class);
+            metadataSources.addAnnotatedClass(Order.class);
+            metadataSources.addAnnotatedClass(Transaction.class);
+            metadataSources.addAnnotatedClass(ProcessedOperation.class);
+            metadataSources.addAnnotatedClass(SelectedId.class);
+            metadataSources.addAnnotatedClass(SelectedIdKey.class);
+
+            Metadata metadata = metadataSources.getMetadataBuilder().build();
+
+            SessionFactory sessionFactory = metadata.getSessionFactoryBuilder().build();
+            logger.infof("Hibernate SessionFactory created in %d ms", (System.nanoTime() - start) / 1_000_000);
+            DiagnosticsUtil.startSnapshotExport();
+            return sessionFactory;
+
+        } catch (Exception e) {
+            logger.error("Hibernate SessionFactory could not be created", e);
+            if (registry != null) {
+                StandardServiceRegistryBuilder.destroy(registry);
+                registry = null;
+                logger.info("Hibernate SessionFactory destroyed");
+            }
+            throw new DatabaseUnavailableException("Database is unavailable", e);
+        }
+    }
+
+    /** Returns the SessionFactory if the bootstrap has completed successfully, without waiting for it */
+    static synchronized SessionFactory currentSessionFactory() {
+        if (sessionFactoryFuture == null || !sessionFactoryFuture.isDone() || sessionFactoryFuture.isCompletedExceptionally()) {
+            return null;
+        }
+        return sessionFactoryFuture.join();
+    }
+
+    /** Registers work to run at the start of shutdown, while the SessionFactory is still open, e.g. flushing write-behind queues */
+    public static void beforeShutdown(Runnable hook) {
+        shutdownHooks.add(hook);
     }
 
     public static void shutdown(){
+        for (Runnable hook : shutdownHooks) {
+            try {
+                hook.run();
+            } catch (Exception e) {
+                logger.warn("Shutdown hook failed", e);
+            }
+        }
+        DiagnosticsUtil.shutdown();
         if (registry != null) {
             StandardServiceRegistryBuilder.destroy(registry);
             logger.info("Hibernate SessionFactory destroyed");
@@ -0,0 +1,89 @@
+package com.balazsh.inventory.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram, unit-agnostic: queries record milliseconds, pool acquisitions microseconds.
+ * Values below 128 get one bucket each; above that every power of two is split
+ * into 16 buckets, so percentiles are accurate to within ~6% across the whole long range.
+ */
+public class LatencyHistogram {
+
+    private static final int LINEAR_BUCKETS = 128;
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_BITS = Integer.numberOfTrailingZeros(LINEAR_BUCKETS);
+    private static final int BUCKET_COUNT = LINEAR_BUCKETS + (Long.SIZE - LINEAR_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /** Records a single latency sample, negative values are treated as zero */
+    public void record(long latency) {
+        long value = Math.max(0, latency);
+        buckets.incrementAndGet(bucketIndex(value));
+        count.increment();
+        total.add(value);
+        max.accumulate(value);
+    }
+
+    public long count() {
+        return count.sum();
+    }
+
+    public long max() {
+        return max.get();
+    }
+
+    public double mean() {
+        long samples = count.sum();
+        return samples == 0 ? 0 : (double) total.sum() / samples;
+    }
+
+    /**
+     * Returns the latency at or below which the given fraction of samples fall, e.g. 0.95 for p95.
+     * The value is the upper bound of the matching bucket, capped at the largest recorded sample.
+     */
+    public long percentile(double fraction) {
+        if (fraction < 0 || fraction > 1) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 1");
+        }
+        long samples = count.sum();
+        if (samples == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(fraction * samples));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) {
+                return Math.min(bucketUpperBound(i), max());
+            }
+        }
+        return max();
+    }
+
+    private static int bucketIndex(long value) {
+        if (value < LINEAR_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return LINEAR_BUCKETS + (exponent - LINEAR_BITS) * SUB_BUCKETS + subBucket;
+    }
+
+    private static long bucketUpperBound(int index) {
+        if (index < LINEAR_BUCKETS) {
+            return index;
+        }
+        int exponent = (index - LINEAR_BUCKETS) / SUB_BUCKETS + LINEAR_BITS;
+        int subBucket = (index - LINEAR_BUCKETS) % SUB_BUCKETS;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        return (1L << exponent) + (subBucket + 1) * width - 1;
+    }
+}
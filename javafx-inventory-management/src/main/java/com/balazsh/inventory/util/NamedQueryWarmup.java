@@ -0,0 +1,72 @@
+package com.balazsh.inventory.util;
+
+import com.balazsh.inventory.entity.*;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.query.Query;
+import org.jboss.logging.Logger;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * Executes the dashboard and login named queries once while the application starts, so their
+ * SQL translation is already in Hibernate's query plan cache when the first user action runs.
+ * Named queries are parsed and validated by Hibernate itself while the SessionFactory builds;
+ * this only removes the remaining first-call translation cost.
+ */
+public class NamedQueryWarmup {
+
+    /** Whether to pre-warm named query plans at startup, disable with -Dinventory.query.warmup=false */
+    public static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("inventory.query.warmup", "true"));
+
+    private static final Logger logger = Logger.getLogger(NamedQueryWarmup.class);
+
+    /**
+     * Named queries to warm, each bound to arguments that match no rows. The IN-list reports
+     * (stock summary and product details) are left out because Hibernate does not cache plans
+     * for multi-valued parameters.
+     */
+    private static final List<WarmupQuery> WARMUP_QUERIES = List.of(
+            new WarmupQuery(Product.FETCH_PRODUCT_ENTRIES, Object[].class, (query, session) -> {}),
+            new WarmupQuery(Product.SEARCH_DOCUMENTS, Object[].class, (query, session) -> {}),
+            new WarmupQuery(User.FIND_BY_USERNAME, User.class,
+                    (query, session) -> query.setParameter("username", "")),
+            new WarmupQuery(User.FIND_BY_ACCOUNT_STATUS, User.class,
+                    (query, session) -> query.setParameter("status", "")),
+            new WarmupQuery(Permission.FIND_BY_USER, Permission.class,
+                    (query, session) -> query.setParameter("user", session.getReference(User.class, -1))),
+            new WarmupQuery(Role.FIND_BY_NAME, Role.class,
+                    (query, session) -> query.setParameter("roleName", ""))
+    );
+
+    /** Runs every warm-up query in one read-only session on the read pool; failures are logged and never fail startup */
+    public static void warmUp(SessionFactory sessionFactory) {
+        if (!ENABLED) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        try (Session session = sessionFactory.withOptions().tenantIdentifier((Object) ReadWriteConnectionProvider.READ_POOL).openSession()) {
+            session.setDefaultReadOnly(true);
+            for (WarmupQuery warmupQuery : WARMUP_QUERIES) {
+                long queryStart = System.nanoTime();
+                try {
+                    Query<?> query = session.createNamedQuery(warmupQuery.name(), warmupQuery.resultType())
+                            .setCacheable(false)
+                            .setMaxResults(1);
+                    warmupQuery.binder().accept(query, session);
+                    query.getResultList();
+                    logger.debugf("Warmed named query %s in %d ms", warmupQuery.name(), (System.nanoTime() - queryStart) / 1_000_000);
+                } catch (Exception e) {
+                    logger.warnf(e, "Failed to warm named query %s", warmupQuery.name());
+                }
+                session.clear();
+            }
+        }
+        logger.infof("Warmed %d named queries in %d ms", WARMUP_QUERIES.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private record WarmupQuery(String name, Class<?> resultType, BiConsumer<Query<?>, Session> binder) {
+    }
+}
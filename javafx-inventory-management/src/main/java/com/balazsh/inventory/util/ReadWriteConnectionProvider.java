@@ -0,0 +1,201 @@
+package com.balazsh.inventory.util;
+
+import com.balazsh.inventory.domain.model.PoolDiagnostics;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.PoolStats;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+import org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider;
+import org.hibernate.service.UnknownUnwrapTypeException;
+import org.hibernate.service.spi.Configurable;
+import org.hibernate.service.spi.Stoppable;
+import org.jboss.logging.Logger;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Routes Hibernate sessions to one of two Hikari pools using the tenant identifier:
+ * a small write pool for stock movements and user approvals, and a larger read-only pool
+ * for dashboard fetches and reports, so long reports cannot starve the writes of connections.
+ * Sessions use the write pool unless opened with {@link HibernateUtil#openReadSession()}.
+ */
+public class ReadWriteConnectionProvider implements MultiTenantConnectionProvider<String>, Configurable, Stoppable {
+
+    public static final String WRITE_POOL = "write";
+    public static final String READ_POOL = "read";
+
+    /** Maximum write pool connections, overridable with -Dinventory.pool.write.size */
+    public static final int WRITE_POOL_SIZE = Integer.getInteger("inventory.pool.write.size", 4);
+
+    /** Maximum read pool connections, overridable with -Dinventory.pool.read.size */
+    public static final int READ_POOL_SIZE = Integer.getInteger("inventory.pool.read.size", 12);
+
+    private static final String HIKARI_PREFIX = "hibernate.hikari.";
+    private static final Logger logger = Logger.getLogger(ReadWriteConnectionProvider.class);
+
+    private PoolMetrics writeMetrics;
+    private PoolMetrics readMetrics;
+    private HikariDataSource writePool;
+    private HikariDataSource readPool;
+
+    /** Builds both pools from the JDBC settings and any hibernate.hikari.* pool settings */
+    @Override
+    public void configure(Map<String, Object> settings) {
+        writeMetrics = new PoolMetrics();
+        readMetrics = new PoolMetrics();
+        writePool = new HikariDataSource(poolConfig(settings, WRITE_POOL, WRITE_POOL_SIZE, false, writeMetrics));
+        try {
+            readPool = new HikariDataSource(poolConfig(settings, READ_POOL, READ_POOL_SIZE, true, readMetrics));
+        } catch (RuntimeException e) {
+            writePool.close();
+            throw e;
+        }
+        logger.infof("Connection pools started: %d write and %d read connections", WRITE_POOL_SIZE, READ_POOL_SIZE);
+    }
+
+    private static HikariConfig poolConfig(Map<String, Object> settings, String name, int size, boolean readOnly, PoolMetrics metrics) {
+        Properties hikariProperties = new Properties();
+        settings.forEach((key, value) -> {
+            if (key.startsWith(HIKARI_PREFIX) && value != null) {
+                hikariProperties.setProperty(key.substring(HIKARI_PREFIX.length()), value.toString());
+            }
+        });
+
+        HikariConfig config = new HikariConfig(hikariProperties);
+        String url = setting(settings, AvailableSettings.JAKARTA_JDBC_URL, AvailableSettings.URL);
+        String driver = setting(settings, AvailableSettings.JAKARTA_JDBC_DRIVER, AvailableSettings.DRIVER);
+        String user = setting(settings, AvailableSettings.JAKARTA_JDBC_USER, AvailableSettings.USER);
+        String password = setting(settings, AvailableSettings.JAKARTA_JDBC_PASSWORD, AvailableSettings.PASS);
+        if (url != null) config.setJdbcUrl(url);
+        if (driver != null) config.setDriverClassName(driver);
+        if (user != null) config.setUsername(user);
+        if (password != null) config.setPassword(password);
+
+        // Stream large result sets from SQL Server instead of buffering them in the driver
+        if (url != null && url.startsWith("jdbc:sqlserver:")) {
+            config.addDataSourceProperty("responseBuffering", "adaptive");
+        }
+
+        config.setPoolName("inventory-" + name);
+        config.setMaximumPoolSize(size);
+        config.setReadOnly(readOnly);
+        config.setMetricsTrackerFactory((poolName, poolStats) -> metrics.attach(poolStats));
+        return config;
+    }
+
+    private static String setting(Map<String, Object> settings, String name, String legacyName) {
+        Object value = settings.getOrDefault(name, settings.get(legacyName));
+        return value == null ? null : value.toString();
+    }
+
+    /** Returns the current gauges and acquisition times of both pools */
+    public List<PoolDiagnostics> poolDiagnostics() {
+        return List.of(writeMetrics.snapshot(WRITE_POOL), readMetrics.snapshot(READ_POOL));
+    }
+
+    @Override
+    public Connection getAnyConnection() throws SQLException {
+        return writePool.getConnection();
+    }
+
+    @Override
+    public void releaseAnyConnection(Connection connection) throws SQLException {
+        connection.close();
+    }
+
+    @Override
+    public Connection getConnection(String tenantIdentifier) throws SQLException {
+        return READ_POOL.equals(tenantIdentifier) ? readPool.getConnection() : writePool.getConnection();
+    }
+
+    @Override
+    public void releaseConnection(String tenantIdentifier, Connection connection) throws SQLException {
+        connection.close();
+    }
+
+    @Override
+    public boolean supportsAggressiveRelease() {
+        return false;
+    }
+
+    @Override
+    public boolean isUnwrappableAs(Class<?> unwrapType) {
+        return unwrapType.isInstance(this);
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> unwrapType) {
+        if (unwrapType.isInstance(this)) {
+            return unwrapType.cast(this);
+        }
+        throw new UnknownUnwrapTypeException(unwrapType);
+    }
+
+    @Override
+    public void stop() {
+        if (readPool != null) readPool.close();
+        if (writePool != null) writePool.close();
+        logger.info("Connection pools closed");
+    }
+
+    /** Resolves sessions opened without an explicit tenant identifier to the write pool */
+    public static class WritePoolResolver implements CurrentTenantIdentifierResolver<String> {
+
+        @Override
+        public String resolveCurrentTenantIdentifier() {
+            return WRITE_POOL;
+        }
+
+        @Override
+        public boolean validateExistingCurrentSessions() {
+            return false;
+        }
+    }
+
+    /** Hikari metrics tracker keeping connection acquisition times in microseconds */
+    private static class PoolMetrics implements IMetricsTracker {
+
+        private final LatencyHistogram acquireMicros = new LatencyHistogram();
+        private final LongAdder timeouts = new LongAdder();
+        private volatile PoolStats poolStats;
+
+        private IMetricsTracker attach(PoolStats poolStats) {
+            this.poolStats = poolStats;
+            return this;
+        }
+
+        @Override
+        public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+            acquireMicros.record(TimeUnit.NANOSECONDS.toMicros(elapsedAcquiredNanos));
+        }
+
+        @Override
+        public void recordConnectionTimeout() {
+            timeouts.increment();
+        }
+
+        private PoolDiagnostics snapshot(String pool) {
+            PoolStats stats = poolStats;
+            return new PoolDiagnostics(
+                    pool,
+                    stats == null ? 0 : stats.getActiveConnections(),
+                    stats == null ? 0 : stats.getIdleConnections(),
+                    stats == null ? 0 : stats.getPendingThreads(),
+                    stats == null ? 0 : stats.getMaxConnections(),
+                    acquireMicros.count(),
+                    acquireMicros.percentile(0.50),
+                    acquireMicros.percentile(0.95),
+                    acquireMicros.percentile(0.99),
+                    acquireMicros.max(),
+                    timeouts.sum());
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.balazsh.inventory.util.exceptions;
+
+public class DatabaseUnavailableException extends RuntimeException {
+    public DatabaseUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
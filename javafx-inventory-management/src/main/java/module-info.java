@@ -2,12 +2,15 @@ module com.balazsh.inventory {
     requires javafx.controls;
     requires org.hibernate.orm.core;
     requires java.naming;
+    requires java.sql;
     requires org.slf4j;
     requires org.jboss.logging;
     requires com.fasterxml.classmate;
     requires net.bytebuddy;
     requires jakarta.persistence;
     requires com.fasterxml.jackson.databind;
+    requires org.hibernate.orm.jcache;
+    requires com.zaxxer.hikari;
 
     opens com.balazsh.inventory.entity;
     opens com.balazsh.inventory.entity.json;
@@ -0,0 +1,101 @@
+package com.balazsh.inventory.dao;
+
+import com.balazsh.inventory.entity.ProductCategory;
+import com.balazsh.inventory.util.HibernateUtil;
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GenericDAOAbsTest {
+
+    private final GenericDAOAbs<ProductCategory> categoryDAO = new GenericDAOAbs<>(ProductCategory.class, 2) {
+    };
+
+    @Test
+    void saveAll_ShouldDetachOnlySavedEntities_WhenSessionHoldsOtherEntities() {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            // Given
+            Transaction transaction = session.beginTransaction();
+            ProductCategory loaded = category("Loaded before saveAll");
+            session.persist(loaded);
+            List<ProductCategory> categories = IntStream.range(0, 5).mapToObj(i -> category("Saved " + i)).toList();
+
+            // When
+            categoryDAO.saveAll(categories, session);
+
+            // Then
+            assertTrue(session.contains(loaded));
+            assertTrue(categories.stream().noneMatch(session::contains));
+            assertTrue(categories.stream().allMatch(category -> category.getId() != null));
+            transaction.rollback();
+        }
+    }
+
+    @Test
+    void deleteAll_ShouldKeepOtherEntitiesManaged_WhenRemovingDetachedEntities() {
+        List<ProductCategory> categories = IntStream.range(0, 3).mapToObj(i -> category("Deleted " + i)).toList();
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            Transaction transaction = session.beginTransaction();
+            categoryDAO.saveAll(categories, session);
+            transaction.commit();
+        }
+
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            // Given
+            Transaction transaction = session.beginTransaction();
+            ProductCategory loaded = category("Loaded before deleteAll");
+            session.persist(loaded);
+
+            // When
+            categoryDAO.deleteAll(categories, session);
+
+            // Then
+            assertTrue(session.contains(loaded));
+            assertTrue(categories.stream().allMatch(category -> session.find(ProductCategory.class, category.getId()) == null));
+            transaction.rollback();
+        }
+    }
+
+    @Test
+    void streamAll_ShouldDetachOnlyEntitiesItLoaded_WhenSessionHoldsOtherEntities() {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            // Given
+            Transaction transaction = session.beginTransaction();
+            categoryDAO.saveAll(List.of(category("Streamed 1"), category("Streamed 2"), category("Streamed 3")), session);
+            ProductCategory loaded = category("Loaded before streamAll");
+            session.persist(loaded);
+            ProductCategory readOnly = category("Read-only before streamAll");
+            session.persist(readOnly);
+            session.flush();
+            session.setReadOnly(readOnly, true);
+
+            // When
+            List<ProductCategory> streamed;
+            try (Stream<ProductCategory> stream = categoryDAO.streamAll(session)) {
+                streamed = stream.toList();
+            }
+
+            // Then
+            assertTrue(streamed.contains(loaded));
+            assertTrue(streamed.contains(readOnly));
+            assertTrue(session.contains(loaded));
+            assertTrue(session.contains(readOnly));
+            assertTrue(streamed.stream()
+                    .filter(category -> category != loaded && category != readOnly)
+                    .noneMatch(session::contains));
+            transaction.rollback();
+        }
+    }
+
+    private static ProductCategory category(String name) {
+        ProductCategory category = new ProductCategory();
+        category.setCategoryName(name);
+        return category;
+    }
+}
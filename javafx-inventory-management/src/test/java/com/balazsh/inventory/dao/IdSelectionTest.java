@@ -0,0 +1,53 @@
+package com.balazsh.inventory.dao;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdSelectionTest {
+
+    @Test
+    void paddedChunks_ShouldPadToNextPowerOfTwo_WhenChunkIsPartial() {
+        // Given
+        List<Integer> ids = List.of(1, 2, 3, 4, 5, 6, 7, 8, 9);
+
+        // When
+        List<List<Integer>> chunks = IdSelection.paddedChunks(ids, 512);
+
+        // Then
+        assertEquals(1, chunks.size());
+        assertEquals(List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 9, 9, 9, 9, 9, 9, 9), chunks.get(0));
+    }
+
+    @Test
+    void paddedChunks_ShouldUseFewDistinctLengths_WhenSelectionSizesVary() {
+        // Given
+        List<Integer> sizes = IntStream.rangeClosed(1, 2_000).boxed().toList();
+
+        // When
+        long distinctLengths = sizes.stream()
+                .flatMap(size -> IdSelection.paddedChunks(IntStream.range(0, size).boxed().toList(), 512).stream())
+                .mapToInt(List::size)
+                .distinct()
+                .count();
+
+        // Then
+        assertEquals(7, distinctLengths); // 8, 16, 32, 64, 128, 256 and 512
+    }
+
+    @Test
+    void paddedChunks_ShouldCapChunksAtChunkSize_WhenSelectionIsLarge() {
+        // Given
+        List<Integer> ids = IntStream.range(0, 1_030).boxed().toList();
+
+        // When
+        List<List<Integer>> chunks = IdSelection.paddedChunks(ids, 500);
+
+        // Then
+        assertEquals(List.of(500, 500, 32), chunks.stream().map(List::size).toList());
+        assertEquals(ids, chunks.stream().flatMap(List::stream).distinct().toList());
+    }
+}
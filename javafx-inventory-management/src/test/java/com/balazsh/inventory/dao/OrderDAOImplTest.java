@@ -0,0 +1,93 @@
+package com.balazsh.inventory.dao;
+
+import com.balazsh.inventory.entity.Product;
+import com.balazsh.inventory.entity.ProductCategory;
+import com.balazsh.inventory.entity.Stock;
+import com.balazsh.inventory.util.HibernateUtil;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderDAOImplTest {
+
+    private static ProductCategory category;
+
+    private final OrderDAOImpl orderDAO = new OrderDAOImpl();
+
+    @BeforeAll
+    static void setUp() {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            session.beginTransaction();
+            category = new ProductCategory();
+            category.setCategoryName("Brakes");
+            session.persist(category);
+            session.getTransaction().commit();
+        }
+    }
+
+    @Test
+    void findReorderCandidates_ShouldMatchAcrossChunksAndStagedSelection_WhenSelectionsExceedParameterLimit() {
+        // Given
+        int firstProduct = createProductWithStock(1, 100);
+        int secondProduct = createProductWithStock(2, 50);
+        List<Integer> chunkedIds = new ArrayList<>(IntStream.range(-1_000, 0).boxed().toList());
+        chunkedIds.add(firstProduct);
+        chunkedIds.add(secondProduct);
+        List<Integer> stagedIds = new ArrayList<>(IntStream.range(-5_000, 0).boxed().toList());
+        stagedIds.add(firstProduct);
+        stagedIds.add(secondProduct);
+
+        // When
+        List<ReorderCandidate> chunkedCandidates;
+        List<ReorderCandidate> stagedCandidates;
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            session.beginTransaction();
+            chunkedCandidates = orderDAO.findReorderCandidates(chunkedIds, session);
+            stagedCandidates = orderDAO.findReorderCandidates(stagedIds, session);
+            session.getTransaction().commit();
+        }
+
+        // Then
+        assertFalse(IdSelection.usesTable(chunkedIds.size()));
+        assertTrue(IdSelection.usesTable(stagedIds.size()));
+        assertEquals(List.of(99, 48), chunkedCandidates.stream().map(ReorderCandidate::orderQuantity).toList());
+        assertEquals(chunkedCandidates, stagedCandidates);
+        assertEquals(0, selectedIdCount());
+    }
+
+    private static long selectedIdCount() {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            return session.createSelectionQuery("select count(i) from SelectedId i", Long.class).getSingleResult();
+        }
+    }
+
+    private static int createProductWithStock(int quantity, int maxStock) {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            session.beginTransaction();
+            Product product = new Product();
+            product.setName("Brake Caliper");
+            product.setDescription("Four piston brake caliper");
+            product.setUniqueAttributes("{\"attributes\":[],\"components\":[]}");
+            product.setCategory(session.getReference(ProductCategory.class, category.getId()));
+            product.setColour("red");
+            product.setCost(100);
+            session.persist(product);
+
+            Stock stock = new Stock();
+            stock.setProduct(product);
+            stock.setQuantity(quantity);
+            stock.setMinStock(1);
+            stock.setMaxStock(maxStock);
+            stock.setReorderPoint(2);
+            session.persist(stock);
+            session.getTransaction().commit();
+            return product.getId();
+        }
+    }
+}
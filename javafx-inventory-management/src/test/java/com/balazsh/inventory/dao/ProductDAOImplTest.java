@@ -0,0 +1,199 @@
+package com.balazsh.inventory.dao;
+
+import com.balazsh.inventory.domain.search.ProductSearchIndex;
+import com.balazsh.inventory.entity.Product;
+import com.balazsh.inventory.entity.ProductCategory;
+import com.balazsh.inventory.entity.Stock;
+import com.balazsh.inventory.util.HibernateUtil;
+import org.hibernate.Session;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductDAOImplTest {
+
+    private static ProductCategory category;
+
+    private final ProductSearchIndex searchIndex = new ProductSearchIndex();
+    private final ProductDAOImpl productDAO = new ProductDAOImpl(searchIndex);
+
+    @BeforeAll
+    static void setUp() {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            session.beginTransaction();
+            category = new ProductCategory();
+            category.setCategoryName("Brakes");
+            session.persist(category);
+            session.getTransaction().commit();
+        }
+    }
+
+    @Test
+    void save_ShouldIndexProductOnlyAfterCommit_WhenTransactionCommits() {
+        searchIndex.rebuild(Stream.empty());
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            // Given
+            Transaction transaction = session.beginTransaction();
+            Product product = product("Committed Caliper", session);
+
+            // When
+            productDAO.save(product, session);
+            List<Integer> beforeCommit = searchIndex.search("committed caliper", 10);
+            transaction.commit();
+
+            // Then
+            assertEquals(List.of(), beforeCommit);
+            assertEquals(List.of(product.getId()), searchIndex.search("committed caliper", 10));
+        }
+    }
+
+    @Test
+    void saveAll_ShouldLeaveIndexUntouched_WhenTransactionRollsBack() {
+        searchIndex.rebuild(Stream.empty());
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            // Given
+            Transaction transaction = session.beginTransaction();
+
+            // When
+            productDAO.saveAll(List.of(product("Rolled Back Caliper", session), product("Rolled Back Rotor", session)), session);
+            transaction.rollback();
+
+            // Then
+            assertEquals(List.of(), searchIndex.search("rolled back", 10));
+        }
+    }
+
+    @Test
+    void filter_ShouldMatchComponentDisplayNamesOnly_WhenAttributeValueContainsTerm() {
+        Product withComponent;
+        Product withAttribute;
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            // Given
+            session.beginTransaction();
+            withComponent = product("Zirconia Kit", session);
+            withComponent.setUniqueAttributes("{\"attributes\":[],"
+                    + "\"components\":[{\"product_id\":7,\"display_name\":\"Zirconia Piston\"}]}");
+            withAttribute = product("Steel Caliper", session);
+            withAttribute.setUniqueAttributes("{\"attributes\":[{\"name\":\"Coating\",\"value\":\"zirconia\","
+                    + "\"unit\":null,\"data_type\":\"string\"}],\"components\":[]}");
+            session.persist(withComponent);
+            session.persist(withAttribute);
+            session.getTransaction().commit();
+
+            // When
+            List<Product> matches = productDAO.filter(ProductFilter.any().withComponent("irconia"), session);
+            List<Object[]> summaries = productDAO.filterSummaries(ProductFilter.any().withComponent("irconia"), session);
+
+            // Then
+            assertEquals(List.of(withComponent.getId()), matches.stream().map(Product::getId).toList());
+            assertEquals(1, summaries.size());
+            assertEquals(withComponent.getId(), summaries.get(0)[0]);
+            assertEquals(5, summaries.get(0).length);
+        }
+    }
+
+    @Test
+    void streamStockSummary_ShouldBindInListChunksOnReadPool_WhenSelectionExceedsTableThreshold() {
+        // Given
+        int productId = createProductWithStock(6);
+        List<Integer> productIds = new ArrayList<>(IntStream.range(-3_000, 0).boxed().toList());
+        productIds.add(productId);
+
+        // When
+        List<Object[]> rows;
+        try (StatelessSession session = HibernateUtil.openReadStatelessSession();
+             Stream<Object[]> summary = productDAO.streamStockSummary(productIds, session)) {
+            rows = summary.toList();
+        }
+
+        // Then
+        assertTrue(IdSelection.usesTable(productIds.size()));
+        assertEquals(1, rows.size());
+        assertEquals(productId, rows.get(0)[0]);
+        assertEquals(6, ((Number) rows.get(0)[2]).intValue());
+        assertEquals(0, selectedIdCount());
+    }
+
+    @Test
+    void stockUpdate_ShouldKeepColumnsAndStampDatabaseTime_WhenEntityIsChanged() {
+        // Given
+        int productId = createProductWithStock(6);
+        LocalDateTime before;
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            session.beginTransaction();
+            session.createMutationQuery("update Stock s set s.updatedAt = :longAgo where s.product.id = :productId")
+                    .setParameter("longAgo", LocalDateTime.of(2000, 1, 1, 0, 0))
+                    .setParameter("productId", productId)
+                    .executeUpdate();
+            before = productDAO.findDatabaseTime(session);
+            session.getTransaction().commit();
+        }
+
+        // When
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            session.beginTransaction();
+            stock(productId, session).setReorderPoint(4);
+            session.getTransaction().commit();
+        }
+
+        // Then
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            Stock stock = stock(productId, session);
+            assertEquals(List.of(6, 1, 100, 4, 1), List.of(stock.getQuantity(), stock.getMinStock(),
+                    stock.getMaxStock(), stock.getReorderPoint(), stock.getVersion()));
+            assertEquals(productId, stock.getProduct().getId());
+            assertFalse(stock.getUpdatedAt().isBefore(before));
+            assertTrue(productDAO.findProductsWithStockChangedSince(before.minusSeconds(1), session).contains(productId));
+        }
+    }
+
+    private static Stock stock(int productId, Session session) {
+        return session.createSelectionQuery("from Stock s where s.product.id = :productId", Stock.class)
+                .setParameter("productId", productId)
+                .getSingleResult();
+    }
+
+    private static int createProductWithStock(int quantity) {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            session.beginTransaction();
+            Product product = product("Summarised Caliper", session);
+            session.persist(product);
+
+            Stock stock = new Stock();
+            stock.setProduct(product);
+            stock.setQuantity(quantity);
+            stock.setMinStock(1);
+            stock.setMaxStock(100);
+            stock.setReorderPoint(2);
+            session.persist(stock);
+            session.getTransaction().commit();
+            return product.getId();
+        }
+    }
+
+    private static long selectedIdCount() {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            return session.createSelectionQuery("select count(i) from SelectedId i", Long.class).getSingleResult();
+        }
+    }
+
+    private static Product product(String name, Session session) {
+        Product product = new Product();
+        product.setName(name);
+        product.setCategory(session.getReference(ProductCategory.class, category.getId()));
+        product.setDescription("Four piston brake caliper");
+        product.setUniqueAttributes("{\"attributes\":[],\"components\":[]}");
+        product.setColour("red");
+        product.setCost(100);
+        return product;
+    }
+}
@@ -0,0 +1,45 @@
+package com.balazsh.inventory.domain.idempotency;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecentOperationsTest {
+
+    @Test
+    void contains_ShouldReturnTrue_WhenOperationWasRemembered() {
+        // Given
+        RecentOperations recentOperations = new RecentOperations(10);
+        UUID operationId = UUID.randomUUID();
+
+        // When
+        recentOperations.remember(operationId);
+
+        // Then
+        assertTrue(recentOperations.contains(operationId));
+        assertFalse(recentOperations.contains(UUID.randomUUID()));
+    }
+
+    @Test
+    void remember_ShouldEvictLeastRecentlyUsedOperation_WhenCapacityIsExceeded() {
+        // Given
+        RecentOperations recentOperations = new RecentOperations(2);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        recentOperations.remember(first);
+        recentOperations.remember(second);
+        recentOperations.contains(first); // Touch the first so the second becomes the eldest
+
+        // When
+        recentOperations.remember(third);
+
+        // Then
+        assertEquals(2, recentOperations.size());
+        assertTrue(recentOperations.contains(first));
+        assertFalse(recentOperations.contains(second));
+        assertTrue(recentOperations.contains(third));
+    }
+}
@@ -0,0 +1,163 @@
+package com.balazsh.inventory.domain.ledger;
+
+import com.balazsh.inventory.domain.model.LedgerEntry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransactionLedgerTest {
+
+    @Test
+    void record_ShouldGroupEntriesIntoBatches_WhenManyArriveTogether() {
+        // Given
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        TransactionLedger ledger = new TransactionLedger(1_000, 100, 50, 1, batch -> batchSizes.add(batch.size()));
+
+        // When
+        for (int i = 0; i < 250; i++) {
+            ledger.record(LedgerEntry.sale(i, 1, 1, 10));
+        }
+        ledger.close();
+
+        // Then
+        assertEquals(250, batchSizes.stream().mapToInt(Integer::intValue).sum());
+        assertTrue(batchSizes.stream().allMatch(size -> size <= 100));
+        assertTrue(batchSizes.size() < 10);
+        assertEquals(250, ledger.written());
+        assertEquals(0, ledger.retries());
+    }
+
+    @Test
+    void close_ShouldFlushPendingEntries_WhenWriterIsSlow() {
+        // Given
+        List<LedgerEntry> written = new CopyOnWriteArrayList<>();
+        TransactionLedger ledger = new TransactionLedger(100, 5, 1, 1, batch -> {
+            sleep(20);
+            written.addAll(batch);
+        });
+        for (int i = 0; i < 20; i++) {
+            ledger.record(LedgerEntry.purchase(i, 1, 2, null));
+        }
+
+        // When
+        ledger.close();
+
+        // Then
+        assertEquals(20, written.size());
+        assertEquals(0, ledger.pending());
+    }
+
+    @Test
+    void awaitWritten_ShouldWaitForQueuedEntries_WhenWriterIsBlocked() throws Exception {
+        // Given
+        CountDownLatch releaseWriter = new CountDownLatch(1);
+        TransactionLedger ledger = new TransactionLedger(100, 10, 1, 1, batch -> {
+            try {
+                releaseWriter.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        ledger.record(LedgerEntry.sale(1, 1, 1, 10));
+
+        // When
+        boolean writtenWhileBlocked = ledger.awaitWritten(50);
+        releaseWriter.countDown();
+        boolean writtenAfterRelease = ledger.awaitWritten(1_000);
+
+        // Then
+        assertFalse(writtenWhileBlocked);
+        assertTrue(writtenAfterRelease);
+        assertEquals(1, ledger.written());
+        ledger.close();
+    }
+
+    @Test
+    void record_ShouldBlockUntilWriterCatchesUp_WhenQueueIsFull() throws Exception {
+        // Given
+        CountDownLatch writerBlocked = new CountDownLatch(1);
+        CountDownLatch releaseWriter = new CountDownLatch(1);
+        TransactionLedger ledger = new TransactionLedger(2, 1, 1, 1, batch -> {
+            writerBlocked.countDown();
+            await(releaseWriter);
+        });
+        ledger.record(LedgerEntry.sale(1, 1, 1, 10));
+        assertTrue(writerBlocked.await(1, TimeUnit.SECONDS));
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < 5; i++) {
+                ledger.record(LedgerEntry.sale(2, 1, 1, 10));
+            }
+        });
+
+        // When
+        producer.start();
+        producer.join(100);
+        boolean blockedWhileFull = producer.isAlive();
+        releaseWriter.countDown();
+        producer.join(1_000);
+        ledger.close();
+
+        // Then
+        assertTrue(blockedWhileFull);
+        assertFalse(producer.isAlive());
+        assertEquals(6, ledger.written());
+    }
+
+    @Test
+    void record_ShouldRetryFailedBatch_WhenWriterThrows() {
+        // Given
+        AtomicInteger attempts = new AtomicInteger();
+        List<LedgerEntry> written = new CopyOnWriteArrayList<>();
+        TransactionLedger ledger = new TransactionLedger(100, 10, 1, 1, batch -> {
+            if (attempts.incrementAndGet() <= 2) {
+                throw new IllegalStateException("Database is unavailable");
+            }
+            written.addAll(batch);
+        });
+
+        // When
+        ledger.record(LedgerEntry.sale(1, 1, 1, 10));
+        ledger.close();
+
+        // Then
+        assertEquals(1, written.size());
+        assertEquals(1, ledger.written());
+        assertEquals(2, ledger.retries());
+    }
+
+    @Test
+    void record_ShouldWriteOnCallerThread_WhenLedgerIsClosed() {
+        // Given
+        List<LedgerEntry> written = new CopyOnWriteArrayList<>();
+        TransactionLedger ledger = new TransactionLedger(100, 10, 1, 1, written::addAll);
+        ledger.close();
+
+        // When
+        ledger.record(LedgerEntry.purchase(1, 1, 2, null));
+
+        // Then
+        assertEquals(1, written.size());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.balazsh.inventory.domain.listing;
+
+import com.balazsh.inventory.dao.ListingDAOImpl;
+import com.balazsh.inventory.domain.service.ListingService;
+import com.balazsh.inventory.entity.Listing;
+import com.balazsh.inventory.entity.Product;
+import com.balazsh.inventory.entity.ProductCategory;
+import com.balazsh.inventory.entity.User;
+import com.balazsh.inventory.util.HibernateUtil;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ListingMaintenanceTest {
+
+    private static int productId;
+    private static int sellerId;
+
+    @BeforeAll
+    static void setUp() {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            session.beginTransaction();
+            ProductCategory category = new ProductCategory();
+            category.setCategoryName("Brakes");
+            session.persist(category);
+
+            Product product = new Product();
+            product.setName("Brake Hose");
+            product.setDescription("Braided brake hose");
+            product.setUniqueAttributes("{\"attributes\":[],\"components\":[]}");
+            product.setCategory(category);
+            product.setColour("silver");
+            product.setCost(20);
+            session.persist(product);
+
+            User user = new User();
+            user.setUsername("maintenance-seller");
+            user.setPassword("password");
+            user.setAccountStatus("approved");
+            session.persist(user);
+            session.getTransaction().commit();
+            productId = product.getId();
+            sellerId = user.getId();
+        }
+    }
+
+    @Test
+    void expireListingsOlderThan_ShouldExpireListingsBeforeCutoff_WhenRunInBackground() throws Exception {
+        // Given
+        int oldListingId = createListing(50);
+        createListing(60);
+        backdate(oldListingId, 3);
+
+        // When
+        int expired;
+        int repriced;
+        try (ListingMaintenance listingMaintenance = new ListingMaintenance(new ListingService(new ListingDAOImpl()))) {
+            expired = listingMaintenance.expireListingsOlderThan(2).get(5, TimeUnit.SECONDS);
+            repriced = listingMaintenance.repriceListingsOfProduct(productId, 10).get(5, TimeUnit.SECONDS);
+        }
+
+        // Then
+        assertTrue(expired >= 1);
+        assertEquals(1, repriced);
+        assertEquals(List.of("expired:50", "active:66"), listingStates());
+    }
+
+    private static int createListing(int unitPrice) {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            session.beginTransaction();
+            Listing listing = new Listing();
+            listing.setProduct(session.getReference(Product.class, productId));
+            listing.setQuantity(1);
+            listing.setUnitPrice(unitPrice);
+            listing.setTotalPrice(unitPrice);
+            listing.setListingStatus("active");
+            listing.setListedBy(session.getReference(User.class, sellerId));
+            session.persist(listing);
+            session.getTransaction().commit();
+            return listing.getId();
+        }
+    }
+
+    private static void backdate(int listingId, int days) {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            session.beginTransaction();
+            session.createMutationQuery("update Listing l set l.listedAt = :listedAt where l.id = :listingId")
+                    .setParameter("listedAt", LocalDateTime.now().minusDays(days))
+                    .setParameter("listingId", listingId)
+                    .executeUpdate();
+            session.getTransaction().commit();
+        }
+    }
+
+    /** The product's listings as status:unitPrice, in listing order */
+    private static List<String> listingStates() {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            return session.createSelectionQuery("select l.listingStatus || ':' || l.unitPrice "
+                            + "from Listing l where l.product.id = :productId order by l.id", String.class)
+                    .setParameter("productId", productId)
+                    .getResultList();
+        }
+    }
+}
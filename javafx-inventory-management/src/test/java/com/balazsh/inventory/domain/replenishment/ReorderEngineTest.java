@@ -0,0 +1,143 @@
+package com.balazsh.inventory.domain.replenishment;
+
+import com.balazsh.inventory.dao.OrderDAOImpl;
+import com.balazsh.inventory.dao.ProductDAOImpl;
+import com.balazsh.inventory.domain.model.PendingReorder;
+import com.balazsh.inventory.entity.Product;
+import com.balazsh.inventory.entity.ProductCategory;
+import com.balazsh.inventory.entity.Stock;
+import com.balazsh.inventory.util.HibernateUtil;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReorderEngineTest {
+
+    private static ProductCategory category;
+
+    private final OrderDAOImpl orderDAO = new OrderDAOImpl();
+    private final ProductDAOImpl productDAO = new ProductDAOImpl();
+
+    @BeforeAll
+    static void setUp() {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            session.beginTransaction();
+            category = new ProductCategory();
+            category.setCategoryName("Brakes");
+            session.persist(category);
+            session.getTransaction().commit();
+        }
+    }
+
+    @Test
+    void runCycle_ShouldRaiseOneReorderPerLowLocationAndCheckOnlyChangedProducts_WhenCyclesRepeat() {
+        // Given
+        int lowProductId = createProductWithStock(1, 50, 2);
+        int healthyProductId = createProductWithStock(40, 50, 2);
+        ReorderEngine reorderEngine = new ReorderEngine(orderDAO, productDAO, 60);
+
+        // When
+        ReorderEngine.CycleResult fullScan = reorderEngine.runCycle();
+        ReorderEngine.CycleResult repeat = reorderEngine.runCycle();
+
+        // Then
+        assertEquals(-1, fullScan.productsChecked());
+        assertEquals(List.of(49), pendingReorderQuantities(lowProductId));
+        assertTrue(pendingReorderQuantities(healthyProductId).isEmpty());
+        assertNotEquals(-1, repeat.productsChecked());
+
+        // When
+        takeStock(healthyProductId, 39);
+        ReorderEngine.CycleResult incremental = reorderEngine.runCycle();
+
+        // Then
+        assertTrue(incremental.productsChecked() >= 1);
+        assertEquals(List.of(49), pendingReorderQuantities(lowProductId));
+        assertEquals(List.of(49), pendingReorderQuantities(healthyProductId));
+    }
+
+    @Test
+    void runCycle_ShouldReorder_WhenReorderPointIsRaisedWithoutStockMovement() {
+        // Given
+        int productId = createProductWithStock(10, 50, 2);
+        ReorderEngine reorderEngine = new ReorderEngine(orderDAO, productDAO, 60);
+        reorderEngine.runCycle();
+
+        // When
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            session.beginTransaction();
+            session.createSelectionQuery("from Stock s where s.product.id = :productId", Stock.class)
+                    .setParameter("productId", productId)
+                    .getSingleResult()
+                    .setReorderPoint(10);
+            session.getTransaction().commit();
+        }
+        ReorderEngine.CycleResult incremental = reorderEngine.runCycle();
+
+        // Then
+        assertNotEquals(-1, incremental.productsChecked());
+        assertEquals(List.of(40), pendingReorderQuantities(productId));
+    }
+
+    @Test
+    void runCycle_ShouldScanEveryLocation_WhenFullScanIsDue() {
+        // Given
+        ReorderEngine reorderEngine = new ReorderEngine(orderDAO, productDAO, 1);
+
+        // When
+        ReorderEngine.CycleResult first = reorderEngine.runCycle();
+        ReorderEngine.CycleResult incremental = reorderEngine.runCycle();
+        ReorderEngine.CycleResult reconcile = reorderEngine.runCycle();
+
+        // Then
+        assertEquals(-1, first.productsChecked());
+        assertNotEquals(-1, incremental.productsChecked());
+        assertEquals(-1, reconcile.productsChecked());
+    }
+
+    private void takeStock(int productId, int quantity) {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            session.beginTransaction();
+            assertEquals(1, productDAO.takeStock(productId, quantity, session));
+            session.getTransaction().commit();
+        }
+    }
+
+    private List<Integer> pendingReorderQuantities(int productId) {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            return orderDAO.findPendingReorders(session)
+                    .stream()
+                    .filter(reorder -> reorder.productId() == productId)
+                    .map(PendingReorder::quantity)
+                    .toList();
+        }
+    }
+
+    private static int createProductWithStock(int quantity, int maxStock, int reorderPoint) {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            session.beginTransaction();
+            Product product = new Product();
+            product.setName("Brake Caliper");
+            product.setDescription("Four piston brake caliper");
+            product.setUniqueAttributes("{\"attributes\":[],\"components\":[]}");
+            product.setCategory(session.getReference(ProductCategory.class, category.getId()));
+            product.setColour("red");
+            product.setCost(100);
+            session.persist(product);
+
+            Stock stock = new Stock();
+            stock.setProduct(product);
+            stock.setQuantity(quantity);
+            stock.setMinStock(1);
+            stock.setMaxStock(maxStock);
+            stock.setReorderPoint(reorderPoint);
+            session.persist(stock);
+            session.getTransaction().commit();
+            return product.getId();
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.balazsh.inventory.domain.report;
+
+import com.balazsh.inventory.dao.IdSelection;
+import com.balazsh.inventory.domain.model.ReportResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PartitionedReportTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void run_ShouldWritePartitionsInIdOrder_WhenPartitionsFinishOutOfOrder() throws Exception {
+        // Given
+        List<Integer> productIds = new ArrayList<>(IntStream.rangeClosed(1, 1_000).boxed().toList());
+        Collections.shuffle(productIds);
+        Path output = directory.resolve("report.txt");
+
+        // When
+        ReportResult result;
+        try (PartitionedReport report = new PartitionedReport(4, 100, () -> null)) {
+            result = report.run(productIds, (ids, session) -> {
+                // Earlier partitions finish last, and rows within a partition arrive unordered
+                sleep(ids.get(0) < 500 ? 30 : 0);
+                List<Object[]> rows = new ArrayList<>(ids.stream().map(id -> new Object[]{id}).toList());
+                Collections.shuffle(rows);
+                return rows.stream();
+            }, ReportType.STOCK_SUMMARY, PartitionedReportTest::idLines, output);
+        }
+
+        // Then
+        assertEquals(1_000, result.rows());
+        String expected = IntStream.rangeClosed(1, 1_000).mapToObj(id -> id + "\n").collect(Collectors.joining());
+        assertEquals(expected, Files.readString(output));
+    }
+
+    @Test
+    void run_ShouldQueryAtMostParallelismPartitionsAtOnce_WhenSelectionIsLarge() throws Exception {
+        // Given
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<Integer> productIds = IntStream.range(0, 2_000).boxed().toList();
+
+        // When
+        ReportResult result;
+        try (PartitionedReport report = new PartitionedReport(3, 100, () -> null)) {
+            result = report.run(productIds, (ids, session) -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleep(20);
+                running.decrementAndGet();
+                return ids.stream().map(id -> new Object[]{id});
+            }, ReportType.STOCK_SUMMARY, PartitionedReportTest::idLines, directory.resolve("report.txt"));
+        }
+
+        // Then
+        assertEquals(2_000, result.rows());
+        assertEquals(3, maxRunning.get());
+        assertTrue(result.speedup() > 1.5, "speedup " + result.speedup());
+    }
+
+    @Test
+    void run_ShouldKeepPartitionsWithinInListBinding_WhenPartitionSizeExceedsTableThreshold() throws Exception {
+        // Given
+        List<Integer> partitionSizes = new CopyOnWriteArrayList<>();
+        List<Integer> productIds = IntStream.range(0, IdSelection.TABLE_THRESHOLD * 2 + 1).boxed().toList();
+
+        // When
+        try (PartitionedReport report = new PartitionedReport(2, IdSelection.TABLE_THRESHOLD * 4, () -> null)) {
+            report.run(productIds, (ids, session) -> {
+                partitionSizes.add(ids.size());
+                return ids.stream().map(id -> new Object[]{id});
+            }, ReportType.STOCK_SUMMARY, PartitionedReportTest::idLines, directory.resolve("report.txt"));
+        }
+
+        // Then
+        assertEquals(3, partitionSizes.size());
+        assertTrue(partitionSizes.stream().noneMatch(IdSelection::usesTable));
+    }
+
+    @Test
+    void run_ShouldDeletePreviousFile_WhenNoPartitionHasRows() throws Exception {
+        // Given
+        Path output = directory.resolve("empty.txt");
+        Files.writeString(output, "previous report\n");
+
+        // When
+        ReportResult result;
+        try (PartitionedReport report = new PartitionedReport(2, 10, () -> null)) {
+            result = report.run(List.of(5, 3, 9), (ids, session) -> Stream.empty(),
+                    ReportType.STOCK_SUMMARY, PartitionedReportTest::idLines, output);
+        }
+
+        // Then
+        assertEquals(0, result.rows());
+        assertFalse(Files.exists(output));
+    }
+
+    @Test
+    void run_ShouldKeepPreviousFileAndRemoveTemporaryFile_WhenPartitionFails() throws Exception {
+        // Given
+        Path output = directory.resolve("report.txt");
+        Files.writeString(output, "previous report\n");
+        List<Integer> productIds = IntStream.rangeClosed(1, 50).boxed().toList();
+
+        // When
+        IllegalStateException failure;
+        try (PartitionedReport report = new PartitionedReport(1, 10, () -> null)) {
+            failure = assertThrows(IllegalStateException.class, () -> report.run(productIds, (ids, session) -> {
+                if (ids.get(0) > 30) {
+                    throw new IllegalStateException("Connection lost");
+                }
+                return ids.stream().map(id -> new Object[]{id});
+            }, ReportType.STOCK_SUMMARY, PartitionedReportTest::idLines, output));
+        }
+
+        // Then
+        assertEquals("Connection lost", failure.getMessage());
+        assertEquals("previous report\n", Files.readString(output));
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(List.of(output), files.toList());
+        }
+    }
+
+    @Test
+    void run_ShouldWriteHeaderOnceBeforeFirstPartition_WhenFormatHasHeader() throws Exception {
+        // Given
+        List<Integer> productIds = IntStream.rangeClosed(1, 25).boxed().toList();
+        Path output = directory.resolve("report.csv");
+
+        // When
+        try (PartitionedReport report = new PartitionedReport(2, 10, () -> null)) {
+            report.run(productIds, (ids, session) -> ids.stream().map(id -> new Object[]{id, "P" + id, 1, 2, 3}),
+                    ReportType.STOCK_SUMMARY, CsvReportWriter::new, output);
+        }
+
+        // Then
+        List<String> lines = Files.readAllLines(output);
+        assertEquals(26, lines.size());
+        assertEquals("product_id,name,stock_quantity,total_sale_value,total_cost_value", lines.get(0));
+        assertEquals("1,P1,1,2,3", lines.get(1));
+        assertEquals("25,P25,1,2,3", lines.get(25));
+    }
+
+    private static ReportWriter idLines() {
+        return (type, rows, out) -> {
+            long written = 0;
+            while (rows.hasNext()) {
+                out.write((rows.next()[0] + "\n").getBytes(StandardCharsets.UTF_8));
+                written++;
+            }
+            return written;
+        };
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.balazsh.inventory.domain.report;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductDetailsTextLayoutTest {
+
+    @Test
+    void write_ShouldFormatAttributesAndComponents_WhenJsonIsValid() throws Exception {
+        // Given
+        String json = "{\"components\": [{\"display_name\": \"Screw\", \"product_id\": 7}],"
+                + " \"attributes\": [{\"name\": \"Weight\", \"value\": 1.5, \"unit\": \"kg\", \"data_type\": \"decimal\"},"
+                + " {\"data_type\": \"list\", \"value\": [\"red\", 2], \"name\": \"Colours\", \"unit\": \"\"}],"
+                + " \"notes\": {\"ignored\": true}}";
+        StringWriter output = new StringWriter();
+
+        // When
+        long rows = new ProductDetailsTextLayout().write(List.<Object[]>of(row(1, json)).iterator(), output);
+
+        // Then
+        assertEquals(1, rows);
+        assertEquals("""
+                Product ID: 1
+                Name: Drill
+                Category: Tools
+                Colour: Blue
+                Cost: 40
+                Description: Cordless drill
+                Product Attributes:
+                  - Weight: 1.5 kg (decimal)
+                  - Colours: [red, 2] (list)
+                Product Components:
+                  - Screw (ID: 7)
+                Number of Listings: 2
+                Number of Orders: 3
+                In stock: 5
+                ====================
+                """, output.toString());
+    }
+
+    @Test
+    void write_ShouldReportRawJsonAndContinue_WhenJsonIsMalformed() throws Exception {
+        // Given
+        StringWriter output = new StringWriter();
+        List<Object[]> rows = List.of(
+                row(1, "{\"attributes\": [{\"name\": \"Weight\""),
+                row(2, "{\"attributes\": null}"),
+                row(3, null));
+
+        // When
+        long written = new ProductDetailsTextLayout().write(rows.iterator(), output);
+
+        // Then
+        assertEquals(3, written);
+        String report = output.toString();
+        assertTrue(report.contains("Product Attributes: Error parsing JSON - {\"attributes\": [{\"name\": \"Weight\"\n"));
+        assertFalse(report.contains("  - Weight"));
+        assertTrue(report.contains("Product Attributes:\n  No attributes\nProduct Components:\n  No components\n"));
+        assertTrue(report.contains("Product Attributes: None\n"));
+    }
+
+    @Test
+    void write_ShouldStreamEveryRow_WhenReportIsLarge() throws Exception {
+        // Given
+        String json = "{\"attributes\": [{\"name\": \"Weight\", \"value\": 2, \"data_type\": \"int\"}], \"components\": []}";
+        Iterator<Object[]> rows = LongStream.range(0, 100_000).mapToObj(id -> row(id, json)).iterator();
+        CountingWriter output = new CountingWriter();
+
+        // When
+        long written = new ProductDetailsTextLayout().write(rows, output);
+
+        // Then
+        assertEquals(100_000, written);
+        assertEquals(100_000, output.separators());
+    }
+
+    private static Object[] row(long id, String json) {
+        return new Object[]{id, "Drill", "Tools", "Blue", 40, "Cordless drill", json, 2, 3, 5L};
+    }
+
+    /** Discards the report and only counts row separators, so the test itself keeps no output */
+    private static class CountingWriter extends Writer {
+        private long separators;
+
+        @Override
+        public void write(String text) {
+            if (text.equals("=".repeat(20))) {
+                separators++;
+            }
+        }
+
+        @Override
+        public void write(char[] buffer, int offset, int length) {
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        long separators() {
+            return separators;
+        }
+    }
+}
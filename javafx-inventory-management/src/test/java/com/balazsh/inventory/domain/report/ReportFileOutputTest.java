@@ -0,0 +1,131 @@
+package com.balazsh.inventory.domain.report;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReportFileOutputTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void write_ShouldKeepEveryByteInOrder_WhenWritesSpanSeveralBuffers() throws Exception {
+        // Given
+        byte[] expected = new byte[100_000];
+        new Random(7).nextBytes(expected);
+        Path output = directory.resolve("report.bin");
+
+        // When
+        try (ReportFileOutput out = new ReportFileOutput(output, 4_096, false)) {
+            out.write(expected[0]);
+            int offset = 1;
+            for (int length = 1; offset < expected.length; length = length * 3 % 9_001 + 1) {
+                int count = Math.min(length, expected.length - offset);
+                out.write(expected, offset, count);
+                offset += count;
+            }
+            assertEquals(expected.length, out.written());
+        }
+
+        // Then
+        assertArrayEquals(expected, Files.readAllBytes(output));
+    }
+
+    @Test
+    void close_ShouldLeaveOnlyNewReport_WhenFileHeldLongerReport() throws Exception {
+        // Given
+        Path output = directory.resolve("report.txt");
+        Files.writeString(output, "previous report that is longer than the next one");
+
+        // When
+        try (ReportFileOutput out = new ReportFileOutput(output, 4_096, true)) {
+            out.write("Product Id: 1\n".getBytes());
+        }
+
+        // Then
+        assertEquals("Product Id: 1\n", Files.readString(output));
+    }
+
+    /**
+     * Writes one million stock summary rows through the buffered stream the reports used before and through
+     * ReportFileOutput, each fed id-ordered partition chunks the way PartitionedReport feeds them.
+     * Run with -Dtest=ReportFileOutputTest -DargLine=-Dinventory.benchmark=true; the timings are printed.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "inventory.benchmark", matches = "true")
+    void benchmark_ShouldWriteSameReport_WhenComparedWithBufferedStream() throws Exception {
+        // Given
+        int rowCount = 1_000_000;
+        List<byte[]> chunks = textChunks(rowCount, PartitionedReport.PARTITION_SIZE);
+        Path buffered = directory.resolve("buffered.txt");
+        Path channel = directory.resolve("channel.txt");
+
+        // When
+        long[] bufferedNanos = new long[8];
+        long[] channelNanos = new long[8];
+        for (int run = 0; run < bufferedNanos.length; run++) {
+            long start = System.nanoTime();
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(buffered))) {
+                appendChunks(chunks, out);
+            }
+            bufferedNanos[run] = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            try (ReportFileOutput out = ReportFileOutput.open(channel)) {
+                appendChunks(chunks, out);
+            }
+            channelNanos[run] = System.nanoTime() - start;
+        }
+
+        // Then
+        assertEquals(Files.size(buffered), Files.size(channel));
+        System.out.printf("%d rows, %d MB: buffered stream %d ms, file channel %d ms%s (median of %d runs after %d warm-up)%n",
+                rowCount, Files.size(channel) / 1_000_000, medianMillis(bufferedNanos), medianMillis(channelNanos),
+                ReportFileOutput.FSYNC ? " including fsync" : "",
+                bufferedNanos.length - 3, 3);
+    }
+
+    /** Formats the rows as text chunks of partitionSize rows, outside the measured writes */
+    private static List<byte[]> textChunks(int rowCount, int partitionSize) throws IOException {
+        ReportWriter writer = ReportFormat.TEXT.newWriter();
+        List<byte[]> chunks = new ArrayList<>();
+        for (int from = 1; from <= rowCount; from += partitionSize) {
+            Iterator<Object[]> rows = IntStream.range(from, Math.min(from + partitionSize, rowCount + 1))
+                    .mapToObj(id -> new Object[]{id, "Product " + id, id % 50, id * 10L, id * 6L})
+                    .iterator();
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            writer.writeRows(ReportType.STOCK_SUMMARY, rows, bytes);
+            chunks.add(bytes.toByteArray());
+        }
+        return chunks;
+    }
+
+    private static void appendChunks(List<byte[]> chunks, OutputStream out) throws IOException {
+        for (byte[] chunk : chunks) {
+            out.write(chunk);
+        }
+    }
+
+    /** Median of the runs after the first three, which warm up the JIT and the page cache */
+    private static long medianMillis(long[] nanos) {
+        long[] measured = Arrays.copyOfRange(nanos, 3, nanos.length);
+        Arrays.sort(measured);
+        return measured[measured.length / 2] / 1_000_000;
+    }
+}
@@ -0,0 +1,126 @@
+package com.balazsh.inventory.domain.report;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReportFormatTest {
+
+    @Test
+    void csv_ShouldQuoteFieldsAndLeaveNullsEmpty_WhenValuesHoldSeparators() throws Exception {
+        // Given
+        List<Object[]> rows = List.of(
+                new Object[]{1, "Drill, \"Pro\"", 5, 100L, null},
+                new Object[]{2, "Line\nbreak", 0, 0L, 0L});
+
+        // When
+        String csv = write(ReportFormat.CSV, ReportType.STOCK_SUMMARY, rows).toString(StandardCharsets.UTF_8);
+
+        // Then
+        assertEquals("product_id,name,stock_quantity,total_sale_value,total_cost_value\r\n"
+                + "1,\"Drill, \"\"Pro\"\"\",5,100,\r\n"
+                + "2,\"Line\nbreak\",0,0,0\r\n", csv);
+    }
+
+    @Test
+    void jsonLines_ShouldEmbedValidJsonAndQuoteInvalidJson_WhenColumnHoldsJson() throws Exception {
+        // Given
+        List<Object[]> rows = List.of(
+                detailsRow(1, "{\"attributes\": [{\"name\": \"Weight\", \"value\": 2}]}"),
+                detailsRow(2, "{\"attributes\": ["),
+                detailsRow(3, null));
+
+        // When
+        String jsonLines = write(ReportFormat.JSON_LINES, ReportType.PRODUCT_DETAILS, rows).toString(StandardCharsets.UTF_8);
+
+        // Then
+        ObjectMapper mapper = new ObjectMapper();
+        String[] lines = jsonLines.split("\n");
+        assertEquals(3, lines.length);
+        JsonNode first = mapper.readTree(lines[0]);
+        assertEquals(1, first.get("product_id").asInt());
+        assertEquals("Drill", first.get("name").asText());
+        assertEquals("Weight", first.get("unique_attributes").get("attributes").get(0).get("name").asText());
+        assertEquals("{\"attributes\": [", mapper.readTree(lines[1]).get("unique_attributes").asText());
+        assertTrue(mapper.readTree(lines[2]).get("unique_attributes").isNull());
+    }
+
+    @Test
+    void jsonLines_ShouldKeepEachRowOnOneLine_WhenJsonColumnSpansSeveralLines() throws Exception {
+        // Given
+        String prettyJson = "{\n  \"attributes\": [\n    {\"name\": \"Weight\", \"value\": 2}\n  ],\n  \"components\": []\n}";
+        List<Object[]> rows = List.of(detailsRow(1, prettyJson), detailsRow(2, "{\n  \"attributes\": [\n"));
+
+        // When
+        String jsonLines = write(ReportFormat.JSON_LINES, ReportType.PRODUCT_DETAILS, rows).toString(StandardCharsets.UTF_8);
+
+        // Then
+        ObjectMapper mapper = new ObjectMapper();
+        String[] lines = jsonLines.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(mapper.readTree(prettyJson), mapper.readTree(lines[0]).get("unique_attributes"));
+        assertEquals("{\n  \"attributes\": [\n", mapper.readTree(lines[1]).get("unique_attributes").asText());
+    }
+
+    @Test
+    void binary_ShouldReadBackEveryValue_WhenWrittenInSeveralBlocks() throws Exception {
+        // Given
+        List<Object[]> rows = new ArrayList<>();
+        for (int id = 0; id < BinaryReportWriter.BLOCK_ROWS * 2 + 3; id++) {
+            rows.add(detailsRow(id, id % 7 == 0 ? null : "{\"attributes\": []}"));
+        }
+        rows.add(new Object[]{-5, "Zürich ✓", null, "", Long.MIN_VALUE / 2, null, null, 0, -1, Long.MAX_VALUE / 2});
+
+        // When
+        ByteArrayOutputStream bytes = write(ReportFormat.BINARY, ReportType.PRODUCT_DETAILS, rows);
+
+        // Then
+        try (BinaryReportReader reader = new BinaryReportReader(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertEquals(ReportType.PRODUCT_DETAILS.columns(), reader.columns());
+            for (Object[] expected : rows) {
+                Object[] actual = reader.nextRow();
+                for (int i = 0; i < expected.length; i++) {
+                    Object value = expected[i] instanceof Number number ? Long.valueOf(number.longValue()) : expected[i];
+                    assertEquals(value, actual[i]);
+                }
+            }
+            assertNull(reader.nextRow());
+        }
+    }
+
+    @Test
+    void binary_ShouldBeAtLeastFiveTimesSmallerThanText_WhenWritingStockSummary() throws Exception {
+        // Given
+        List<Object[]> rows = IntStream.rangeClosed(1, 10_000)
+                .mapToObj(id -> new Object[]{id, "Product " + id, id % 50, id * 10L, id * 6L})
+                .toList();
+
+        // When
+        int textSize = write(ReportFormat.TEXT, ReportType.STOCK_SUMMARY, rows).size();
+        int binarySize = write(ReportFormat.BINARY, ReportType.STOCK_SUMMARY, rows).size();
+
+        // Then
+        assertTrue(binarySize * 5 <= textSize, "text " + textSize + " bytes, binary " + binarySize + " bytes");
+    }
+
+    private static ByteArrayOutputStream write(ReportFormat format, ReportType type, List<Object[]> rows) throws Exception {
+        ReportWriter writer = format.newWriter();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        writer.writeHeader(type, bytes);
+        assertEquals(rows.size(), writer.writeRows(type, rows.iterator(), bytes));
+        return bytes;
+    }
+
+    private static Object[] detailsRow(long id, String json) {
+        return new Object[]{id, "Drill", "Tools", "Blue", 40, "Cordless drill", json, 2, 3, 5L};
+    }
+}
@@ -0,0 +1,169 @@
+package com.balazsh.inventory.domain.reservation;
+
+import com.balazsh.inventory.domain.reservation.StockReservations.Reservation;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Exercises the reservation counters against an in-memory stock table, including
+ * hundreds of concurrent threads reserving the same and neighbouring products.
+ */
+class StockReservationsTest {
+
+    private static final int THREADS = 400;
+
+    private final Map<Integer, Integer> stock = new ConcurrentHashMap<>();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private StockReservations reservations(long ttlMillis) {
+        return new StockReservations(16, ttlMillis, productId -> {
+            loads.incrementAndGet();
+            return Optional.ofNullable(stock.get(productId));
+        });
+    }
+
+    @Test
+    void reserve_ShouldNeverHandOutMoreThanStock_WhenHundredsOfThreadsCompete() throws Exception {
+        // Given
+        int products = 8;
+        int quantityPerProduct = 50;
+        for (int productId = 1; productId <= products; productId++) {
+            stock.put(productId, quantityPerProduct);
+        }
+        StockReservations reservations = reservations(60_000);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        Map<Integer, AtomicInteger> confirmed = new ConcurrentHashMap<>();
+        AtomicInteger rejected = new AtomicInteger();
+
+        // When
+        List<Future<?>> workers = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            int productId = i % products + 1;
+            workers.add(executor.submit(() -> {
+                start.await();
+                for (int attempt = 0; attempt < 5; attempt++) {
+                    Optional<Reservation> reservation = reservations.reserve(productId, 1);
+                    if (reservation.isEmpty()) {
+                        rejected.incrementAndGet();
+                    } else if (attempt % 2 == 0) {
+                        // Every other reservation fails downstream and gives its quantity back
+                        reservations.release(reservation.get());
+                    } else {
+                        assertTrue(reservations.confirm(reservation.get()));
+                        confirmed.computeIfAbsent(productId, id -> new AtomicInteger()).incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> worker : workers) {
+            worker.get();
+        }
+        executor.shutdown();
+
+        // Then
+        for (int productId = 1; productId <= products; productId++) {
+            int confirmedQuantity = confirmed.get(productId).get();
+            assertTrue(confirmedQuantity <= quantityPerProduct);
+            assertEquals(quantityPerProduct - confirmedQuantity, reservations.available(productId).orElseThrow());
+        }
+        assertTrue(rejected.get() > 0);
+        assertEquals(0, reservations.outstanding());
+    }
+
+    @Test
+    void reserve_ShouldRejectWithoutLoadingAgain_WhenCounterIsExhausted() {
+        // Given
+        stock.put(1, 3);
+        StockReservations reservations = reservations(60_000);
+        reservations.confirm(reservations.reserve(1, 3).orElseThrow());
+
+        // When
+        Optional<Reservation> reservation = reservations.reserve(1, 1);
+
+        // Then
+        assertTrue(reservation.isEmpty());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void expireReservations_ShouldReturnQuantity_WhenReservationIsNeverConfirmed() throws Exception {
+        // Given
+        stock.put(1, 10);
+        StockReservations reservations = reservations(1);
+        Reservation reservation = reservations.reserve(1, 4).orElseThrow();
+        Thread.sleep(5);
+
+        // When
+        int expired = reservations.expireReservations();
+
+        // Then
+        assertEquals(1, expired);
+        assertEquals(10, reservations.available(1).orElseThrow());
+        assertFalse(reservations.confirm(reservation));
+    }
+
+    @Test
+    void invalidate_ShouldReloadStockMinusLiveReservations_WhenStockChangedElsewhere() {
+        // Given
+        stock.put(1, 10);
+        StockReservations reservations = reservations(60_000);
+        reservations.reserve(1, 4).orElseThrow();
+        stock.put(1, 20);
+
+        // When
+        reservations.invalidate(1);
+        Optional<Reservation> reservation = reservations.reserve(1, 16);
+
+        // Then
+        assertTrue(reservation.isPresent());
+        assertEquals(0, reservations.available(1).orElseThrow());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void release_ShouldReloadCounter_WhenReservationWasAlreadyConfirmed() {
+        // Given
+        stock.put(1, 10);
+        StockReservations reservations = reservations(60_000);
+        Reservation reservation = reservations.reserve(1, 4).orElseThrow();
+        reservations.confirm(reservation);
+
+        // When
+        reservations.release(reservation);
+        reservations.reserve(1, 1);
+
+        // Then
+        assertEquals(9, reservations.available(1).orElseThrow());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void reconcile_ShouldPickUpStockChangedElsewhere_WhenRun() {
+        // Given
+        stock.put(1, 10);
+        StockReservations reservations = reservations(60_000);
+        reservations.reserve(1, 2).orElseThrow();
+        stock.put(1, 6);
+
+        // When
+        reservations.reconcile();
+
+        // Then
+        assertEquals(4, reservations.available(1).orElseThrow());
+    }
+}
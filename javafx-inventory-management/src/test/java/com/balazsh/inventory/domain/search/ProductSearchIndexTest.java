@@ -0,0 +1,172 @@
+package com.balazsh.inventory.domain.search;
+
+import com.balazsh.inventory.domain.search.ProductSearchIndex.ProductDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductSearchIndexTest {
+
+    private ProductSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new ProductSearchIndex();
+        searchIndex.rebuild(Stream.of(
+                new ProductDocument(1, "Hydraulic Disc Brake", "Brakes", "Four piston brake for mountain bikes"),
+                new ProductDocument(2, "Rim Brake Pads", "Brakes", "Replacement pads, works with hydraulic rim brakes"),
+                new ProductDocument(3, "Hydraulic Hose Kit", "Accessories", "Hose and fittings"),
+                new ProductDocument(4, "Road Bike", "Bikes", "Carbon frame road bike")
+        ));
+    }
+
+    @Test
+    void isReady_ShouldReturnTrue_WhenIndexHasBeenBuilt() {
+        // Given - index built in setUp
+
+        // When
+        boolean result = searchIndex.isReady();
+
+        // Then
+        assertTrue(result);
+        assertFalse(new ProductSearchIndex().isReady());
+    }
+
+    @Test
+    void search_ShouldReturnSubstringMatchesAcrossFields_RankedByMatchQuality() {
+        // Given - index built in setUp
+
+        // When
+        List<Integer> result = searchIndex.search("HYDRAUL", 10);
+
+        // Then - name prefix matches first (shorter name wins), description match last
+        assertEquals(List.of(3, 1, 2), result);
+    }
+
+    @Test
+    void search_ShouldIgnoreDefaultLocale_WhenQueryContainsDottedI() {
+        // Given - a Turkish default locale lowercases "I" to a dotless i
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+        try {
+            ProductSearchIndex turkishIndex = new ProductSearchIndex();
+            turkishIndex.rebuild(Stream.of(new ProductDocument(1, "Hydraulic Disc Brake", "Brakes", "Four piston brake")));
+
+            // When
+            List<Integer> result = turkishIndex.search("DISC", 10);
+
+            // Then
+            assertEquals(List.of(1), result);
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    void search_ShouldMatchCategory_WhenNameDoesNotContainQuery() {
+        // Given - index built in setUp
+
+        // When
+        List<Integer> result = searchIndex.search("accessor", 10);
+
+        // Then
+        assertEquals(List.of(3), result);
+    }
+
+    @Test
+    void search_ShouldRejectTrigramFalsePositives() {
+        // Given - both words occur in product 1 but never as one phrase
+
+        // When
+        List<Integer> result = searchIndex.search("brake hydraulic", 10);
+
+        // Then
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void search_ShouldScanDocuments_WhenQueryIsShorterThanTrigram() {
+        // Given - index built in setUp
+
+        // When
+        List<Integer> result = searchIndex.search("ro", 10);
+
+        // Then
+        assertEquals(List.of(4), result);
+    }
+
+    @Test
+    void search_ShouldReturnEmptyList_WhenQueryIsBlank() {
+        // When
+        List<Integer> result = searchIndex.search("  ", 10);
+
+        // Then
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void index_ShouldReplacePreviousText_WhenProductIsUpdated() {
+        // Given
+        searchIndex.index(new ProductDocument(4, "Gravel Bike", "Bikes", "Steel frame"));
+
+        // When
+        List<Integer> oldName = searchIndex.search("road", 10);
+        List<Integer> newName = searchIndex.search("gravel", 10);
+
+        // Then
+        assertTrue(oldName.isEmpty());
+        assertEquals(List.of(4), newName);
+    }
+
+    @Test
+    void remove_ShouldDropProductFromResults() {
+        // Given
+        searchIndex.remove(3);
+
+        // When
+        List<Integer> result = searchIndex.search("hydraulic", 10);
+
+        // Then
+        assertEquals(List.of(1, 2), result);
+    }
+
+    @Test
+    void stats_ShouldReportIndexSize() {
+        // When
+        ProductSearchIndex.IndexStats stats = searchIndex.stats();
+
+        // Then
+        assertEquals(4, stats.products());
+        assertTrue(stats.trigrams() > 0);
+        assertTrue(stats.postings() >= stats.trigrams());
+        assertTrue(stats.estimatedBytes() > 0);
+    }
+
+    @Test
+    void rebuild_ShouldKeepChangesMadeDuringBuild_WhenProductsAreIndexedOrRemovedMeanwhile() {
+        // Given
+        Stream<ProductDocument> catalog = Stream.of(
+                new ProductDocument(1, "Hydraulic Disc Brake", "Brakes", ""),
+                new ProductDocument(2, "Rim Brake Pads", "Brakes", ""),
+                new ProductDocument(3, "Hydraulic Hose Kit", "Accessories", ""))
+                .peek(document -> {
+                    if (document.id() == 2) {
+                        searchIndex.index(new ProductDocument(5, "Hydraulic Brake Lever", "Brakes", ""));
+                        searchIndex.index(new ProductDocument(3, "Brake Hose Kit", "Accessories", ""));
+                        searchIndex.remove(1);
+                    }
+                });
+
+        // When
+        searchIndex.rebuild(catalog);
+
+        // Then
+        assertEquals(List.of(5), searchIndex.search("hydraulic", 10));
+        assertEquals(List.of(2, 3, 5), searchIndex.search("brake", 10).stream().sorted().toList());
+    }
+}
@@ -0,0 +1,160 @@
+package com.balazsh.inventory.domain.service;
+
+import com.balazsh.inventory.dao.ListingDAOImpl;
+import com.balazsh.inventory.entity.Listing;
+import com.balazsh.inventory.entity.Product;
+import com.balazsh.inventory.entity.ProductCategory;
+import com.balazsh.inventory.entity.User;
+import com.balazsh.inventory.util.HibernateUtil;
+import com.balazsh.inventory.util.exceptions.ProductProcessingException;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ListingServiceTest {
+
+    private static ProductCategory category;
+    private static int sellerId;
+
+    private final ListingService listingService = new ListingService(new ListingDAOImpl());
+
+    @BeforeAll
+    static void setUp() {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            session.beginTransaction();
+            category = new ProductCategory();
+            category.setCategoryName("Brakes");
+            session.persist(category);
+
+            User user = new User();
+            user.setUsername("listing-seller");
+            user.setPassword("password");
+            user.setAccountStatus("approved");
+            session.persist(user);
+            session.getTransaction().commit();
+            sellerId = user.getId();
+        }
+    }
+
+    @Test
+    void repriceListingsOfProduct_ShouldRepriceOnlyActiveListingsOfProduct_WhenPercentIsNegative() {
+        // Given
+        int productId = createProduct();
+        int otherProductId = createProduct();
+        createListing(productId, 2, 100);
+        createListing(productId, 3, 205);
+        createListing(otherProductId, 1, 100);
+
+        // When
+        int repriced = listingService.repriceListingsOfProduct(productId, -10);
+
+        // Then
+        assertEquals(2, repriced);
+        assertEquals(List.of("active:90:180", "active:184:552"), listingStates(productId));
+        assertEquals(List.of("active:100:100"), listingStates(otherProductId));
+    }
+
+    @Test
+    void closeListingsOfProduct_ShouldCloseActiveListingsAndSkipThemLater_WhenProductHasListings() {
+        // Given
+        int productId = createProduct();
+        createListing(productId, 1, 50);
+        createListing(productId, 1, 60);
+
+        // When
+        int closed = listingService.closeListingsOfProduct(productId);
+        int closedAgain = listingService.closeListingsOfProduct(productId);
+        int repriced = listingService.repriceListingsOfProduct(productId, 50);
+
+        // Then
+        assertEquals(2, closed);
+        assertEquals(0, closedAgain);
+        assertEquals(0, repriced);
+        assertEquals(List.of("closed:50:50", "closed:60:60"), listingStates(productId));
+    }
+
+    @Test
+    void expireListingsOlderThan_ShouldExpireOnlyListingsBeforeCutoff_WhenProductHasOldAndNewListings() {
+        // Given
+        int productId = createProduct();
+        int oldListingId = createListing(productId, 1, 50);
+        createListing(productId, 1, 60);
+        backdate(oldListingId, 3);
+
+        // When
+        int expired = listingService.expireListingsOlderThan(2);
+
+        // Then
+        assertTrue(expired >= 1);
+        assertEquals(List.of("expired:50:50", "active:60:60"), listingStates(productId));
+    }
+
+    @Test
+    void repriceListingsOfProduct_ShouldRejectChange_WhenPriceWouldDropToZero() {
+        // Given
+        int productId = createProduct();
+        createListing(productId, 1, 50);
+
+        // When / Then
+        assertThrows(ProductProcessingException.class, () -> listingService.repriceListingsOfProduct(productId, -100));
+        assertEquals(List.of("active:50:50"), listingStates(productId));
+    }
+
+    private static int createProduct() {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            session.beginTransaction();
+            Product product = new Product();
+            product.setName("Brake Pad");
+            product.setDescription("Ceramic brake pad");
+            product.setUniqueAttributes("{\"attributes\":[],\"components\":[]}");
+            product.setCategory(session.getReference(ProductCategory.class, category.getId()));
+            product.setColour("black");
+            product.setCost(40);
+            session.persist(product);
+            session.getTransaction().commit();
+            return product.getId();
+        }
+    }
+
+    private static int createListing(int productId, int quantity, int unitPrice) {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            session.beginTransaction();
+            Listing listing = new Listing();
+            listing.setProduct(session.getReference(Product.class, productId));
+            listing.setQuantity(quantity);
+            listing.setUnitPrice(unitPrice);
+            listing.setTotalPrice(quantity * unitPrice);
+            listing.setListingStatus("active");
+            listing.setListedBy(session.getReference(User.class, sellerId));
+            session.persist(listing);
+            session.getTransaction().commit();
+            return listing.getId();
+        }
+    }
+
+    private static void backdate(int listingId, int days) {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            session.beginTransaction();
+            session.createMutationQuery("update Listing l set l.listedAt = :listedAt where l.id = :listingId")
+                    .setParameter("listedAt", LocalDateTime.now().minusDays(days))
+                    .setParameter("listingId", listingId)
+                    .executeUpdate();
+            session.getTransaction().commit();
+        }
+    }
+
+    /** The product's listings as status:unitPrice:totalPrice, in listing order */
+    private static List<String> listingStates(int productId) {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            return session.createSelectionQuery("select l.listingStatus || ':' || l.unitPrice || ':' || l.totalPrice "
+                            + "from Listing l where l.product.id = :productId order by l.id", String.class)
+                    .setParameter("productId", productId)
+                    .getResultList();
+        }
+    }
+}
@@ -0,0 +1,562 @@
+package com.balazsh.inventory.domain.service;
+
+import com.balazsh.inventory.dao.ProcessedOperationDAOImpl;
+import com.balazsh.inventory.dao.ProductDAOImpl;
+import com.balazsh.inventory.domain.idempotency.RecentOperations;
+import com.balazsh.inventory.domain.model.BatchLineResult;
+import com.balazsh.inventory.domain.model.ProductEntry;
+import com.balazsh.inventory.domain.model.ProductPurchase;
+import com.balazsh.inventory.domain.ledger.TransactionLedger;
+import com.balazsh.inventory.domain.model.ProductSale;
+import com.balazsh.inventory.domain.reservation.StockReservations;
+import com.balazsh.inventory.domain.search.ProductSearchIndex;
+import com.balazsh.inventory.entity.Product;
+import com.balazsh.inventory.entity.ProductCategory;
+import com.balazsh.inventory.entity.Stock;
+import com.balazsh.inventory.entity.User;
+import com.balazsh.inventory.util.HibernateUtil;
+import com.balazsh.inventory.util.exceptions.ProductProcessingException;
+import jakarta.persistence.OptimisticLockException;
+import org.hibernate.Session;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs product transactions against an in-memory database, including concurrent sales
+ * to verify stock can never be oversold.
+ */
+class ProductServiceTest {
+
+    private static final String SELLER = "seller";
+    private static final int THREADS = 16;
+    private static final int ATTEMPTS_PER_THREAD = 25;
+
+    private static ProductService productService;
+    private static int sellerId;
+    private static ProductCategory category;
+
+    @BeforeAll
+    static void setUp() {
+        System.setProperty("inventory.diagnostics.snapshot_seconds", "0");
+        System.setProperty("inventory.query.warmup", "false");
+        productService = new ProductService(new ProductDAOImpl());
+
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            session.beginTransaction();
+            category = new ProductCategory();
+            category.setCategoryName("Brakes");
+            session.persist(category);
+
+            User user = new User();
+            user.setUsername(SELLER);
+            user.setPassword("password");
+            user.setAccountStatus("approved");
+            session.persist(user);
+            session.getTransaction().commit();
+            sellerId = user.getId();
+        }
+    }
+
+    @Test
+    void sellProduct_ShouldNeverOversell_WhenSalesRunConcurrently() throws Exception {
+        // Given
+        int initialQuantity = 100;
+        int productId = createProductWithStock(initialQuantity, 500);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger sold = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        // When
+        List<Future<?>> sellers = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            sellers.add(executor.submit(() -> {
+                start.await();
+                for (int attempt = 0; attempt < ATTEMPTS_PER_THREAD; attempt++) {
+                    try {
+                        productService.sellProduct(productId, sellerId, 1, 10);
+                        sold.incrementAndGet();
+                    } catch (ProductProcessingException e) {
+                        rejected.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> seller : sellers) {
+            seller.get();
+        }
+        executor.shutdown();
+
+        // Then
+        assertEquals(initialQuantity, sold.get());
+        assertEquals(THREADS * ATTEMPTS_PER_THREAD - initialQuantity, rejected.get());
+        assertEquals(0, stockQuantity(productId));
+        assertEquals(initialQuantity, listingCount(productId));
+    }
+
+    @Test
+    void sellProduct_ShouldRejectSaleAndKeepStock_WhenQuantityExceedsStock() {
+        // Given
+        int productId = createProductWithStock(5, 500);
+
+        // When
+        ProductProcessingException exception = assertThrows(ProductProcessingException.class,
+                () -> productService.sellProduct(productId, sellerId, 6, 10));
+
+        // Then
+        assertTrue(exception.getMessage().contains("Available quantity: 5"));
+        assertEquals(5, stockQuantity(productId));
+        assertEquals(0, listingCount(productId));
+    }
+
+    @Test
+    void buyProduct_ShouldIncreaseStock_WhenQuantityFitsMaxStock() {
+        // Given
+        int productId = createProductWithStock(5, 50);
+
+        // When
+        productService.buyProduct(productId, sellerId, 20);
+
+        // Then
+        assertEquals(25, stockQuantity(productId));
+        assertThrows(ProductProcessingException.class, () -> productService.buyProduct(productId, sellerId, 51));
+        assertEquals(25, stockQuantity(productId));
+    }
+
+    @Test
+    void buyProduct_ShouldRollBackAndReportUnexpectedError_WhenOrderCannotBeStored() {
+        // Given
+        int productId = createProductWithStock(5, 50);
+        int unknownUserId = -1;
+
+        // When
+        ProductProcessingException exception = assertThrows(ProductProcessingException.class,
+                () -> productService.buyProduct(productId, unknownUserId, 20));
+
+        // Then
+        assertEquals("Unexpected error has occurred", exception.getMessage());
+        assertEquals(5, stockQuantity(productId));
+    }
+
+    @Test
+    void sellProduct_ShouldRollBackAndReleaseReservation_WhenListingCannotBeStored() {
+        // Given
+        int productId = createProductWithStock(5, 50);
+        int unknownUserId = -1;
+
+        // When
+        ProductProcessingException exception = assertThrows(ProductProcessingException.class,
+                () -> productService.sellProduct(productId, unknownUserId, 5, 10));
+
+        // Then
+        assertEquals("Unexpected error has occurred", exception.getMessage());
+        assertEquals(5, stockQuantity(productId));
+        assertEquals(0, listingCount(productId));
+        productService.sellProduct(productId, sellerId, 5, 10);
+        assertEquals(0, stockQuantity(productId));
+    }
+
+    @Test
+    void stockVersion_ShouldRejectStaleUpdate_WhenStockWasSoldMeanwhile() {
+        // Given
+        int productId = createProductWithStock(10, 500);
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            session.beginTransaction();
+            Stock staleStock = session.createSelectionQuery("from Stock s where s.product.id = :productId", Stock.class)
+                    .setParameter("productId", productId)
+                    .getSingleResult();
+
+            // When
+            productService.sellProduct(productId, sellerId, 3, 10);
+            staleStock.setQuantity(staleStock.getQuantity() + 1);
+
+            // Then
+            assertThrows(OptimisticLockException.class, session::flush);
+            session.getTransaction().rollback();
+        }
+        assertEquals(7, stockQuantity(productId));
+    }
+
+    @Test
+    void processBatch_ShouldBookAcceptedLinesAndReportRejectedOnes_WhenBasketIsMixed() {
+        // Given
+        int firstProduct = createProductWithStock(10, 100);
+        int secondProduct = createProductWithStock(2, 100);
+        int thirdProduct = createProductWithStock(5, 20);
+        List<ProductSale> sales = List.of(
+                new ProductSale(firstProduct, 15, 4),
+                new ProductSale(secondProduct, 15, 3),
+                new ProductSale(firstProduct, 15, 6));
+        List<ProductPurchase> purchases = List.of(
+                new ProductPurchase(thirdProduct, 10),
+                new ProductPurchase(thirdProduct, 25),
+                new ProductPurchase(secondProduct, 0));
+
+        // When
+        List<BatchLineResult> results = productService.processBatch(sales, purchases, sellerId);
+
+        // Then
+        assertEquals(List.of(true, false, true, true, false, false),
+                results.stream().map(BatchLineResult::success).toList());
+        assertEquals("Insufficient stock quantity for product id: " + secondProduct, results.get(1).message());
+        assertEquals("Quantity must be greater than zero", results.get(5).message());
+        assertEquals(0, stockQuantity(firstProduct));
+        assertEquals(2, stockQuantity(secondProduct));
+        assertEquals(15, stockQuantity(thirdProduct));
+        assertEquals(2, listingCount(firstProduct));
+        assertEquals(0, listingCount(secondProduct));
+        assertEquals(1, orderCount(thirdProduct));
+    }
+
+    @Test
+    void processBatch_ShouldSplitIntoJdbcBatches_WhenBasketExceedsBatchSize() {
+        // Given
+        int productId = createProductWithStock(1000, 5000);
+        List<ProductSale> sales = IntStream.range(0, HibernateUtil.JDBC_BATCH_SIZE * 2 + 7)
+                .mapToObj(i -> new ProductSale(productId, 10, 1))
+                .toList();
+
+        // When
+        List<BatchLineResult> results = productService.processBatch(sales, List.of(), sellerId);
+
+        // Then
+        assertTrue(results.stream().allMatch(BatchLineResult::success));
+        assertEquals(1000 - sales.size(), stockQuantity(productId));
+        assertEquals(sales.size(), listingCount(productId));
+    }
+
+    @Test
+    void sellProduct_ShouldSellRestockedQuantity_WhenPurchaseFollowsSellOut() {
+        // Given
+        int productId = createProductWithStock(2, 100);
+        productService.sellProduct(productId, sellerId, 2, 10);
+        assertThrows(ProductProcessingException.class, () -> productService.sellProduct(productId, sellerId, 1, 10));
+
+        // When
+        productService.buyProduct(productId, sellerId, 5);
+        productService.sellProduct(productId, sellerId, 5, 10);
+
+        // Then
+        assertEquals(0, stockQuantity(productId));
+        assertEquals(2, listingCount(productId));
+    }
+
+    @Test
+    void sellProduct_ShouldDrainLocationsInIdOrder_WhenNoSingleLocationHoldsQuantity() {
+        // Given
+        int productId = createProductWithStock(3, 100);
+        addLocation(productId, 4, 100);
+        addLocation(productId, 5, 100);
+
+        // When
+        productService.sellProduct(productId, sellerId, 6, 10);
+        List<Integer> afterSplitSale = locationQuantities(productId);
+        productService.sellProduct(productId, sellerId, 5, 10);
+
+        // Then
+        assertEquals(List.of(0, 1, 5), afterSplitSale);
+        assertEquals(List.of(0, 1, 0), locationQuantities(productId));
+        assertThrows(ProductProcessingException.class, () -> productService.sellProduct(productId, sellerId, 2, 10));
+    }
+
+    @Test
+    void sellProduct_ShouldNeverOversell_WhenConcurrentSalesSpanLocations() throws Exception {
+        // Given
+        int productId = createProductWithStock(25, 500);
+        for (int i = 0; i < 3; i++) {
+            addLocation(productId, 25, 500);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        AtomicInteger sold = new AtomicInteger();
+
+        // When
+        List<Future<?>> sellers = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            sellers.add(executor.submit(() -> {
+                for (int attempt = 0; attempt < ATTEMPTS_PER_THREAD; attempt++) {
+                    try {
+                        productService.sellProduct(productId, sellerId, 3, 10);
+                        sold.addAndGet(3);
+                    } catch (ProductProcessingException e) {
+                        // Rejected for insufficient stock
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> seller : sellers) {
+            seller.get();
+        }
+        executor.shutdown();
+
+        // Then
+        assertEquals(99, sold.get());
+        assertEquals(1, stockQuantity(productId));
+        assertTrue(locationQuantities(productId).stream().allMatch(quantity -> quantity >= 0));
+    }
+
+    @Test
+    void fetchProducts_ShouldReturnOneRowWithSummedStock_WhenProductHasManyLocations() {
+        // Given
+        int productId = createProductWithStock(1, 100);
+        for (int i = 1; i < 200; i++) {
+            addLocation(productId, 1, 100);
+        }
+
+        // When
+        List<ProductEntry> entries = productService.fetchProducts().stream()
+                .filter(entry -> entry.getId() == productId)
+                .toList();
+
+        // Then
+        assertEquals(1, entries.size());
+        assertEquals(200, entries.get(0).getInStock());
+    }
+
+    @Test
+    void processBatch_ShouldSplitSaleAcrossLocations_WhenNoSingleLocationHoldsQuantity() {
+        // Given
+        int productId = createProductWithStock(2, 100);
+        addLocation(productId, 2, 100);
+
+        // When
+        List<BatchLineResult> results = productService.processBatch(
+                List.of(new ProductSale(productId, 10, 3)), List.of(new ProductPurchase(productId, 1)), sellerId);
+
+        // Then
+        assertTrue(results.stream().allMatch(BatchLineResult::success));
+        assertEquals(List.of(0, 2), locationQuantities(productId));
+    }
+
+    @Test
+    void sellProduct_ShouldRunOnlyOperationRecordStockUpdateAndListingInsert_WhenUserIdIsKnown() {
+        // Given
+        int productId = createProductWithStock(10, 100);
+        ProductService service = new ProductService(new ProductDAOImpl(), ProductSearchIndex.getInstance(),
+                new TransactionLedger(100, 10, 1, 1, entries -> {}),
+                new StockReservations(1, 60_000, id -> Optional.of(stockQuantity(id))),
+                new ProcessedOperationDAOImpl(), RecentOperations.getInstance());
+        service.sellProduct(productId, sellerId, 1, 10);
+        Statistics statistics = HibernateUtil.getSessionFactory().getStatistics();
+
+        // When
+        long before = statistics.getPrepareStatementCount();
+        service.sellProduct(productId, sellerId, 1, 10);
+        long sellStatements = statistics.getPrepareStatementCount() - before;
+        before = statistics.getPrepareStatementCount();
+        service.buyProduct(productId, sellerId, 1);
+        long buyStatements = statistics.getPrepareStatementCount() - before;
+
+        // Then
+        assertEquals(3, sellStatements);
+        assertTrue(buyStatements <= 4);
+    }
+
+    @Test
+    void sellProduct_ShouldAppendLedgerRowsInBackground_WhenStockChanges() {
+        // Given
+        int productId = createProductWithStock(10, 100);
+
+        // When
+        productService.sellProduct(productId, sellerId, 4, 25);
+        productService.buyProduct(productId, sellerId, 6);
+
+        // Then
+        assertTrue(TransactionLedger.getInstance().awaitWritten(5_000));
+        assertEquals(List.of("purchase:6:600", "sale:4:100"), ledgerTotals(productId));
+    }
+
+    @Test
+    void sellProduct_ShouldBookOnce_WhenRetriedWithSameOperationId() {
+        // Given
+        int productId = createProductWithStock(10, 100);
+        UUID operationId = UUID.randomUUID();
+        productService.sellProduct(operationId, productId, sellerId, 4, 10);
+
+        // When - a retry hitting the in-memory cache, then one from a service that has not seen the operation
+        productService.sellProduct(operationId, productId, sellerId, 4, 10);
+        serviceWithoutRecentOperations().sellProduct(operationId, productId, sellerId, 4, 10);
+
+        // Then
+        assertEquals(6, stockQuantity(productId));
+        assertEquals(1, listingCount(productId));
+    }
+
+    @Test
+    void sellProduct_ShouldReturnFirstResult_WhenRetryFindsStockTakenByItsFirstAttempt() {
+        // Given
+        int productId = createProductWithStock(3, 100);
+        UUID operationId = UUID.randomUUID();
+        productService.sellProduct(operationId, productId, sellerId, 3, 10);
+
+        // When
+        assertDoesNotThrow(() -> serviceWithoutRecentOperations().sellProduct(operationId, productId, sellerId, 3, 10));
+
+        // Then
+        assertEquals(0, stockQuantity(productId));
+        assertEquals(1, listingCount(productId));
+    }
+
+    @Test
+    void sellProduct_ShouldBookOnce_WhenSameOperationIsSubmittedConcurrently() throws Exception {
+        // Given
+        int productId = createProductWithStock(50, 100);
+        UUID operationId = UUID.randomUUID();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When
+        List<Future<?>> sellers = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            ProductService service = serviceWithoutRecentOperations();
+            sellers.add(executor.submit(() -> {
+                start.await();
+                service.sellProduct(operationId, productId, sellerId, 2, 10);
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> seller : sellers) {
+            seller.get();
+        }
+        executor.shutdown();
+
+        // Then
+        assertEquals(48, stockQuantity(productId));
+        assertEquals(1, listingCount(productId));
+    }
+
+    @Test
+    void buyProduct_ShouldBookOnce_WhenRetriedWithSameOperationId() {
+        // Given
+        int productId = createProductWithStock(5, 100);
+        UUID operationId = UUID.randomUUID();
+        productService.buyProduct(operationId, productId, sellerId, 10);
+
+        // When
+        serviceWithoutRecentOperations().buyProduct(operationId, productId, sellerId, 10);
+
+        // Then
+        assertEquals(15, stockQuantity(productId));
+        assertEquals(1, orderCount(productId));
+    }
+
+    @Test
+    void processBatch_ShouldSkipBookedLines_WhenBasketIsRetried() {
+        // Given
+        int productId = createProductWithStock(20, 100);
+        List<ProductSale> sales = List.of(new ProductSale(productId, 10, 3), new ProductSale(productId, 10, 2));
+        List<ProductPurchase> purchases = List.of(new ProductPurchase(productId, 5));
+        productService.processBatch(sales, purchases, sellerId);
+
+        // When
+        List<BatchLineResult> retried = serviceWithoutRecentOperations().processBatch(sales, purchases, sellerId);
+
+        // Then
+        assertTrue(retried.stream().allMatch(result -> result.success() && result.message().equals("Already completed")));
+        assertEquals(20, stockQuantity(productId));
+        assertEquals(2, listingCount(productId));
+        assertEquals(1, orderCount(productId));
+    }
+
+    /** Service sharing the database but not the recent operations cache, like another application instance */
+    private static ProductService serviceWithoutRecentOperations() {
+        return new ProductService(new ProductDAOImpl(), ProductSearchIndex.getInstance(),
+                TransactionLedger.getInstance(), StockReservations.getInstance(),
+                new ProcessedOperationDAOImpl(), new RecentOperations(RecentOperations.CAPACITY));
+    }
+
+    private static int createProductWithStock(int quantity, int maxStock) {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            session.beginTransaction();
+            Product product = new Product();
+            product.setName("Brake Caliper");
+            product.setDescription("Four piston brake caliper");
+            product.setUniqueAttributes("{\"attributes\":[],\"components\":[]}");
+            product.setCategory(session.getReference(ProductCategory.class, category.getId()));
+            product.setColour("red");
+            product.setCost(100);
+            session.persist(product);
+
+            Stock stock = new Stock();
+            stock.setProduct(product);
+            stock.setQuantity(quantity);
+            stock.setMinStock(1);
+            stock.setMaxStock(maxStock);
+            stock.setReorderPoint(2);
+            session.persist(stock);
+            session.getTransaction().commit();
+            return product.getId();
+        }
+    }
+
+    private static void addLocation(int productId, int quantity, int maxStock) {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            session.beginTransaction();
+            Stock stock = new Stock();
+            stock.setProduct(session.getReference(Product.class, productId));
+            stock.setQuantity(quantity);
+            stock.setMinStock(1);
+            stock.setMaxStock(maxStock);
+            stock.setReorderPoint(2);
+            session.persist(stock);
+            session.getTransaction().commit();
+        }
+    }
+
+    private static int stockQuantity(int productId) {
+        return locationQuantities(productId).stream().mapToInt(Integer::intValue).sum();
+    }
+
+    private static List<Integer> locationQuantities(int productId) {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            return session.createSelectionQuery("select s.quantity from Stock s where s.product.id = :productId order by s.id", Integer.class)
+                    .setParameter("productId", productId)
+                    .getResultList();
+        }
+    }
+
+    private static List<String> ledgerTotals(int productId) {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            return session.createSelectionQuery("select t.transactionType, t.quantity, t.totalPrice from Transaction t "
+                            + "where t.product.id = :productId order by t.transactionType", Object[].class)
+                    .setParameter("productId", productId)
+                    .getResultList()
+                    .stream()
+                    .map(row -> row[0] + ":" + row[1] + ":" + row[2])
+                    .toList();
+        }
+    }
+
+    private static long orderCount(int productId) {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            return session.createSelectionQuery("select count(o) from Order o where o.product.id = :productId", Long.class)
+                    .setParameter("productId", productId)
+                    .getSingleResult();
+        }
+    }
+
+    private static long listingCount(int productId) {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            return session.createSelectionQuery("select count(l) from Listing l where l.product.id = :productId", Long.class)
+                    .setParameter("productId", productId)
+                    .getSingleResult();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.balazsh.inventory.domain.service;
+
+import com.balazsh.inventory.dao.OrderDAOImpl;
+import com.balazsh.inventory.dao.ProductDAOImpl;
+import com.balazsh.inventory.domain.ledger.TransactionLedger;
+import com.balazsh.inventory.domain.model.PendingReorder;
+import com.balazsh.inventory.entity.Product;
+import com.balazsh.inventory.entity.ProductCategory;
+import com.balazsh.inventory.entity.Stock;
+import com.balazsh.inventory.entity.User;
+import com.balazsh.inventory.util.HibernateUtil;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReorderServiceTest {
+
+    private static ProductCategory category;
+    private static int receiverId;
+
+    private final OrderDAOImpl orderDAO = new OrderDAOImpl();
+    private final ReorderService reorderService = new ReorderService(orderDAO, new ProductDAOImpl());
+
+    @BeforeAll
+    static void setUp() {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            session.beginTransaction();
+            category = new ProductCategory();
+            category.setCategoryName("Brakes");
+            session.persist(category);
+
+            User user = new User();
+            user.setUsername("receiver");
+            user.setPassword("password");
+            user.setAccountStatus("approved");
+            session.persist(user);
+            session.getTransaction().commit();
+            receiverId = user.getId();
+        }
+    }
+
+    @Test
+    void receiveReorders_ShouldRefillLocationsOnce_WhenReceivedTwice() {
+        // Given
+        int firstProduct = createProductWithStock(1, 50);
+        int secondProduct = createProductWithStock(2, 40);
+        raiseReorders(List.of(firstProduct, secondProduct));
+        List<PendingReorder> arrived = pendingReorders(List.of(firstProduct, secondProduct));
+
+        // When
+        int received = reorderService.receiveReorders(arrived, receiverId);
+        int receivedAgain = reorderService.receiveReorders(arrived, receiverId);
+
+        // Then
+        assertEquals(2, received);
+        assertEquals(0, receivedAgain);
+        assertEquals(50, stockQuantity(firstProduct));
+        assertEquals(40, stockQuantity(secondProduct));
+        assertTrue(pendingReorders(List.of(firstProduct, secondProduct)).isEmpty());
+        assertTrue(TransactionLedger.getInstance().awaitWritten(5_000));
+        assertEquals(List.of("purchase:49", "purchase:38"), ledgerRows(List.of(firstProduct, secondProduct)));
+    }
+
+    private void raiseReorders(List<Integer> productIds) {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            session.beginTransaction();
+            orderDAO.saveReorders(orderDAO.findReorderCandidates(productIds, session), session);
+            session.getTransaction().commit();
+        }
+    }
+
+    private List<PendingReorder> pendingReorders(List<Integer> productIds) {
+        return reorderService.fetchPendingReorders()
+                .stream()
+                .filter(reorder -> productIds.contains(reorder.productId()))
+                .toList();
+    }
+
+    private static int createProductWithStock(int quantity, int maxStock) {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            session.beginTransaction();
+            Product product = new Product();
+            product.setName("Brake Rotor");
+            product.setDescription("Vented brake rotor");
+            product.setUniqueAttributes("{\"attributes\":[],\"components\":[]}");
+            product.setCategory(session.getReference(ProductCategory.class, category.getId()));
+            product.setColour("grey");
+            product.setCost(100);
+            session.persist(product);
+
+            Stock stock = new Stock();
+            stock.setProduct(product);
+            stock.setQuantity(quantity);
+            stock.setMinStock(1);
+            stock.setMaxStock(maxStock);
+            stock.setReorderPoint(2);
+            session.persist(stock);
+            session.getTransaction().commit();
+            return product.getId();
+        }
+    }
+
+    private static int stockQuantity(int productId) {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            return session.createSelectionQuery("select sum(s.quantity) from Stock s where s.product.id = :productId", Long.class)
+                    .setParameter("productId", productId)
+                    .getSingleResult()
+                    .intValue();
+        }
+    }
+
+    private static List<String> ledgerRows(List<Integer> productIds) {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            return session.createSelectionQuery("select t.transactionType || ':' || t.quantity from Transaction t "
+                            + "where t.product.id in (:productIds) order by t.product.id", String.class)
+                    .setParameterList("productIds", productIds)
+                    .getResultList();
+        }
+    }
+}
@@ -1,10 +1,16 @@
 package com.balazsh.inventory.features.dashboard;
 
+import com.balazsh.inventory.domain.model.BatchLineResult;
 import com.balazsh.inventory.domain.model.ProductEntry;
+import com.balazsh.inventory.domain.model.ProductPurchase;
+import com.balazsh.inventory.domain.model.ProductSale;
 import com.balazsh.inventory.domain.model.UserEntry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class DashboardInteractorTest {
@@ -160,4 +166,60 @@ class DashboardInteractorTest {
         // Then
         assertFalse(result);
     }
+
+    @Test
+    void searchProducts_ShouldMatchNameAndCategory_WhenSearchIndexIsNotBuilt() {
+        // Given
+        ProductEntry product1 = new ProductEntry(1, "image1", "Hydraulic Brake", "Brakes", 5, 10);
+        ProductEntry product2 = new ProductEntry(2, "image2", "Road Bike", "Bikes", 3, 5);
+        ProductEntry product3 = new ProductEntry(3, "image3", "Brake Cable", "Cables", 3, 5);
+
+        dashboardModel.getProductList().addAll(product1, product2, product3);
+        dashboardModel.productSearchTextProperty().set("BRAKE");
+
+        // When
+        dashboardInteractor.searchProducts();
+
+        // Then
+        assertEquals(Set.of(1, 3), dashboardModel.getProductSearchMatches());
+    }
+
+    @Test
+    void searchProducts_ShouldClearMatches_WhenSearchTextIsBlank() {
+        // Given
+        dashboardModel.productSearchMatchesProperty().set(Set.of(1));
+        dashboardModel.productSearchTextProperty().set(" ");
+
+        // When
+        dashboardInteractor.searchProducts();
+
+        // Then
+        assertNull(dashboardModel.getProductSearchMatches());
+    }
+
+    @Test
+    void removeBookedLines_ShouldKeepFailedLinesInBasket_WhenBasketPartiallyFails() {
+        // Given
+        ProductSale bookedSale = new ProductSale(1, 100, 2);
+        ProductSale failedSale = new ProductSale(2, 100, 50);
+        ProductPurchase failedPurchase = new ProductPurchase(3, 500);
+        ProductPurchase bookedPurchase = new ProductPurchase(4, 5);
+        ProductSale addedDuringBooking = new ProductSale(5, 100, 1);
+        List<ProductSale> sales = List.of(bookedSale, failedSale);
+        List<ProductPurchase> purchases = List.of(failedPurchase, bookedPurchase);
+        dashboardModel.getBasketSales().addAll(bookedSale, failedSale, addedDuringBooking);
+        dashboardModel.getBasketPurchases().addAll(failedPurchase, bookedPurchase);
+        List<BatchLineResult> results = List.of(
+                new BatchLineResult("sale", 1, 2, true, "Completed"),
+                new BatchLineResult("sale", 2, 50, false, "Insufficient stock quantity for product id: 2"),
+                new BatchLineResult("purchase", 3, 500, false, "Max stock has been reached for product id: 3"),
+                new BatchLineResult("purchase", 4, 5, true, "Completed"));
+
+        // When
+        dashboardInteractor.removeBookedLines(sales, purchases, results);
+
+        // Then
+        assertEquals(List.of(failedSale, addedDuringBooking), dashboardModel.getBasketSales());
+        assertEquals(List.of(failedPurchase), dashboardModel.getBasketPurchases());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,76 @@
+package com.balazsh.inventory.features.dashboard.diagnostics;
+
+import com.balazsh.inventory.domain.model.DiagnosticsSnapshot;
+import com.balazsh.inventory.domain.model.PoolDiagnostics;
+import com.balazsh.inventory.domain.model.QueryDiagnostics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DiagnosticsInteractorTest {
+
+    private DiagnosticsModel diagnosticsModel;
+    private DiagnosticsInteractor diagnosticsInteractor;
+
+    @BeforeEach
+    void setUp() {
+        diagnosticsModel = new DiagnosticsModel();
+        diagnosticsInteractor = new DiagnosticsInteractor(diagnosticsModel);
+    }
+
+    @Test
+    void populateDiagnostics_ShouldFillQueriesAndSummary_WhenSnapshotIsAvailable() {
+        // Given
+        QueryDiagnostics slowQuery = new QueryDiagnostics("from Product", 10, 250, 12, 40, 80, 95);
+        QueryDiagnostics fastQuery = new QueryDiagnostics("from Role", 3, 3, 1, 1, 1, 1);
+        Map<String, Long> entityLoads = new TreeMap<>(Map.of("Product", 250L, "Role", 0L));
+        diagnosticsModel.snapshotProperty().set(
+                new DiagnosticsSnapshot(Instant.now(), List.of(slowQuery, fastQuery), entityLoads, 5, 13, 7, 2, List.of()));
+
+        // When
+        diagnosticsInteractor.populateDiagnostics();
+
+        // Then
+        assertEquals(List.of(slowQuery, fastQuery), diagnosticsModel.getQueries());
+        assertEquals("Sessions: 5 | Statements: 13 | Cache hits/misses: 7/2 | Entities loaded: 250 (Product 250)",
+                diagnosticsModel.getSummary());
+    }
+
+    @Test
+    void populateDiagnostics_ShouldClearQueries_WhenSnapshotIsNotAvailable() {
+        // Given
+        diagnosticsModel.getQueries().add(new QueryDiagnostics("from Product", 1, 1, 1, 1, 1, 1));
+        diagnosticsModel.snapshotProperty().set(null);
+
+        // When
+        diagnosticsInteractor.populateDiagnostics();
+
+        // Then
+        assertTrue(diagnosticsModel.getQueries().isEmpty());
+        assertFalse(diagnosticsModel.getSummary().isEmpty());
+    }
+
+    @Test
+    void populateDiagnostics_ShouldIncludePoolGauges_WhenPoolsAreReported() {
+        // Given
+        PoolDiagnostics writePool = new PoolDiagnostics("write", 1, 3, 0, 4, 20, 15, 120, 400, 900, 0);
+        PoolDiagnostics readPool = new PoolDiagnostics("read", 12, 0, 5, 12, 80, 30, 25000, 61000, 90000, 1);
+        diagnosticsModel.snapshotProperty().set(
+                new DiagnosticsSnapshot(Instant.now(), List.of(), Map.of(), 2, 4, 0, 0, List.of(writePool, readPool)));
+
+        // When
+        diagnosticsInteractor.populateDiagnostics();
+
+        // Then
+        assertEquals("Sessions: 2 | Statements: 4 | Cache hits/misses: 0/0 | Entities loaded: 0"
+                        + " | write pool: 1/4 active, 0 waiting, p95 wait 120 us"
+                        + " | read pool: 12/12 active, 5 waiting, p95 wait 25000 us",
+                diagnosticsModel.getSummary());
+    }
+}
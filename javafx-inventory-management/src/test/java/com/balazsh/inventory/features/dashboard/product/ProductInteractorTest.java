@@ -1,6 +1,9 @@
 package com.balazsh.inventory.features.dashboard.product;
 
 import com.balazsh.inventory.domain.model.ProductEntry;
+import com.balazsh.inventory.domain.model.ProductPurchase;
+import com.balazsh.inventory.domain.model.ProductSale;
+import com.balazsh.inventory.domain.model.Result;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -270,4 +273,113 @@ class ProductInteractorTest {
         // Then
         assertFalse(result);
     }
+
+    @Test
+    void addSaleToBasket_ShouldQueueSale_WhenFormIsFilled() {
+        // Given
+        ProductEntry product = new ProductEntry(7, "image", "Product7", "Category", 5, 10);
+        productModel.activeProductEntryObjectPropertyProperty().set(product);
+        productModel.priceProperty().set("250");
+        productModel.quantityProperty().set(3);
+
+        // When
+        productInteractor.addSaleToBasket();
+
+        // Then
+        assertEquals(1, productModel.getBasketSales().size());
+        ProductSale sale = productModel.getBasketSales().get(0);
+        assertEquals(7, sale.productId());
+        assertEquals(250, sale.price());
+        assertEquals(3, sale.quantity());
+        assertFalse(productInteractor.isBasketEmpty());
+    }
+
+    @Test
+    void isBasketEmpty_ShouldReturnFalse_WhenOnlyPurchasesAreQueued() {
+        // Given
+        ProductEntry product = new ProductEntry(8, "image", "Product8", "Category", 5, 10);
+        productModel.activeProductEntryObjectPropertyProperty().set(product);
+        productModel.buyQuantityProperty().set("12");
+        assertTrue(productInteractor.isBasketEmpty());
+
+        // When
+        productInteractor.addPurchaseToBasket();
+
+        // Then
+        assertEquals(1, productModel.getBasketPurchases().size());
+        ProductPurchase purchase = productModel.getBasketPurchases().get(0);
+        assertEquals(8, purchase.productId());
+        assertEquals(12, purchase.quantity());
+        assertFalse(productInteractor.isBasketEmpty());
+    }
+
+    @Test
+    void addSaleToBasket_ShouldGiveEachLineItsOwnOperationId_WhenSameSaleIsAddedTwice() {
+        // Given
+        ProductEntry product = new ProductEntry(7, "image", "Product7", "Category", 5, 10);
+        productModel.activeProductEntryObjectPropertyProperty().set(product);
+        productModel.priceProperty().set("250");
+        productModel.quantityProperty().set(1);
+
+        // When
+        productInteractor.addSaleToBasket();
+        productInteractor.addSaleToBasket();
+
+        // Then
+        assertNotEquals(productModel.getBasketSales().get(0).operationId(), productModel.getBasketSales().get(1).operationId());
+    }
+
+    @Test
+    void createProductSale_ShouldKeepOperationId_WhenSameSaleIsRetriedAfterFailure() {
+        // Given
+        ProductEntry product = new ProductEntry(7, "image", "Product7", "Category", 5, 10);
+        productModel.activeProductEntryObjectPropertyProperty().set(product);
+        productModel.priceProperty().set("250");
+        productModel.quantityProperty().set(3);
+        productInteractor.createProductSale();
+        ProductSale firstAttempt = productModel.getProductSaleObjectProperty();
+        productModel.resultObjectPropertyProperty().set(new Result("failed", "Something went wrong"));
+
+        // When
+        productInteractor.createProductSale();
+
+        // Then
+        assertEquals(firstAttempt.operationId(), productModel.getProductSaleObjectProperty().operationId());
+    }
+
+    @Test
+    void createProductSale_ShouldUseNewOperationId_WhenPreviousSaleSucceeded() {
+        // Given
+        ProductEntry product = new ProductEntry(7, "image", "Product7", "Category", 5, 10);
+        productModel.activeProductEntryObjectPropertyProperty().set(product);
+        productModel.priceProperty().set("250");
+        productModel.quantityProperty().set(3);
+        productInteractor.createProductSale();
+        ProductSale firstSale = productModel.getProductSaleObjectProperty();
+        productModel.resultObjectPropertyProperty().set(new Result("success", "Product sale completed"));
+
+        // When
+        productInteractor.createProductSale();
+
+        // Then
+        assertNotEquals(firstSale.operationId(), productModel.getProductSaleObjectProperty().operationId());
+    }
+
+    @Test
+    void createProductPurchase_ShouldUseNewOperationId_WhenQuantityChangedAfterFailure() {
+        // Given
+        ProductEntry product = new ProductEntry(8, "image", "Product8", "Category", 5, 10);
+        productModel.activeProductEntryObjectPropertyProperty().set(product);
+        productModel.buyQuantityProperty().set("12");
+        productInteractor.createProductPurchase();
+        ProductPurchase firstAttempt = productModel.getProductPurchaseObjectProperty();
+        productModel.resultObjectPropertyProperty().set(new Result("failed", "Something went wrong"));
+        productModel.buyQuantityProperty().set("13");
+
+        // When
+        productInteractor.createProductPurchase();
+
+        // Then
+        assertNotEquals(firstAttempt.operationId(), productModel.getProductPurchaseObjectProperty().operationId());
+    }
 }
\ No newline at end of file
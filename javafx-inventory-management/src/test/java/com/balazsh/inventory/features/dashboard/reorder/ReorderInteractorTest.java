@@ -0,0 +1,70 @@
+package com.balazsh.inventory.features.dashboard.reorder;
+
+import com.balazsh.inventory.domain.model.PendingReorder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReorderInteractorTest {
+
+    private ReorderModel reorderModel;
+    private ReorderInteractor reorderInteractor;
+
+    @BeforeEach
+    void setUp() {
+        reorderModel = new ReorderModel();
+        reorderInteractor = new ReorderInteractor(reorderModel);
+    }
+
+    @Test
+    void updateSummary_ShouldReportNoReorders_WhenListIsEmpty() {
+        // Given - empty reorder list by default
+
+        // When
+        reorderInteractor.updateSummary();
+
+        // Then
+        assertEquals("No pending reorders", reorderModel.getSummary());
+    }
+
+    @Test
+    void updateSummary_ShouldTotalUnitsAndCost_WhenReordersArePending() {
+        // Given
+        reorderModel.getPendingReorders().addAll(
+                new PendingReorder(1, 10, "Brake Pad", 100, 20, 5),
+                new PendingReorder(2, 11, "Brake Disc", 101, 3, 40));
+
+        // When
+        reorderInteractor.updateSummary();
+
+        // Then
+        assertEquals("Pending reorders: 2 | Units: 23 | Total cost: 220", reorderModel.getSummary());
+    }
+
+    @Test
+    void hasSelectedReorders_ShouldReturnFalse_WhenNothingIsSelected() {
+        // Given
+        reorderModel.getPendingReorders().add(new PendingReorder(1, 10, "Brake Pad", 100, 20, 5));
+
+        // When
+        boolean result = reorderInteractor.hasSelectedReorders();
+
+        // Then
+        assertFalse(result);
+    }
+
+    @Test
+    void hasSelectedReorders_ShouldReturnTrue_WhenAReorderIsSelected() {
+        // Given
+        PendingReorder reorder = new PendingReorder(1, 10, "Brake Pad", 100, 20, 5);
+        reorderModel.getPendingReorders().add(reorder);
+        reorderModel.getSelectedReorders().add(reorder);
+
+        // When
+        boolean result = reorderInteractor.hasSelectedReorders();
+
+        // Then
+        assertTrue(result);
+    }
+}
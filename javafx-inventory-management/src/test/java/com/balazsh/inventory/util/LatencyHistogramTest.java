@@ -0,0 +1,77 @@
+package com.balazsh.inventory.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    private LatencyHistogram histogram;
+
+    @BeforeEach
+    void setUp() {
+        histogram = new LatencyHistogram();
+    }
+
+    @Test
+    void percentile_ShouldReturnZero_WhenNoSamplesRecorded() {
+        // When
+        long p95 = histogram.percentile(0.95);
+
+        // Then
+        assertEquals(0, p95);
+        assertEquals(0, histogram.count());
+    }
+
+    @Test
+    void percentile_ShouldBeExact_WhenLatenciesAreBelowLinearRange() {
+        // Given
+        for (int millis = 1; millis <= 100; millis++) {
+            histogram.record(millis);
+        }
+
+        // When / Then
+        assertEquals(50, histogram.percentile(0.50));
+        assertEquals(95, histogram.percentile(0.95));
+        assertEquals(99, histogram.percentile(0.99));
+        assertEquals(100, histogram.max());
+        assertEquals(100, histogram.count());
+    }
+
+    @Test
+    void percentile_ShouldStayWithinBucketError_WhenLatenciesAreLarge() {
+        // Given
+        for (int i = 0; i < 99; i++) {
+            histogram.record(10);
+        }
+        histogram.record(5_000);
+
+        // When
+        long p50 = histogram.percentile(0.50);
+        long p100 = histogram.percentile(1.0);
+
+        // Then
+        assertEquals(10, p50);
+        assertEquals(5_000, p100);
+    }
+
+    @Test
+    void percentile_ShouldReturnUpperBoundOfBucket_WhenSampleIsNotTheMaximum() {
+        // Given
+        histogram.record(1_000);
+        histogram.record(100_000);
+
+        // When
+        long p50 = histogram.percentile(0.50);
+
+        // Then
+        assertTrue(p50 >= 1_000 && p50 <= 1_000 * 1.07, "p50 was " + p50);
+    }
+
+    @Test
+    void percentile_ShouldThrow_WhenFractionIsOutOfRange() {
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> histogram.percentile(1.5));
+    }
+}